@@ -148,6 +148,10 @@ public class Bootstrap
                System.setProperty("forge.shell.evaluate", "true");
                i++;
             }
+            else if ("--profile-startup".equals(args[i]))
+            {
+               System.setProperty("forge.shell.profileStartup", "true");
+            }
             else if ("--debug".equals(args[i]) || "-d".equals(args[i]))
             {
                // This is just to avoid the Unknown option: --debug message below
@@ -214,6 +218,9 @@ public class Bootstrap
       sb.append("-d, --debug\n");
       sb.append("\t run Forge in debug mode (wait on port 8000 for a debugger to attach) \n");
 
+      sb.append("--profile-startup\n");
+      sb.append("\t print the shell startup timeline once all addons are started \n");
+
       sb.append("-h, --help\n");
       sb.append("\t display this help and exit \n");
 
@@ -15,7 +15,6 @@ import java.util.Properties;
 import javax.enterprise.inject.Vetoed;
 
 import org.apache.commons.configuration.HierarchicalConfiguration;
-import org.jboss.forge.furnace.util.Iterators;
 
 /**
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
@@ -25,6 +24,20 @@ import org.jboss.forge.furnace.util.Iterators;
 public class ConfigurationAdapter implements Configuration
 {
    private org.apache.commons.configuration.HierarchicalConfiguration delegate;
+   protected ConfigurationSnapshotProvider snapshots;
+
+   public ConfigurationAdapter()
+   {
+   }
+
+   /**
+    * @param snapshots the provider of the snapshots reads are served from, or null to create one on the first read
+    */
+   protected ConfigurationAdapter(HierarchicalConfiguration delegate, ConfigurationSnapshotProvider snapshots)
+   {
+      this.delegate = delegate;
+      this.snapshots = snapshots;
+   }
 
    public HierarchicalConfiguration getDelegate()
    {
@@ -33,10 +46,37 @@ public class ConfigurationAdapter implements Configuration
 
    public Configuration setDelegate(final org.apache.commons.configuration.HierarchicalConfiguration delegate)
    {
-      this.delegate = delegate;
+      synchronized (this)
+      {
+         this.delegate = delegate;
+         this.snapshots = null;
+      }
       return this;
    }
 
+   /**
+    * Reads are served from a snapshot of the delegate, so concurrent readers do not contend for its lock. Changes are
+    * made on the delegate and visible to the next read.
+    */
+   ConfigurationSnapshot getSnapshot()
+   {
+      return getSnapshotProvider().get();
+   }
+
+   synchronized ConfigurationSnapshotProvider getSnapshotProvider()
+   {
+      if (snapshots == null)
+      {
+         snapshots = createSnapshotProvider();
+      }
+      return snapshots;
+   }
+
+   ConfigurationSnapshotProvider createSnapshotProvider()
+   {
+      return new ConfigurationSnapshotProvider(getDelegate());
+   }
+
    /*
     * Configuration methods.
     */
@@ -44,19 +84,19 @@ public class ConfigurationAdapter implements Configuration
    @Override
    public Configuration subset(final String prefix)
    {
-      return new ConfigurationAdapterSubset(getDelegate(), prefix);
+      return new ConfigurationAdapterSubset(getDelegate(), prefix, getSnapshotProvider());
    }
 
    @Override
    public boolean isEmpty()
    {
-      return getDelegate().isEmpty();
+      return getSnapshot().isEmpty();
    }
 
    @Override
    public boolean containsKey(final String key)
    {
-      return getDelegate().containsKey(key);
+      return getSnapshot().containsKey(key);
    }
 
    @Override
@@ -86,211 +126,205 @@ public class ConfigurationAdapter implements Configuration
    @Override
    public Object getProperty(final String key)
    {
-      return getDelegate().getProperty(key);
+      return getSnapshot().getProperty(key);
    }
 
    @Override
    public Iterator<?> getKeys(final String prefix)
    {
-      // FORGE-1971: getDelegate().getKeys(prefix) returns an empty string as the key
-      List<String> list = Iterators.asList(getDelegate().getKeys(prefix));
-      list.remove("");
-      return list.iterator();
+      return getSnapshot().getKeys(prefix);
    }
 
    @Override
    public Iterator<?> getKeys()
    {
-      // FORGE-1971: getDelegate().getKeys() returns an empty string as the key
-      List<String> list = Iterators.asList(getDelegate().getKeys());
-      list.remove("");
-      return list.iterator();
+      return getSnapshot().getKeys();
    }
 
    @Override
    public Properties getProperties(final String key)
    {
-      return getDelegate().getProperties(key);
+      return getSnapshot().getProperties(key);
    }
 
    @Override
    public boolean getBoolean(final String key)
    {
-      return getDelegate().getBoolean(key);
+      return getSnapshot().getBoolean(key);
    }
 
    @Override
    public boolean getBoolean(final String key, final boolean defaultValue)
    {
-      return getDelegate().getBoolean(key, defaultValue);
+      return getSnapshot().getBoolean(key, defaultValue);
    }
 
    @Override
    public Boolean getBoolean(final String key, final Boolean defaultValue)
    {
-      return getDelegate().getBoolean(key, defaultValue);
+      return getSnapshot().getBoolean(key, defaultValue);
    }
 
    @Override
    public byte getByte(final String key)
    {
-      return getDelegate().getByte(key);
+      return getSnapshot().getByte(key);
    }
 
    @Override
    public byte getByte(final String key, final byte defaultValue)
    {
-      return getDelegate().getByte(key, defaultValue);
+      return getSnapshot().getByte(key, defaultValue);
    }
 
    @Override
    public Byte getByte(final String key, final Byte defaultValue)
    {
-      return getDelegate().getByte(key, defaultValue);
+      return getSnapshot().getByte(key, defaultValue);
    }
 
    @Override
    public double getDouble(final String key)
    {
-      return getDelegate().getDouble(key);
+      return getSnapshot().getDouble(key);
    }
 
    @Override
    public double getDouble(final String key, final double defaultValue)
    {
-      return getDelegate().getDouble(key, defaultValue);
+      return getSnapshot().getDouble(key, defaultValue);
    }
 
    @Override
    public Double getDouble(final String key, final Double defaultValue)
    {
-      return getDelegate().getDouble(key, defaultValue);
+      return getSnapshot().getDouble(key, defaultValue);
    }
 
    @Override
    public float getFloat(final String key)
    {
-      return getDelegate().getFloat(key);
+      return getSnapshot().getFloat(key);
    }
 
    @Override
    public float getFloat(final String key, final float defaultValue)
    {
-      return getDelegate().getFloat(key, defaultValue);
+      return getSnapshot().getFloat(key, defaultValue);
    }
 
    @Override
    public Float getFloat(final String key, final Float defaultValue)
    {
-      return getDelegate().getFloat(key, defaultValue);
+      return getSnapshot().getFloat(key, defaultValue);
    }
 
    @Override
    public int getInt(final String key)
    {
-      return getDelegate().getInt(key);
+      return getSnapshot().getInt(key);
    }
 
    @Override
    public int getInt(final String key, final int defaultValue)
    {
-      return getDelegate().getInt(key, defaultValue);
+      return getSnapshot().getInt(key, defaultValue);
    }
 
    @Override
    public Integer getInteger(final String key, final Integer defaultValue)
    {
-      return getDelegate().getInteger(key, defaultValue);
+      return getSnapshot().getInteger(key, defaultValue);
    }
 
    @Override
    public long getLong(final String key)
    {
-      return getDelegate().getLong(key);
+      return getSnapshot().getLong(key);
    }
 
    @Override
    public long getLong(final String key, final long defaultValue)
    {
-      return getDelegate().getLong(key, defaultValue);
+      return getSnapshot().getLong(key, defaultValue);
    }
 
    @Override
    public Long getLong(final String key, final Long defaultValue)
    {
-      return getDelegate().getLong(key, defaultValue);
+      return getSnapshot().getLong(key, defaultValue);
    }
 
    @Override
    public short getShort(final String key)
    {
-      return getDelegate().getShort(key);
+      return getSnapshot().getShort(key);
    }
 
    @Override
    public short getShort(final String key, final short defaultValue)
    {
-      return getDelegate().getShort(key, defaultValue);
+      return getSnapshot().getShort(key, defaultValue);
    }
 
    @Override
    public Short getShort(final String key, final Short defaultValue)
    {
-      return getDelegate().getShort(key, defaultValue);
+      return getSnapshot().getShort(key, defaultValue);
    }
 
    @Override
    public BigDecimal getBigDecimal(final String key)
    {
-      return getDelegate().getBigDecimal(key);
+      return getSnapshot().getBigDecimal(key);
    }
 
    @Override
    public BigDecimal getBigDecimal(final String key, final BigDecimal defaultValue)
    {
-      return getDelegate().getBigDecimal(key, defaultValue);
+      return getSnapshot().getBigDecimal(key, defaultValue);
    }
 
    @Override
    public BigInteger getBigInteger(final String key)
    {
-      return getDelegate().getBigInteger(key);
+      return getSnapshot().getBigInteger(key);
    }
 
    @Override
    public BigInteger getBigInteger(final String key, final BigInteger defaultValue)
    {
-      return getDelegate().getBigInteger(key, defaultValue);
+      return getSnapshot().getBigInteger(key, defaultValue);
    }
 
    @Override
    public String getString(final String key)
    {
-      return getDelegate().getString(key);
+      return getSnapshot().getString(key);
    }
 
    @Override
    public String getString(final String key, final String defaultValue)
    {
-      return getDelegate().getString(key, defaultValue);
+      return getSnapshot().getString(key, defaultValue);
    }
 
    @Override
    public String[] getStringArray(final String key)
    {
-      return getDelegate().getStringArray(key);
+      return getSnapshot().getStringArray(key);
    }
 
    @Override
    public List<?> getList(final String key)
    {
-      return getDelegate().getList(key);
+      return getSnapshot().getList(key);
    }
 
    @Override
    public List<?> getList(final String key, final List<?> defaultValue)
    {
-      return getDelegate().getList(key, defaultValue);
+      return getSnapshot().getList(key, defaultValue);
    }
 
 }
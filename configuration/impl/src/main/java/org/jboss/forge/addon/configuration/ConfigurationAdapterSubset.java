@@ -9,8 +9,6 @@ package org.jboss.forge.addon.configuration;
 import org.apache.commons.configuration.HierarchicalConfiguration;
 
 import javax.enterprise.inject.Vetoed;
-import java.util.Collections;
-import java.util.Iterator;
 
 /**
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
@@ -24,32 +22,60 @@ public class ConfigurationAdapterSubset extends ConfigurationAdapter
 
    public ConfigurationAdapterSubset(HierarchicalConfiguration delegate, String prefix)
    {
+      this(delegate, prefix, null);
+   }
+
+   /**
+    * @param snapshots the provider of snapshots of the given parent configuration, shared with the other subsets
+    */
+   ConfigurationAdapterSubset(HierarchicalConfiguration delegate, String prefix, ConfigurationSnapshotProvider snapshots)
+   {
+      super(subsetOf(delegate, prefix), snapshots);
       this.parent = delegate;
       this.prefix = prefix;
+   }
 
+   private static HierarchicalConfiguration subsetOf(HierarchicalConfiguration delegate, String prefix)
+   {
       synchronized (delegate)
       {
          if (delegate.containsKey(prefix))
-            setDelegate(delegate.configurationAt(prefix, true));
+            return delegate.configurationAt(prefix, true);
          else
-            setDelegate((HierarchicalConfiguration) delegate.subset(prefix));
+            return (HierarchicalConfiguration) delegate.subset(prefix);
       }
    }
 
    @Override
-   public Iterator<?> getKeys()
+   ConfigurationSnapshot getSnapshot()
    {
-      synchronized (parent)
-      {
-         try
-         {
-            return parent.configurationAt(prefix).getKeys();
-         }
-         catch (IllegalArgumentException e)
-         {
-            return Collections.emptyIterator();
-         }
-      }
+      // Subsets of a snapshot are cached, so this is a view of the parent snapshot
+      return getSnapshotProvider().get().subset(prefix);
+   }
+
+   @Override
+   ConfigurationSnapshotProvider createSnapshotProvider()
+   {
+      return new ConfigurationSnapshotProvider(parent);
+   }
+
+   @Override
+   public Configuration subset(String prefix)
+   {
+      return new ConfigurationAdapterSubset(parent, this.prefix + "." + prefix, getSnapshotProvider());
+   }
+
+   @Override
+   public void addProperty(String key, Object value)
+   {
+      // Changes are made through the parent, which notifies its listeners
+      parent.addProperty(prefix + "." + key, value);
+   }
+
+   @Override
+   public void clear()
+   {
+      parent.clearTree(prefix);
    }
 
    @Override
@@ -11,7 +11,6 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import org.apache.commons.configuration.XMLConfiguration;
-import org.apache.commons.configuration.reloading.FileChangedReloadingStrategy;
 import org.jboss.forge.addon.resource.FileResource;
 import org.jboss.forge.furnace.Furnace;
 import org.jboss.forge.furnace.util.OperatingSystemUtils;
@@ -92,8 +91,8 @@ public class ConfigurationFactoryImpl implements ConfigurationFactory
       {
          XMLConfiguration commonsConfig = new XMLConfiguration(file);
          commonsConfig.setEncoding("UTF-8");
-         commonsConfig.setReloadingStrategy(new FileChangedReloadingStrategy());
-         commonsConfig.setAutoSave(true);
+         // Saves changes atomically, once per command (see ConfigurationWriteListener)
+         ConfigurationFileWriter.install(commonsConfig);
          return new ConfigurationAdapter().setDelegate(commonsConfig);
       }
       catch (org.apache.commons.configuration.ConfigurationException e)
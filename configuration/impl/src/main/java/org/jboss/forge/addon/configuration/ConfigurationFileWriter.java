@@ -0,0 +1,216 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.configuration;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.inject.Vetoed;
+
+import org.apache.commons.configuration.AbstractFileConfiguration;
+import org.apache.commons.configuration.XMLConfiguration;
+import org.apache.commons.configuration.event.ConfigurationEvent;
+import org.apache.commons.configuration.event.ConfigurationListener;
+import org.apache.commons.configuration.reloading.FileChangedReloadingStrategy;
+
+/**
+ * Saves an {@link XMLConfiguration} to its file when it changes, replacing the file atomically (the contents are
+ * written to a temporary file which is then renamed).
+ *
+ * While a batch is open on the current thread (see {@link #beginBatch()}), changes made by that thread are only
+ * recorded and all the configurations it changed are saved once when its outermost batch ends, so a command setting
+ * several keys rewrites the file once. Changes made outside of a batch are saved immediately.
+ *
+ * The file is checked for external changes at most every {@link #REFRESH_DELAY} milliseconds, and never while there are
+ * changes not saved yet (which would be lost by reloading).
+ *
+ */
+@Vetoed
+public class ConfigurationFileWriter implements ConfigurationListener
+{
+   /**
+    * The minimum delay in milliseconds between checks for external changes to the configuration file
+    */
+   static final long REFRESH_DELAY = 5000L;
+
+   private static final ThreadLocal<Batch> batch = new ThreadLocal<>();
+
+   /**
+    * The configurations changed in a batch of any thread and not saved yet
+    */
+   private static final Set<ConfigurationFileWriter> pending = Collections
+            .newSetFromMap(new ConcurrentHashMap<ConfigurationFileWriter, Boolean>());
+
+   private final XMLConfiguration config;
+   private final FileChangedReloadingStrategy reloadingStrategy;
+   private volatile boolean dirty;
+
+   private ConfigurationFileWriter(XMLConfiguration config)
+   {
+      this.config = config;
+      this.reloadingStrategy = new FileChangedReloadingStrategy()
+      {
+         @Override
+         public boolean reloadingRequired()
+         {
+            return !dirty && super.reloadingRequired();
+         }
+      };
+      reloadingStrategy.setRefreshDelay(REFRESH_DELAY);
+   }
+
+   /**
+    * Saves the given configuration through a new {@link ConfigurationFileWriter} from now on
+    *
+    * @return the writer listening for changes to the given configuration
+    */
+   public static ConfigurationFileWriter install(XMLConfiguration config)
+   {
+      ConfigurationFileWriter writer = new ConfigurationFileWriter(config);
+      config.setAutoSave(false);
+      config.setReloadingStrategy(writer.reloadingStrategy);
+      config.addConfigurationListener(writer);
+      return writer;
+   }
+
+   /**
+    * Opens a batch on the current thread: changes are saved when the outermost batch is closed with
+    * {@link #endBatch()}
+    */
+   public static void beginBatch()
+   {
+      Batch current = batch.get();
+      if (current == null)
+      {
+         current = new Batch();
+         batch.set(current);
+      }
+      current.depth++;
+   }
+
+   /**
+    * Closes a batch opened with {@link #beginBatch()} on the current thread, saving the configurations changed by this
+    * thread if no other batch is open on it
+    */
+   public static void endBatch()
+   {
+      Batch current = batch.get();
+      if (current != null && --current.depth <= 0)
+      {
+         batch.remove();
+         for (ConfigurationFileWriter writer : current.changed)
+         {
+            pending.remove(writer);
+            writer.flush();
+         }
+      }
+   }
+
+   /**
+    * Saves all the configurations changed in a batch of any thread and not saved yet
+    */
+   public static void flushAll()
+   {
+      for (ConfigurationFileWriter writer : pending)
+      {
+         pending.remove(writer);
+         writer.flush();
+      }
+   }
+
+   @Override
+   public void configurationChanged(ConfigurationEvent event)
+   {
+      if (!event.isBeforeUpdate() && event.getType() != AbstractFileConfiguration.EVENT_RELOAD)
+      {
+         dirty = true;
+         Batch current = batch.get();
+         if (current != null)
+         {
+            current.changed.add(this);
+            pending.add(this);
+         }
+         else
+         {
+            flush();
+         }
+      }
+   }
+
+   /**
+    * Saves the configuration to its file if it has changes not saved yet
+    */
+   public void flush()
+   {
+      synchronized (config.getReloadLock())
+      {
+         if (!dirty)
+         {
+            return;
+         }
+         File file = config.getFile();
+         try
+         {
+            Path target = file.toPath();
+            if (Files.isSymbolicLink(target))
+            {
+               target = target.toRealPath();
+            }
+            Path parent = target.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+            try
+            {
+               try (Writer writer = new OutputStreamWriter(new FileOutputStream(temp.toFile()), StandardCharsets.UTF_8))
+               {
+                  config.save(writer);
+               }
+               try
+               {
+                  Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+               }
+               catch (AtomicMoveNotSupportedException e)
+               {
+                  Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+               }
+            }
+            finally
+            {
+               Files.deleteIfExists(temp);
+            }
+            dirty = false;
+            // The file was changed by this writer, so it does not need to be reloaded
+            reloadingStrategy.reloadingPerformed();
+         }
+         catch (IOException | org.apache.commons.configuration.ConfigurationException e)
+         {
+            throw new ConfigurationException("Error while saving configuration to " + file, e);
+         }
+      }
+   }
+
+   /**
+    * The batches open on a thread
+    */
+   private static class Batch
+   {
+      private int depth;
+      private final Set<ConfigurationFileWriter> changed = new LinkedHashSet<>();
+   }
+}
@@ -0,0 +1,207 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.configuration;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.enterprise.inject.Vetoed;
+
+import org.apache.commons.configuration.AbstractConfiguration;
+import org.apache.commons.configuration.HierarchicalConfiguration;
+
+/**
+ * An immutable copy of the properties of a {@link HierarchicalConfiguration}, read without locking.
+ *
+ * Keys are kept sorted, so the keys starting with a given prefix are a range of the key set: iterating keys and
+ * creating a {@link #subset(String)} view do not copy keys, and subset views are created once per prefix. Typed getters
+ * and interpolation are inherited from {@link AbstractConfiguration}, as for the configuration the snapshot was taken
+ * from.
+ */
+@Vetoed
+class ConfigurationSnapshot extends AbstractConfiguration
+{
+   private final long version;
+   private final HierarchicalConfiguration source;
+   private final ConfigurationSnapshot root;
+   private final String prefix;
+   /**
+    * Never modified once the snapshot is created
+    */
+   private final NavigableMap<String, Object> properties;
+   private final ConcurrentMap<String, ConfigurationSnapshot> subsets = new ConcurrentHashMap<>();
+
+   private ConfigurationSnapshot(long version, HierarchicalConfiguration source, ConfigurationSnapshot root,
+            String prefix, NavigableMap<String, Object> properties)
+   {
+      this.version = version;
+      this.source = source;
+      this.root = root;
+      this.prefix = prefix;
+      this.properties = properties;
+   }
+
+   /**
+    * Copies the properties of the given configuration. Callers must hold the lock guarding changes to it.
+    */
+   static ConfigurationSnapshot of(HierarchicalConfiguration config, long version)
+   {
+      NavigableMap<String, Object> properties = new TreeMap<>();
+      Iterator<String> keys = config.getKeys();
+      while (keys.hasNext())
+      {
+         String key = keys.next();
+         properties.put(key, config.getProperty(key));
+      }
+      return new ConfigurationSnapshot(version, config, null, null, properties);
+   }
+
+   long getVersion()
+   {
+      return root == null ? version : root.version;
+   }
+
+   @Override
+   public ConfigurationSnapshot subset(String prefix)
+   {
+      if (root != null)
+      {
+         return root.subset(this.prefix + "." + prefix);
+      }
+      ConfigurationSnapshot subset = subsets.get(prefix);
+      if (subset == null)
+      {
+         // Keys starting with "prefix." sort between "prefix." and "prefix/"
+         String start = prefix + ".";
+         NavigableMap<String, Object> children = new TreeMap<>();
+         for (Entry<String, Object> entry : properties.subMap(start, true, prefix + "/", false).entrySet())
+         {
+            String key = entry.getKey().substring(start.length());
+            // "prefix..key" is the escaped key of a node named "prefix.key", not a child of "prefix"
+            if (!key.isEmpty() && key.charAt(0) != '.')
+            {
+               children.put(key, entry.getValue());
+            }
+         }
+         subset = new ConfigurationSnapshot(version, source, this, prefix, children);
+         ConfigurationSnapshot existing = subsets.putIfAbsent(prefix, subset);
+         if (existing != null)
+         {
+            subset = existing;
+         }
+      }
+      return subset;
+   }
+
+   @Override
+   public boolean isEmpty()
+   {
+      return properties.isEmpty();
+   }
+
+   @Override
+   public boolean containsKey(String key)
+   {
+      return getProperty(key) != null;
+   }
+
+   @Override
+   public Object getProperty(String key)
+   {
+      Object value = properties.get(key);
+      if (value == null && isExpression(key))
+      {
+         // Indexed and attribute keys (eg. "a(1)" or "a[@b]") are not part of the snapshot
+         value = source.getProperty(prefix == null ? key : prefix + "." + key);
+      }
+      return value;
+   }
+
+   @Override
+   public Iterator<String> getKeys()
+   {
+      // FORGE-1971: the root node may have an empty string as its key. "" sorts first
+      return Collections.unmodifiableSet(properties.tailMap("", false).keySet()).iterator();
+   }
+
+   @Override
+   public Iterator<String> getKeys(String prefix)
+   {
+      Iterator<String> children = Collections.unmodifiableSet(
+               properties.subMap(prefix + ".", true, prefix + "/", false).keySet()).iterator();
+      if (!prefix.isEmpty() && properties.containsKey(prefix))
+      {
+         return new PrefixedIterator(prefix, children);
+      }
+      return children;
+   }
+
+   @Override
+   protected Object interpolate(Object value)
+   {
+      // Like a subnode configuration, subsets resolve variables against the whole configuration
+      return root == null ? super.interpolate(value) : root.interpolate(value);
+   }
+
+   @Override
+   protected void addPropertyDirect(String key, Object value)
+   {
+      throw new UnsupportedOperationException("Configuration snapshots are read-only");
+   }
+
+   @Override
+   protected void clearPropertyDirect(String key)
+   {
+      throw new UnsupportedOperationException("Configuration snapshots are read-only");
+   }
+
+   private static boolean isExpression(String key)
+   {
+      return key.indexOf('(') >= 0 || key.indexOf('[') >= 0;
+   }
+
+   private static class PrefixedIterator implements Iterator<String>
+   {
+      private String first;
+      private final Iterator<String> rest;
+
+      PrefixedIterator(String first, Iterator<String> rest)
+      {
+         this.first = first;
+         this.rest = rest;
+      }
+
+      @Override
+      public boolean hasNext()
+      {
+         return first != null || rest.hasNext();
+      }
+
+      @Override
+      public String next()
+      {
+         if (first != null)
+         {
+            String next = first;
+            first = null;
+            return next;
+         }
+         return rest.next();
+      }
+
+      @Override
+      public void remove()
+      {
+         throw new UnsupportedOperationException();
+      }
+   }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.configuration;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.enterprise.inject.Vetoed;
+
+import org.apache.commons.configuration.AbstractHierarchicalFileConfiguration;
+import org.apache.commons.configuration.FileConfiguration;
+import org.apache.commons.configuration.HierarchicalConfiguration;
+import org.apache.commons.configuration.event.ConfigurationEvent;
+import org.apache.commons.configuration.event.ConfigurationListener;
+
+/**
+ * Provides up to date {@link ConfigurationSnapshot} instances of a {@link HierarchicalConfiguration}.
+ *
+ * A new snapshot is taken on the first read following a change to the configuration (changes are tracked through
+ * {@link ConfigurationEvent}s), so readers share the same snapshot and only take the configuration lock after a change.
+ * File based configurations are checked for external changes at most every
+ * {@link ConfigurationFileWriter#REFRESH_DELAY} milliseconds.
+ */
+@Vetoed
+class ConfigurationSnapshotProvider implements ConfigurationListener
+{
+   private final HierarchicalConfiguration config;
+   private final Object lock;
+   private final AtomicLong version = new AtomicLong();
+   private volatile ConfigurationSnapshot snapshot;
+   private volatile long nextReloadCheck;
+
+   ConfigurationSnapshotProvider(HierarchicalConfiguration config)
+   {
+      this.config = config;
+      if (config instanceof AbstractHierarchicalFileConfiguration)
+      {
+         this.lock = ((AbstractHierarchicalFileConfiguration) config).getReloadLock();
+      }
+      else
+      {
+         this.lock = config;
+      }
+      config.addConfigurationListener(this);
+   }
+
+   /**
+    * @return a snapshot reflecting all the changes made to the configuration so far
+    */
+   ConfigurationSnapshot get()
+   {
+      checkReload();
+      ConfigurationSnapshot current = snapshot;
+      if (current == null || current.getVersion() != version.get())
+      {
+         synchronized (lock)
+         {
+            current = snapshot;
+            long currentVersion = version.get();
+            if (current == null || current.getVersion() != currentVersion)
+            {
+               current = ConfigurationSnapshot.of(config, currentVersion);
+               snapshot = current;
+            }
+         }
+      }
+      return current;
+   }
+
+   @Override
+   public void configurationChanged(ConfigurationEvent event)
+   {
+      if (!event.isBeforeUpdate())
+      {
+         version.incrementAndGet();
+      }
+   }
+
+   private void checkReload()
+   {
+      if (config instanceof FileConfiguration)
+      {
+         long now = System.currentTimeMillis();
+         if (now >= nextReloadCheck)
+         {
+            nextReloadCheck = now + ConfigurationFileWriter.REFRESH_DELAY;
+            // Fires a reload event if the file was changed
+            ((FileConfiguration) config).reload();
+         }
+      }
+   }
+}
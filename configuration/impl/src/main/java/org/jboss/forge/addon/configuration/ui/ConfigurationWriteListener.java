@@ -0,0 +1,48 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.configuration.ui;
+
+import javax.enterprise.event.Observes;
+
+import org.jboss.forge.addon.configuration.ConfigurationFileWriter;
+import org.jboss.forge.addon.ui.command.AbstractCommandExecutionListener;
+import org.jboss.forge.addon.ui.command.UICommand;
+import org.jboss.forge.addon.ui.context.UIExecutionContext;
+import org.jboss.forge.addon.ui.result.Result;
+import org.jboss.forge.furnace.container.cdi.events.Local;
+import org.jboss.forge.furnace.event.PreShutdown;
+
+/**
+ * Batches the configuration changes made by a {@link UICommand}, so each changed configuration file is written once
+ * when the command ends. Changes still pending are saved when Forge shuts down.
+ */
+public class ConfigurationWriteListener extends AbstractCommandExecutionListener
+{
+   @Override
+   public void preCommandExecuted(UICommand command, UIExecutionContext context)
+   {
+      ConfigurationFileWriter.beginBatch();
+   }
+
+   @Override
+   public void postCommandExecuted(UICommand command, UIExecutionContext context, Result result)
+   {
+      ConfigurationFileWriter.endBatch();
+   }
+
+   @Override
+   public void postCommandFailure(UICommand command, UIExecutionContext context, Throwable failure)
+   {
+      ConfigurationFileWriter.endBatch();
+   }
+
+   void shutdown(@Observes @Local PreShutdown event)
+   {
+      ConfigurationFileWriter.flushAll();
+   }
+}
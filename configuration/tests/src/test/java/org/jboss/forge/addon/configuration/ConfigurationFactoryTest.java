@@ -69,4 +69,59 @@ public class ConfigurationFactoryTest
       // Check if the file was written
       Assert.assertTrue(resource.getSize() > 0L);
    }
+
+   @Test
+   public void testConfigurationChangesAreBatched() throws Exception
+   {
+      File file = File.createTempFile("configfactorytest", ".tmp");
+      file.delete();
+      file.deleteOnExit();
+      FileResource<?> resource = resourceFactory.create(file).reify(FileResource.class);
+      Configuration config = configurationFactory.getConfiguration(resource);
+      ConfigurationFileWriter.beginBatch();
+      try
+      {
+         config.setProperty("key", "value");
+         config.setProperty("another-key", "another-value");
+         Assert.assertEquals("value", config.getString("key"));
+         Assert.assertFalse(resource.exists());
+      }
+      finally
+      {
+         ConfigurationFileWriter.endBatch();
+      }
+      Assert.assertTrue(resource.exists());
+      Configuration reloaded = configurationFactory.getConfiguration(resource);
+      Assert.assertEquals("value", reloaded.getString("key"));
+      Assert.assertEquals("another-value", reloaded.getString("another-key"));
+   }
+
+   @Test
+   public void testConfigurationBatchesAreLocalToThread() throws Exception
+   {
+      File file = File.createTempFile("configfactorytest", ".tmp");
+      file.delete();
+      file.deleteOnExit();
+      final FileResource<?> resource = resourceFactory.create(file).reify(FileResource.class);
+      final Configuration config = configurationFactory.getConfiguration(resource);
+      ConfigurationFileWriter.beginBatch();
+      try
+      {
+         Thread thread = new Thread()
+         {
+            @Override
+            public void run()
+            {
+               config.setProperty("key", "value");
+            }
+         };
+         thread.start();
+         thread.join();
+         Assert.assertTrue(resource.exists());
+      }
+      finally
+      {
+         ConfigurationFileWriter.endBatch();
+      }
+   }
 }
\ No newline at end of file
@@ -88,4 +88,31 @@ public class ConfigurationTest
       assertFalse(subsetConfiguration.getKeys().hasNext());
    }
 
+   @Test
+   public void testSubsetConfigurationReadsLatestChanges() throws Exception
+   {
+      subsetConfiguration.clear();
+      Configuration nested = subsetConfiguration.subset("nested");
+      assertTrue(nested.isEmpty());
+      configuration.setProperty("subset.nested.B", "First");
+      assertEquals("First", nested.getString("B"));
+      nested.setProperty("B", "Second");
+      assertEquals("Second", configuration.getString("subset.nested.B"));
+      assertEquals("Second", subsetConfiguration.getString("nested.B"));
+      nested.clearProperty("B");
+      assertFalse(configuration.containsKey("subset.nested.B"));
+      assertTrue(nested.isEmpty());
+   }
+
+   @Test
+   public void testConfigurationKeysWithPrefix() throws Exception
+   {
+      subsetConfiguration.clear();
+      subsetConfiguration.setProperty("A", "Value");
+      subsetConfiguration.setProperty("AB", "Value");
+      Iterator<?> keys = subsetConfiguration.getKeys("A");
+      assertTrue(keys.hasNext());
+      assertEquals("A", keys.next());
+      assertFalse(keys.hasNext());
+   }
 }
\ No newline at end of file
@@ -7,6 +7,9 @@
 
 package org.jboss.forge.addon.convert.impl;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 
 import javax.enterprise.inject.Vetoed;
@@ -27,22 +30,35 @@ import org.jboss.forge.addon.convert.exception.ConversionException;
 @Vetoed
 public class ConstructorConverter<SOURCETYPE, TARGETTYPE> extends AbstractConverter<SOURCETYPE, TARGETTYPE>
 {
-   private final Constructor<TARGETTYPE> constructor;
+   private final MethodHandle handle;
 
    public ConstructorConverter(Class<SOURCETYPE> sourceType, Class<TARGETTYPE> targetType, Constructor<TARGETTYPE> constructor)
    {
       super(sourceType, targetType);
-      this.constructor = constructor;
+      try
+      {
+         this.handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                  .asType(MethodType.methodType(Object.class, Object.class));
+      }
+      catch (IllegalAccessException e)
+      {
+         throw new IllegalArgumentException("Constructor " + constructor + " is not accessible", e);
+      }
    }
 
    @Override
+   @SuppressWarnings("unchecked")
    public TARGETTYPE convert(SOURCETYPE source)
    {
       try
       {
-         return constructor.newInstance(source);
+         return (TARGETTYPE) (Object) handle.invokeExact((Object) source);
+      }
+      catch (Error e)
+      {
+         throw e;
       }
-      catch (Exception e)
+      catch (Throwable e)
       {
          throw new ConversionException("Could not convert [" + source + "] to type [" + getTargetType() + "]", e);
       }
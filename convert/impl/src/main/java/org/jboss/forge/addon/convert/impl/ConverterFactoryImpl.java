@@ -7,8 +7,13 @@
 
 package org.jboss.forge.addon.convert.impl;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -33,6 +38,13 @@ public class ConverterFactoryImpl implements ConverterFactory
 
    private Map<Class<?>, Class<?>> primitiveToWrapperMap = new HashMap<>();
 
+   /**
+    * Marks a (source, target) pair with no available converter
+    */
+   private static final Object NOT_FOUND = new Object();
+
+   private volatile ResolvedConverters converters = new ResolvedConverters(-1);
+
    public ConverterFactoryImpl()
    {
       primitiveToWrapperMap.put(Boolean.TYPE, Boolean.class);
@@ -47,8 +59,40 @@ public class ConverterFactoryImpl implements ConverterFactory
    }
 
    @Override
-   @SuppressWarnings({ "unchecked", "rawtypes" })
+   @SuppressWarnings("unchecked")
    public <S, T> Converter<S, T> getConverter(Class<S> source, Class<T> target)
+   {
+      ResolvedConverters current = converters;
+      long registryVersion = registry.getVersion();
+      if (current.version != registryVersion)
+      {
+         // Threads still working with the previous instance cannot put stale entries in this one
+         current = new ResolvedConverters(registryVersion);
+         converters = current;
+      }
+      ConverterKey key = new ConverterKey(source, target);
+      Object result = current.cache.get(key);
+      if (result == null)
+      {
+         try
+         {
+            result = resolveConverter(source, target);
+         }
+         catch (ConverterNotFoundException e)
+         {
+            result = NOT_FOUND;
+         }
+         current.cache.put(key, result);
+      }
+      if (result == NOT_FOUND)
+      {
+         throw new ConverterNotFoundException(source, target);
+      }
+      return (Converter<S, T>) result;
+   }
+
+   @SuppressWarnings({ "unchecked", "rawtypes" })
+   private <S, T> Converter<S, T> resolveConverter(Class<S> source, Class<T> target)
    {
       Converter<S, T> result = null;
       Imported<ConverterGenerator> instances = registry.getServices(ConverterGenerator.class);
@@ -82,20 +126,33 @@ public class ConverterFactoryImpl implements ConverterFactory
             {
                targetType = primitiveToWrapperMap.get(target);
             }
-            try
+            Method valueOf = findValueOfMethod(source, targetType);
+            if (valueOf != null)
             {
-               result = (Converter<S, T>) new MethodConverter<>(source, targetType, null, targetType.getMethod(
-                        "valueOf", source));
+               try
+               {
+                  result = (Converter<S, T>) new MethodConverter<>(source, targetType, null, valueOf);
+               }
+               catch (IllegalArgumentException e)
+               {
+                  // The method is not accessible, try the constructor
+               }
             }
-            catch (NoSuchMethodException noValueOf)
+            if (result == null)
             {
+               Constructor<?> constructor = findConstructor(source, targetType);
+               if (constructor == null)
+               {
+                  throw new ConverterNotFoundException(source, target);
+               }
                try
                {
-                  result = new ConstructorConverter(source, targetType, targetType.getConstructor(source));
+                  result = new ConstructorConverter(source, targetType, constructor);
                }
-               catch (NoSuchMethodException noConstructor)
+               catch (IllegalArgumentException e)
                {
-                  throw new ConverterNotFoundException(source, target);
+                  throw new ConverterNotFoundException("No accessible converter found from " + source.getName()
+                           + " to " + target.getName(), e);
                }
             }
 
@@ -104,6 +161,39 @@ public class ConverterFactoryImpl implements ConverterFactory
       return result;
    }
 
+   /**
+    * Returns the public static <code>valueOf</code> method of the target type taking exactly the source type, or
+    * <code>null</code> if there is none
+    */
+   private Method findValueOfMethod(Class<?> source, Class<?> targetType)
+   {
+      for (Method method : targetType.getMethods())
+      {
+         if ("valueOf".equals(method.getName()) && Modifier.isStatic(method.getModifiers())
+                  && Arrays.equals(method.getParameterTypes(), new Class<?>[] { source }))
+         {
+            return method;
+         }
+      }
+      return null;
+   }
+
+   /**
+    * Returns the public constructor of the target type taking exactly the source type, or <code>null</code> if there is
+    * none
+    */
+   private Constructor<?> findConstructor(Class<?> source, Class<?> targetType)
+   {
+      for (Constructor<?> constructor : targetType.getConstructors())
+      {
+         if (Arrays.equals(constructor.getParameterTypes(), new Class<?>[] { source }))
+         {
+            return constructor;
+         }
+      }
+      return null;
+   }
+
    /**
     * Check if the parameters are primitive and if they can be assignable
     */
@@ -128,4 +218,47 @@ public class ConverterFactoryImpl implements ConverterFactory
          return primitiveToWrapperMap.get(target) == source;
       }
    }
-}
\ No newline at end of file
+
+   /**
+    * The resolved converters (or {@link #NOT_FOUND}) of an {@link AddonRegistry} version
+    */
+   private static class ResolvedConverters
+   {
+      private final long version;
+      private final Map<ConverterKey, Object> cache = new ConcurrentHashMap<>();
+
+      ResolvedConverters(long version)
+      {
+         this.version = version;
+      }
+   }
+
+   private static class ConverterKey
+   {
+      private final Class<?> source;
+      private final Class<?> target;
+
+      ConverterKey(Class<?> source, Class<?> target)
+      {
+         this.source = source;
+         this.target = target;
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return 31 * source.hashCode() + target.hashCode();
+      }
+
+      @Override
+      public boolean equals(Object obj)
+      {
+         if (this == obj)
+            return true;
+         if (!(obj instanceof ConverterKey))
+            return false;
+         ConverterKey other = (ConverterKey) obj;
+         return source == other.source && target == other.target;
+      }
+   }
+}
@@ -7,6 +7,9 @@
 
 package org.jboss.forge.addon.convert.impl;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 
 import javax.enterprise.inject.Vetoed;
@@ -17,8 +20,7 @@ import org.jboss.forge.addon.convert.exception.ConversionException;
 @Vetoed
 public class MethodConverter<S, T> extends AbstractConverter<S, T>
 {
-   private final Object instance;
-   private final Method method;
+   private final MethodHandle handle;
 
    /**
     * Creates a converter based in a method
@@ -31,8 +33,19 @@ public class MethodConverter<S, T> extends AbstractConverter<S, T>
    public MethodConverter(Class<S> sourceType, Class<T> targetType, Object instance, Method method)
    {
       super(sourceType, targetType);
-      this.instance = instance;
-      this.method = method;
+      try
+      {
+         MethodHandle target = MethodHandles.lookup().unreflect(method);
+         if (instance != null)
+         {
+            target = target.bindTo(instance);
+         }
+         this.handle = target.asType(MethodType.methodType(Object.class, Object.class));
+      }
+      catch (IllegalAccessException e)
+      {
+         throw new IllegalArgumentException("Method " + method + " is not accessible", e);
+      }
    }
 
    @Override
@@ -41,9 +54,13 @@ public class MethodConverter<S, T> extends AbstractConverter<S, T>
    {
       try
       {
-         return (T) method.invoke(instance, source);
+         return (T) (Object) handle.invokeExact((Object) source);
+      }
+      catch (Error e)
+      {
+         throw e;
       }
-      catch (Exception e)
+      catch (Throwable e)
       {
          throw new ConversionException("Could not convert [" + source + "] to type [" + getTargetType() + "]", e);
       }
@@ -78,4 +78,55 @@ public class ConverterFactoryTest
       converterFactory.getConverter(long.class, boolean.class);
    }
 
+   @Test
+   public void testConverterNotFoundIsCached()
+   {
+      for (int i = 0; i < 2; i++)
+      {
+         try
+         {
+            converterFactory.getConverter(long.class, boolean.class);
+            Assert.fail("Should have thrown ConverterNotFoundException");
+         }
+         catch (ConverterNotFoundException expected)
+         {
+            // expected
+         }
+      }
+   }
+
+   @Test
+   public void testConvertersAreCached()
+   {
+      Converter<String, Integer> converter = converterFactory.getConverter(String.class, Integer.class);
+      Assert.assertSame(converter, converterFactory.getConverter(String.class, Integer.class));
+      Assert.assertEquals(Integer.valueOf(42), converter.convert("42"));
+   }
+
+   @Test
+   public void testConstructorConversion()
+   {
+      Converter<String, StringBuilder> converter = converterFactory.getConverter(String.class, StringBuilder.class);
+      Assert.assertEquals("forge", converter.convert("forge").toString());
+   }
+
+   @Test(expected = ConverterNotFoundException.class)
+   public void testInaccessibleTargetType()
+   {
+      converterFactory.getConverter(String.class, InaccessibleType.class);
+   }
+
+   private static class InaccessibleType
+   {
+      public InaccessibleType(String value)
+      {
+      }
+
+      @SuppressWarnings("unused")
+      public static InaccessibleType valueOf(String value)
+      {
+         return new InaccessibleType(value);
+      }
+   }
+
 }
@@ -377,14 +377,13 @@ public class FacesScaffoldProvider implements ScaffoldProvider
 
       // Basic pages
 
-      result.add(ScaffoldUtil.createOrOverwrite(web.getWebResource(targetDir + INDEX_HTML),
-               this.templateProcessor.processTemplate(context, indexWelcomeTemplate)));
+      result.add(this.templateProcessor.processTemplate(context, indexWelcomeTemplate,
+               web.getWebResource(targetDir + INDEX_HTML)));
 
-      result.add(ScaffoldUtil.createOrOverwrite(web.getWebResource(targetDir + INDEX_XHTML),
-               this.templateProcessor.processTemplate(context, indexTemplate)));
+      result.add(this.templateProcessor.processTemplate(context, indexTemplate,
+               web.getWebResource(targetDir + INDEX_XHTML)));
 
-      result.add(ScaffoldUtil.createOrOverwrite(web.getWebResource(ERROR_XHTML),
-               this.templateProcessor.processTemplate(context, errorTemplate)));
+      result.add(this.templateProcessor.processTemplate(context, errorTemplate, web.getWebResource(ERROR_XHTML)));
 
       // Static resources
 
@@ -631,9 +630,8 @@ public class FacesScaffoldProvider implements ScaffoldProvider
 
       try
       {
-         return ScaffoldUtil.createOrOverwrite((FileResource<?>) getTemplateStrategy()
-                  .getDefaultTemplate(),
-                  this.templateProcessor.processTemplate(context, navigationTemplate));
+         return this.templateProcessor.processTemplate(context, navigationTemplate,
+                  (FileResource<?>) getTemplateStrategy().getDefaultTemplate());
       }
       finally
       {
@@ -785,17 +783,15 @@ public class FacesScaffoldProvider implements ScaffoldProvider
          // Generate create
          writeEntityMetawidget(context, this.createTemplateEntityMetawidgetIndent, this.createTemplateNamespaces);
 
-         result.add(ScaffoldUtil.createOrOverwrite(
-                  web.getWebResource(targetDir + "/" + ccEntity + "/create.xhtml"),
-                  this.templateProcessor.processTemplate(context, this.createTemplate)));
+         result.add(this.templateProcessor.processTemplate(context, this.createTemplate,
+                  web.getWebResource(targetDir + "/" + ccEntity + "/create.xhtml")));
 
          // Generate view
          this.entityMetawidget.setReadOnly(true);
          writeEntityMetawidget(context, this.viewTemplateEntityMetawidgetIndent, this.viewTemplateNamespaces);
 
-         result.add(ScaffoldUtil.createOrOverwrite(
-                  web.getWebResource(targetDir + "/" + ccEntity + "/view.xhtml"),
-                  this.templateProcessor.processTemplate(context, this.viewTemplate)));
+         result.add(this.templateProcessor.processTemplate(context, this.viewTemplate,
+                  web.getWebResource(targetDir + "/" + ccEntity + "/view.xhtml")));
 
          // Generate search
          this.searchMetawidget.setValue(StaticFacesUtils.wrapExpression(beanName + ".example"));
@@ -805,9 +801,8 @@ public class FacesScaffoldProvider implements ScaffoldProvider
          writeSearchAndBeanMetawidget(context, this.searchTemplateSearchMetawidgetIndent,
                   this.searchTemplateBeanMetawidgetIndent, this.searchTemplateNamespaces);
 
-         result.add(ScaffoldUtil.createOrOverwrite(
-                  web.getWebResource(targetDir + "/" + ccEntity + "/search.xhtml"),
-                  this.templateProcessor.processTemplate(context, this.searchTemplate)));
+         result.add(this.templateProcessor.processTemplate(context, this.searchTemplate,
+                  web.getWebResource(targetDir + "/" + ccEntity + "/search.xhtml")));
 
          // Generate navigation
          result.add(generateNavigation(targetDir));
@@ -819,9 +814,8 @@ public class FacesScaffoldProvider implements ScaffoldProvider
          result.add(ScaffoldUtil.createOrOverwrite(java.getJavaResource(viewUtils), viewUtils.toString()));
 
          context.put("viewPackage", viewBean.getPackage());
-         result.add(ScaffoldUtil.createOrOverwrite(
-                  web.getWebResource("WEB-INF/classes/META-INF/forge.taglib.xml"),
-                  this.templateProcessor.processTemplate(context, this.taglibTemplate)));
+         result.add(this.templateProcessor.processTemplate(context, this.taglibTemplate,
+                  web.getWebResource("WEB-INF/classes/META-INF/forge.taglib.xml")));
 
          createInitializers(entity);
       }
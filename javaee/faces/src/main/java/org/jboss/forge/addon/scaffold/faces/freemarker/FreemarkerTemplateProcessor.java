@@ -11,6 +11,9 @@ import java.io.StringWriter;
 import java.io.Writer;
 import java.util.Map;
 
+import org.jboss.forge.addon.resource.FileResource;
+import org.jboss.forge.addon.templates.TemplateOutput;
+
 import freemarker.template.DefaultObjectWrapper;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
@@ -103,4 +106,34 @@ public class FreemarkerTemplateProcessor
       return output.toString();
    }
 
+   /**
+    * Processes the provided data model with the specified Freemarker template, streaming the output to the given
+    * {@link FileResource} using UTF-8 encoding. The resource is created if it does not exist and overwritten otherwise,
+    * once the template is fully processed.
+    * 
+    * @param map the data model to use for template processing.
+    * @param template The Freemarker {@link Template} to be processed.
+    * @param output The resource receiving the text output
+    * @return The output resource
+    */
+   public FileResource<?> processTemplate(final Map<Object, Object> map, final Template template,
+            FileResource<?> output)
+   {
+      try
+      {
+         TemplateOutput.write(output, new TemplateOutput.Renderer()
+         {
+            @Override
+            public void render(Writer writer) throws Exception
+            {
+               template.process(map, writer);
+            }
+         });
+      }
+      catch (IOException ioEx)
+      {
+         throw new RuntimeException(ioEx);
+      }
+      return output;
+   }
 }
@@ -11,13 +11,15 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationHandler;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
 import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.resource.ResourceException;
-import org.jboss.forge.roaster.Roaster;
+import org.jboss.forge.addon.scaffold.metawidget.inspector.ForgeInspectionCache;
+import org.jboss.forge.addon.scaffold.metawidget.inspector.ForgeInspectionCache.PropertyInspector;
 import org.jboss.forge.roaster.model.EnumConstant;
 import org.jboss.forge.roaster.model.Field;
 import org.jboss.forge.roaster.model.FieldHolder;
@@ -27,7 +29,6 @@ import org.jboss.forge.roaster.model.Method;
 import org.jboss.forge.roaster.model.MethodHolder;
 import org.jboss.forge.roaster.model.Parameter;
 import org.jboss.forge.roaster.model.Type;
-import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.roaster.model.source.JavaSource;
 import org.metawidget.inspector.iface.InspectorException;
 import org.metawidget.inspector.impl.propertystyle.BaseProperty;
@@ -55,6 +56,11 @@ public class ForgePropertyStyle
 
    private final MessageFormat privateFieldConvention;
 
+   /**
+    * Identifies the properties inspected by this style (and configuration) in a <tt>ForgeInspectionCache</tt>
+    */
+   private final String cacheKey;
+
    //
    // Constructor
    //
@@ -65,6 +71,8 @@ public class ForgePropertyStyle
 
       this.project = config.getProject();
       this.privateFieldConvention = config.getPrivateFieldConvention();
+      this.cacheKey = getClass().getName()
+               + (this.privateFieldConvention == null ? "" : ":" + this.privateFieldConvention.toPattern());
    }
 
    //
@@ -127,15 +135,16 @@ public class ForgePropertyStyle
    {
       try
       {
-         // LinkedHashMap so that returns ordered properties
-
-         Map<String, Property> properties = CollectionUtils.newLinkedHashMap();
-
-         // Lookup properties
-
-         inspectClassProperties(type, properties);
+         // Reuse the properties inspected earlier in the same generation run, if the sources did not change
 
-         return properties;
+         return ForgeInspectionCache.inspectProperties(this.project, this.cacheKey, type, new PropertyInspector()
+         {
+            @Override
+            public void inspect(String inspectedType, Map<String, Property> properties, List<String> inspectedTypes)
+            {
+               inspectClassProperties(inspectedType, properties, inspectedTypes);
+            }
+         });
       }
       catch (Exception e)
       {
@@ -147,10 +156,11 @@ public class ForgePropertyStyle
     * Recursive lookup for properties from superclass in order to support inheritance
     */
    private void inspectClassProperties(final String type,
-            Map<String, Property> properties)
+            Map<String, Property> properties, List<String> inspectedTypes)
    {
 
       JavaSource<?> clazz = sourceForName(this.project, type);
+      inspectedTypes.add(type);
 
       if (clazz instanceof MethodHolder<?>)
       {
@@ -159,11 +169,10 @@ public class ForgePropertyStyle
 
          if (clazz instanceof JavaClass)
          {
-            JavaClassSource source = Roaster.parse(JavaClassSource.class,
-                     clazz.toString());
-            if (!source.getSuperType().equals("java.lang.Object"))
+            String superType = ((JavaClass<?>) clazz).getSuperType();
+            if (!superType.equals("java.lang.Object"))
             {
-               inspectClassProperties(source.getSuperType(), properties);
+               inspectClassProperties(superType, properties, inspectedTypes);
             }
          }
       }
@@ -418,6 +427,11 @@ public class ForgePropertyStyle
 
    static JavaSource<?> sourceForName(final Project project, final String type)
    {
+      ForgeInspectionCache cache = ForgeInspectionCache.get(project);
+      if (cache != null)
+      {
+         return cache.getJavaSource(type);
+      }
       try
       {
          JavaSourceFacet javaSourceFact = project.getFacet(JavaSourceFacet.class);
@@ -19,6 +19,7 @@ import org.jboss.forge.addon.facets.AbstractFacet;
 import org.jboss.forge.addon.facets.Facet;
 import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.projects.ProjectFacet;
+import org.jboss.forge.addon.projects.Projects;
 import org.jboss.forge.addon.projects.dependencies.DependencyInstaller;
 import org.jboss.forge.addon.projects.facets.DependencyFacet;
 import org.jboss.forge.furnace.versions.Version;
@@ -62,6 +63,21 @@ public abstract class AbstractJavaEEFacet extends AbstractFacet<Project> impleme
 
    @Override
    public boolean install()
+   {
+      // The build file is written once for all the required dependencies
+      Projects.beginModelEdit(origin);
+      try
+      {
+         installRequiredDependencies();
+      }
+      finally
+      {
+         Projects.commitModelEdit(origin);
+      }
+      return true;
+   }
+
+   private void installRequiredDependencies()
    {
       DependencyFacet deps = origin.getFacet(DependencyFacet.class);
       for (Entry<Dependency, List<Dependency>> group : getRequiredDependencyOptions().entrySet())
@@ -85,7 +101,6 @@ public abstract class AbstractJavaEEFacet extends AbstractFacet<Project> impleme
             installer.install(origin, group.getKey());
          }
       }
-      return true;
    }
 
    /**
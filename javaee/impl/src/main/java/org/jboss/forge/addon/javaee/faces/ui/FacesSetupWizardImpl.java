@@ -14,6 +14,7 @@ import org.jboss.forge.addon.facets.constraints.FacetConstraint;
 import org.jboss.forge.addon.javaee.faces.FacesFacet;
 import org.jboss.forge.addon.javaee.ui.AbstractJavaEECommand;
 import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.projects.Projects;
 import org.jboss.forge.addon.projects.facets.DependencyFacet;
 import org.jboss.forge.addon.ui.context.UIBuilder;
 import org.jboss.forge.addon.ui.context.UIContext;
@@ -60,9 +61,19 @@ public class FacesSetupWizardImpl extends AbstractJavaEECommand implements Faces
    @Override
    public Result execute(final UIExecutionContext context) throws Exception
    {
-      if (facetFactory.install(getSelectedProject(context.getUIContext()), facesVersion.getValue()))
+      Project project = getSelectedProject(context.getUIContext());
+      // The build file is written once for the facet and the facets it requires
+      Projects.beginModelEdit(project);
+      try
       {
-         return Results.success("JavaServer Faces has been installed.");
+         if (facetFactory.install(project, facesVersion.getValue()))
+         {
+            return Results.success("JavaServer Faces has been installed.");
+         }
+      }
+      finally
+      {
+         Projects.commitModelEdit(project);
       }
       return Results.fail("Could not install JavaServer Faces.");
    }
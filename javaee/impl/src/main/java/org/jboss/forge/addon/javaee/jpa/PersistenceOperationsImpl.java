@@ -26,6 +26,7 @@ import org.jboss.forge.addon.facets.FacetFactory;
 import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
 import org.jboss.forge.addon.parser.java.resources.JavaResource;
 import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.projects.Projects;
 import org.jboss.forge.addon.resource.DirectoryResource;
 import org.jboss.forge.addon.resource.FileResource;
 import org.jboss.forge.roaster.Roaster;
@@ -49,7 +50,6 @@ public class PersistenceOperationsImpl implements PersistenceOperations
    private FacetFactory facetFactory;
 
    @Override
-   @SuppressWarnings({ "rawtypes", "unchecked" })
    public FileResource<?> setup(String unitName, Project project,
             JPADataSource dataSource,
             boolean configureMetadata)
@@ -57,53 +57,70 @@ public class PersistenceOperationsImpl implements PersistenceOperations
       FileResource<?> result = null;
       if (project != null)
       {
-         JPAFacet<PersistenceCommonDescriptor> facet = project.getFacet(JPAFacet.class);
-         PersistenceContainer container = dataSource.getContainer();
-         PersistenceProvider provider = dataSource.getProvider();
-         PersistenceCommonDescriptor config = facet.getConfig();
-         PersistenceUnitCommon unit = null;
-         List<PersistenceUnitCommon> allPersistenceUnit = config.getAllPersistenceUnit();
-         for (PersistenceUnitCommon persistenceUnit : allPersistenceUnit)
-         {
-            if (unitName.equals(persistenceUnit.getName()))
-            {
-               unit = persistenceUnit;
-               break;
-            }
-         }
-         if (unit == null)
+         // The build file is written once for all the dependencies the provider and the container may add
+         Projects.beginModelEdit(project);
+         try
          {
-            unit = config.createPersistenceUnit();
+            result = setupPersistenceUnit(unitName, project, dataSource, configureMetadata);
          }
-         else
+         finally
          {
-            // FORGE-2049: Call all Remove methods until there is a decent way to do this in ShrinkWrap Descriptors
-            unit.removeAllClazz().removeAllJarFile().removeAllMappingFile().removeDescription()
-                     .removeExcludeUnlistedClasses().removeJtaDataSource().removeName().removeNonJtaDataSource()
-                     .removeProperties().removeProvider();
+            Projects.commitModelEdit(project);
          }
-         unit.name(unitName).description(DEFAULT_UNIT_DESC);
+      }
+      return result;
+   }
 
-         if (provider.getProvider() != null)
+   @SuppressWarnings({ "rawtypes", "unchecked" })
+   private FileResource<?> setupPersistenceUnit(String unitName, Project project, JPADataSource dataSource,
+            boolean configureMetadata)
+   {
+      JPAFacet<PersistenceCommonDescriptor> facet = project.getFacet(JPAFacet.class);
+      PersistenceContainer container = dataSource.getContainer();
+      PersistenceProvider provider = dataSource.getProvider();
+      PersistenceCommonDescriptor config = facet.getConfig();
+      PersistenceUnitCommon unit = null;
+      List<PersistenceUnitCommon> allPersistenceUnit = config.getAllPersistenceUnit();
+      for (PersistenceUnitCommon persistenceUnit : allPersistenceUnit)
+      {
+         if (unitName.equals(persistenceUnit.getName()))
          {
-            unit.provider(provider.getProvider());
+            unit = persistenceUnit;
+            break;
          }
+      }
+      if (unit == null)
+      {
+         unit = config.createPersistenceUnit();
+      }
+      else
+      {
+         // FORGE-2049: Call all Remove methods until there is a decent way to do this in ShrinkWrap Descriptors
+         unit.removeAllClazz().removeAllJarFile().removeAllMappingFile().removeDescription()
+                  .removeExcludeUnlistedClasses().removeJtaDataSource().removeName().removeNonJtaDataSource()
+                  .removeProperties().removeProvider();
+      }
+      unit.name(unitName).description(DEFAULT_UNIT_DESC);
+
+      if (provider.getProvider() != null)
+      {
+         unit.provider(provider.getProvider());
+      }
 
-         container.setupConnection(unit, dataSource);
-         provider.configure(unit, dataSource, project);
-         facet.saveConfig(config);
-         result = facet.getConfigFile();
-         if (configureMetadata)
+      container.setupConnection(unit, dataSource);
+      provider.configure(unit, dataSource, project);
+      facet.saveConfig(config);
+      FileResource<?> result = facet.getConfigFile();
+      if (configureMetadata)
+      {
+         Iterable<PersistenceMetaModelFacet> facets = facetFactory.createFacets(project,
+                  PersistenceMetaModelFacet.class);
+         for (PersistenceMetaModelFacet metaModelFacet : facets)
          {
-            Iterable<PersistenceMetaModelFacet> facets = facetFactory.createFacets(project,
-                     PersistenceMetaModelFacet.class);
-            for (PersistenceMetaModelFacet metaModelFacet : facets)
+            metaModelFacet.setMetaModelProvider(provider.getMetaModelProvider());
+            if (facetFactory.install(project, metaModelFacet))
             {
-               metaModelFacet.setMetaModelProvider(provider.getMetaModelProvider());
-               if (facetFactory.install(project, metaModelFacet))
-               {
-                  break;
-               }
+               break;
             }
          }
       }
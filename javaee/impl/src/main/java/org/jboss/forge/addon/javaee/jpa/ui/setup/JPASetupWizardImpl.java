@@ -23,6 +23,7 @@ import org.jboss.forge.addon.javaee.jpa.containers.JBossEAP6Container;
 import org.jboss.forge.addon.javaee.jpa.providers.HibernateProvider;
 import org.jboss.forge.addon.javaee.ui.AbstractJavaEECommand;
 import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.projects.Projects;
 import org.jboss.forge.addon.ui.context.UIBuilder;
 import org.jboss.forge.addon.ui.context.UIContext;
 import org.jboss.forge.addon.ui.context.UIExecutionContext;
@@ -148,10 +149,19 @@ public class JPASetupWizardImpl extends AbstractJavaEECommand implements JPASetu
       applyUIValues(context.getUIContext());
       Project project = getSelectedProject(context);
       JPAFacet<?> facet = jpaVersion.getValue();
-      if (facetFactory.install(project, facet))
+      // The build file is written once for the facet and the facets it requires
+      Projects.beginModelEdit(project);
+      try
       {
-         context.getUIContext().setSelection(facet.getConfigFile());
-         return Results.success();
+         if (facetFactory.install(project, facet))
+         {
+            context.getUIContext().setSelection(facet.getConfigFile());
+            return Results.success();
+         }
+      }
+      finally
+      {
+         Projects.commitModelEdit(project);
       }
       return Results.fail("Could not install JPA.");
    }
@@ -21,6 +21,7 @@ import org.jboss.forge.addon.javaee.rest.ui.RestSetupWizard;
 import org.jboss.forge.addon.javaee.ui.AbstractJavaEECommand;
 import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
 import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.projects.Projects;
 import org.jboss.forge.addon.ui.context.UIBuilder;
 import org.jboss.forge.addon.ui.context.UIContext;
 import org.jboss.forge.addon.ui.context.UIExecutionContext;
@@ -120,22 +121,32 @@ public class RestSetupWizardImpl extends AbstractJavaEECommand implements RestSe
    public Result execute(final UIExecutionContext context) throws Exception
    {
       RestFacet facet = jaxrsVersion.getValue();
-      if (facetFactory.install(getSelectedProject(context), facet))
+      Project project = getSelectedProject(context);
+      // The build file is written once for the facet and the facets it requires
+      Projects.beginModelEdit(project);
+      try
       {
-         String path = applicationPath.getValue();
-         final RestConfigurationStrategy strategy;
-         if (config.getValue() == RestActivatorType.WEB_XML)
-         {
-            strategy = RestConfigurationStrategyFactory.createUsingWebXml(path);
-         }
-         else
+         if (facetFactory.install(project, facet))
          {
-            JavaClassSource javaClass = Roaster.create(JavaClassSource.class).setPackage(targetPackage.getValue())
-                     .setName(className.getValue());
-            strategy = RestConfigurationStrategyFactory.createUsingJavaClass(path, javaClass);
+            String path = applicationPath.getValue();
+            final RestConfigurationStrategy strategy;
+            if (config.getValue() == RestActivatorType.WEB_XML)
+            {
+               strategy = RestConfigurationStrategyFactory.createUsingWebXml(path);
+            }
+            else
+            {
+               JavaClassSource javaClass = Roaster.create(JavaClassSource.class).setPackage(targetPackage.getValue())
+                        .setName(className.getValue());
+               strategy = RestConfigurationStrategyFactory.createUsingJavaClass(path, javaClass);
+            }
+            facet.setConfigurationStrategy(strategy);
+            return Results.success("JAX-RS has been installed.");
          }
-         facet.setConfigurationStrategy(strategy);
-         return Results.success("JAX-RS has been installed.");
+      }
+      finally
+      {
+         Projects.commitModelEdit(project);
       }
       return Results.fail("Could not install JAX-RS.");
    }
@@ -9,6 +9,8 @@ package org.jboss.forge.addon.maven.archetype;
 
 import java.net.URL;
 
+import org.apache.maven.archetype.catalog.Archetype;
+
 /**
  * Allows registration of {@link ArchetypeCatalogFactory} objects
  *
@@ -47,6 +49,13 @@ public interface ArchetypeCatalogFactoryRegistry
      */
     void removeArchetypeCatalogFactory(String name);
 
+    /**
+     * @return the archetypes of the registered {@link ArchetypeCatalogFactory}
+     *         objects whose <code>groupId:artifactId:version</code> coordinate
+     *         starts with the given prefix
+     */
+    Iterable<Archetype> getArchetypes(String coordinatePrefix);
+
     /**
      * Return if there are any {@link ArchetypeCatalogFactory} registered
      */
@@ -12,17 +12,21 @@ import java.util.Map;
 
 import org.apache.maven.model.Model;
 import org.jboss.forge.addon.maven.resources.MavenModelResource;
-import org.jboss.forge.addon.projects.ProvidedProjectFacet;
 import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.projects.ProjectFacet;
+import org.jboss.forge.addon.projects.facets.ModelEditFacet;
 import org.jboss.forge.addon.resource.DirectoryResource;
 
 /**
  * A {@link ProjectFacet} adding support for the Maven build system.
+ * <p>
+ * During a model edit session (see {@link #beginModelEdit()}), {@link #setModel(Model)} keeps the {@link Model} in
+ * memory instead of writing the POM file, and {@link #getModel()} returns a copy of it. The effective model is rebuilt
+ * from the pending changes only when it is read.
  * 
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
  */
-public interface MavenFacet extends ProvidedProjectFacet
+public interface MavenFacet extends ModelEditFacet
 {
    /**
     * Get the {@link MavenModelResource} for this {@link Project}.
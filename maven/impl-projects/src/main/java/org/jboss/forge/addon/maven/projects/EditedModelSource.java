@@ -0,0 +1,34 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.maven.projects;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.jboss.forge.addon.resource.FileResource;
+
+/**
+ * Serves the contents of a POM edited in memory in place of the contents of its {@link FileResource}. Related POMs
+ * are still read from the file system.
+ */
+class EditedModelSource extends FileResourceModelSource
+{
+   private final byte[] contents;
+
+   EditedModelSource(FileResource<?> fileResource, byte[] contents)
+   {
+      super(fileResource);
+      this.contents = contents;
+   }
+
+   @Override
+   public InputStream getInputStream()
+   {
+      return new ByteArrayInputStream(contents);
+   }
+}
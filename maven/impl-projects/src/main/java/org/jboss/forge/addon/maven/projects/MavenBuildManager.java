@@ -7,8 +7,11 @@
 
 package org.jboss.forge.addon.maven.projects;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
@@ -20,6 +23,9 @@ import org.apache.maven.artifact.repository.ArtifactRepository;
 import org.apache.maven.execution.DefaultMavenExecutionRequest;
 import org.apache.maven.execution.MavenExecutionRequest;
 import org.apache.maven.execution.MavenExecutionRequestPopulator;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3Writer;
+import org.apache.maven.project.DefaultProjectBuildingRequest;
 import org.apache.maven.project.ProjectBuilder;
 import org.apache.maven.project.ProjectBuildingException;
 import org.apache.maven.project.ProjectBuildingRequest;
@@ -54,7 +60,16 @@ import org.jboss.forge.furnace.util.Assert;
 public class MavenBuildManager
 {
    // TODO: Replace this with a Cache implementation
-   private Map<MavenModelResource, ProjectBuildingResult> cache = new WeakHashMap<>();
+   private Map<MavenModelResource, ProjectBuildingResult> cache = Collections
+            .synchronizedMap(new WeakHashMap<MavenModelResource, ProjectBuildingResult>());
+
+   /**
+    * Builds running at the same time (eg. the modules of a multi-module project being loaded) share the same request
+    * and repository session
+    */
+   private final Object sharedRequestLock = new Object();
+   private ProjectBuildingRequest sharedRequest;
+   private int runningBuilds;
 
    @Inject
    private PlexusContainer plexus;
@@ -72,10 +87,9 @@ public class MavenBuildManager
       ProjectBuildingResult result = cache.get(pomResource);
       if (result == null)
       {
+         ProjectBuildingRequest request = acquireSharedRequest();
          try
          {
-            ProjectBuildingRequest request = getProjectBuildingRequest();
-            Assert.notNull(request, "Project building request was null");
             request.setResolveDependencies(true);
             boolean inTransaction = !pomResource.getUnderlyingResourceObject().exists();
             // FORGE-1287
@@ -99,6 +113,7 @@ public class MavenBuildManager
          }
          finally
          {
+            releaseSharedRequest();
             if (result != null)
                cache.put(pomResource, result);
          }
@@ -106,6 +121,65 @@ public class MavenBuildManager
       return result;
    }
 
+   /**
+    * Builds the given model, edited in memory, in place of the contents of the given POM. The result is not cached.
+    */
+   ProjectBuildingResult getProjectBuildingResult(MavenModelResource pomResource, Model model)
+            throws ProjectBuildingException
+   {
+      ByteArrayOutputStream contents = new ByteArrayOutputStream();
+      try
+      {
+         new MavenXpp3Writer().write(contents, model);
+      }
+      catch (IOException e)
+      {
+         // Should not happen
+         throw new RuntimeException("Could not write POM model: " + pomResource.getFullyQualifiedName(), e);
+      }
+      ProjectBuildingRequest request = acquireSharedRequest();
+      try
+      {
+         request.setResolveDependencies(true);
+         return getBuilder().build(new EditedModelSource(pomResource, contents.toByteArray()), request);
+      }
+      finally
+      {
+         releaseSharedRequest();
+      }
+   }
+
+   /**
+    * Returns a copy of the request shared by the running builds, creating it if no other build is running. Must be
+    * followed by a call to {@link #releaseSharedRequest()}
+    */
+   private ProjectBuildingRequest acquireSharedRequest()
+   {
+      boolean offline = Network.isOffline(environment);
+      synchronized (sharedRequestLock)
+      {
+         if (sharedRequest == null || sharedRequest.getRepositorySession().isOffline() != offline)
+         {
+            sharedRequest = getProjectBuildingRequest(offline);
+            Assert.notNull(sharedRequest, "Project building request was null");
+         }
+         runningBuilds++;
+         return new DefaultProjectBuildingRequest(sharedRequest);
+      }
+   }
+
+   private void releaseSharedRequest()
+   {
+      synchronized (sharedRequestLock)
+      {
+         if (--runningBuilds == 0)
+         {
+            // Settings changes are picked up by the next build
+            sharedRequest = null;
+         }
+      }
+   }
+
    private void monitorResource(final MavenModelResource pomResource)
    {
       final ResourceMonitor monitor = pomResource.monitor();
@@ -212,7 +286,7 @@ public class MavenBuildManager
       }
    }
 
-   private ProjectBuilder getBuilder()
+   private synchronized ProjectBuilder getBuilder()
    {
       if (builder == null)
          builder = plexus.lookup(ProjectBuilder.class);
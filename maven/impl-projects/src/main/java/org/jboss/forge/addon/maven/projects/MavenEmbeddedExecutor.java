@@ -0,0 +1,751 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.projects;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.apache.maven.Maven;
+import org.apache.maven.cli.MavenCli;
+import org.apache.maven.execution.AbstractExecutionListener;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenExecutionRequestPopulator;
+import org.apache.maven.execution.MavenExecutionResult;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.properties.internal.EnvironmentUtils;
+import org.codehaus.plexus.ContainerConfiguration;
+import org.codehaus.plexus.DefaultContainerConfiguration;
+import org.codehaus.plexus.DefaultPlexusContainer;
+import org.codehaus.plexus.PlexusConstants;
+import org.codehaus.plexus.classworlds.ClassWorld;
+import org.codehaus.plexus.logging.BaseLoggerManager;
+import org.jboss.forge.furnace.container.cdi.events.Local;
+import org.jboss.forge.furnace.event.PreShutdown;
+import org.jboss.forge.furnace.manager.maven.MavenContainer;
+import org.jboss.forge.furnace.util.ClassLoaders;
+import org.jboss.forge.furnace.util.Strings;
+
+/**
+ * Executes embedded Maven builds.
+ *
+ * Builds run in a resident Maven container, created on the first build and kept until shutdown, so plugin class realms,
+ * plugin descriptors and the JIT-compiled code of the plugins are reused by the following builds instead of being
+ * created again for each build. Builds of the same project are serialized.
+ *
+ * The resident container runs one build at a time and supports the usual arguments (goals, <code>-D</code>,
+ * <code>-P</code>, <code>-o</code>, <code>-q</code>, <code>-X</code>, <code>-e</code>, <code>-U</code>,
+ * <code>-N</code>, <code>-B</code>, <code>-f</code> and the <code>-s</code> settings Forge is configured with).
+ * Builds with other arguments, or started while the resident container is busy with another project, run in a new
+ * {@link MavenCli} as before.
+ */
+@Singleton
+public class MavenEmbeddedExecutor
+{
+   private static final String LOCAL_REPOSITORY_PROPERTY = "maven.repo.local";
+
+   @Inject
+   private MavenContainer container;
+
+   /**
+    * The locks of the projects being built, removed when no build of the project is running or waiting
+    */
+   private final Map<String, ProjectLock> projectLocks = new HashMap<>();
+   private final ReentrantLock residentLock = new ReentrantLock();
+   private final BuildLoggerManager loggerManager = new BuildLoggerManager();
+   private DefaultPlexusContainer plexusContainer;
+
+   public MavenEmbeddedExecutor()
+   {
+   }
+
+   MavenEmbeddedExecutor(MavenContainer container)
+   {
+      this.container = container;
+   }
+
+   /**
+    * Executes Maven with the given arguments in the given project directory
+    *
+    * @return <code>true</code> on success or <code>false</code> on failure.
+    */
+   public boolean execute(File directory, List<String> arguments, PrintStream out, PrintStream err)
+   {
+      String key = directory.getAbsolutePath();
+      ProjectLock lock = acquireProjectLock(key);
+      try
+      {
+         synchronized (lock)
+         {
+            BuildArguments buildArguments = BuildArguments.parse(arguments);
+            if (buildArguments != null && residentLock.tryLock())
+            {
+               try
+               {
+                  return executeResident(directory, buildArguments, out);
+               }
+               finally
+               {
+                  residentLock.unlock();
+               }
+            }
+            return executeMavenCli(directory, arguments, out, err);
+         }
+      }
+      finally
+      {
+         releaseProjectLock(key, lock);
+      }
+   }
+
+   /**
+    * Returns the lock of the given project, counting the caller as one of its users. Must be followed by a call to
+    * {@link #releaseProjectLock(String, ProjectLock)}
+    */
+   private ProjectLock acquireProjectLock(String key)
+   {
+      synchronized (projectLocks)
+      {
+         ProjectLock lock = projectLocks.get(key);
+         if (lock == null)
+         {
+            lock = new ProjectLock();
+            projectLocks.put(key, lock);
+         }
+         lock.users++;
+         return lock;
+      }
+   }
+
+   private void releaseProjectLock(String key, ProjectLock lock)
+   {
+      synchronized (projectLocks)
+      {
+         if (--lock.users == 0)
+         {
+            projectLocks.remove(key);
+         }
+      }
+   }
+
+   int getProjectLockCount()
+   {
+      synchronized (projectLocks)
+      {
+         return projectLocks.size();
+      }
+   }
+
+   public void preShutdown(@Observes @Local PreShutdown event)
+   {
+      residentLock.lock();
+      try
+      {
+         if (plexusContainer != null)
+         {
+            plexusContainer.dispose();
+            plexusContainer = null;
+         }
+      }
+      finally
+      {
+         residentLock.unlock();
+      }
+   }
+
+   /**
+    * Runs a build in the resident container. Must be called holding the resident lock.
+    */
+   boolean executeResident(final File directory, final BuildArguments arguments, final PrintStream out)
+   {
+      loggerManager.begin(out, arguments.loggingLevel, arguments.showErrors);
+      try
+      {
+         final DefaultPlexusContainer plexus = getPlexusContainer();
+         return ClassLoaders.executeIn(plexus.getContainerRealm(), new Callable<Boolean>()
+         {
+            @Override
+            public Boolean call() throws Exception
+            {
+               MavenExecutionRequest request = createRequest(plexus, directory, arguments);
+               MavenExecutionResult result = plexus.lookup(Maven.class).execute(request);
+               if (result.hasExceptions())
+               {
+                  for (Throwable t : result.getExceptions())
+                  {
+                     loggerManager.log(MavenExecutionRequest.LOGGING_LEVEL_ERROR, t.getMessage(), t);
+                  }
+                  return false;
+               }
+               return true;
+            }
+         });
+      }
+      catch (Exception e)
+      {
+         loggerManager.log(MavenExecutionRequest.LOGGING_LEVEL_ERROR, "Error while running the build: " + e, e);
+         return false;
+      }
+      finally
+      {
+         loggerManager.end();
+      }
+   }
+
+   private MavenExecutionRequest createRequest(DefaultPlexusContainer plexus, File directory,
+            BuildArguments arguments) throws Exception
+   {
+      MavenExecutionRequest request = new DefaultMavenExecutionRequest();
+      MavenExecutionRequestPopulator populator = plexus.lookup(MavenExecutionRequestPopulator.class);
+      populator.populateFromSettings(request, container.getSettings());
+      String localRepository = arguments.userProperties.getProperty(LOCAL_REPOSITORY_PROPERTY);
+      if (localRepository != null)
+      {
+         // Applied by the Maven command line, not by the request populator
+         File localRepositoryPath = new File(localRepository);
+         request.setLocalRepositoryPath(localRepositoryPath.isAbsolute() ? localRepositoryPath : new File(directory,
+                  localRepository));
+      }
+
+      Properties systemProperties = new Properties();
+      EnvironmentUtils.addEnvVars(systemProperties);
+      systemProperties.putAll(System.getProperties());
+      systemProperties.putAll(arguments.userProperties);
+      request.setSystemProperties(systemProperties);
+      request.setUserProperties(arguments.userProperties);
+
+      request.setStartTime(new Date());
+      request.setBaseDirectory(directory);
+      File pom = new File(arguments.pom == null ? "pom.xml" : arguments.pom);
+      request.setPom(pom.isAbsolute() ? pom : new File(directory, pom.getPath()));
+      request.setProjectPresent(true);
+      request.setGoals(arguments.goals);
+      request.setInteractiveMode(false);
+      if (arguments.offline)
+      {
+         request.setOffline(true);
+      }
+      request.setShowErrors(arguments.showErrors);
+      request.setLoggingLevel(arguments.loggingLevel);
+      request.setUpdateSnapshots(arguments.updateSnapshots);
+      request.setRecursive(arguments.recursive);
+      request.addActiveProfiles(arguments.activeProfiles);
+      request.addInactiveProfiles(arguments.inactiveProfiles);
+      request.setExecutionListener(new BuildEventLogger(loggerManager));
+      return populator.populateDefaults(request);
+   }
+
+   DefaultPlexusContainer getPlexusContainer() throws Exception
+   {
+      if (plexusContainer == null)
+      {
+         final ClassLoader classLoader = getClass().getClassLoader();
+         plexusContainer = ClassLoaders.executeIn(classLoader, new Callable<DefaultPlexusContainer>()
+         {
+            @Override
+            public DefaultPlexusContainer call() throws Exception
+            {
+               ContainerConfiguration config = new DefaultContainerConfiguration()
+                        .setClassWorld(new ClassWorld("plexus.core", classLoader))
+                        .setName("maven")
+                        .setAutoWiring(true)
+                        .setClassPathScanning(PlexusConstants.SCANNING_INDEX);
+               DefaultPlexusContainer result = new DefaultPlexusContainer(config);
+               result.setLookupRealm(null);
+               result.setLoggerManager(loggerManager);
+               return result;
+            }
+         });
+      }
+      return plexusContainer;
+   }
+
+   /**
+    * The embedded maven CLI uses the java logging API to output the log. <br/>
+    * Since we never write the log to the console, we need register a logging handler.
+    */
+   private boolean executeMavenCli(File directory, List<String> arguments, PrintStream out, PrintStream err)
+   {
+      List<String> list = new ArrayList<>();
+      // FORGE-1912: Maven settings are not being set in embedded maven
+      if (System.getProperty(MavenContainer.ALT_USER_SETTINGS_XML_LOCATION) != null)
+      {
+         list.add("-s");
+         list.add(System.getProperty(MavenContainer.ALT_USER_SETTINGS_XML_LOCATION));
+      }
+      else if (System.getProperty(MavenContainer.ALT_GLOBAL_SETTINGS_XML_LOCATION) != null)
+      {
+         list.add("-s");
+         list.add(System.getProperty(MavenContainer.ALT_GLOBAL_SETTINGS_XML_LOCATION));
+      }
+      list.addAll(arguments);
+      // Have we asked for quiet mode?
+      final boolean quiet = list.contains("-q") || list.contains("--quiet");
+      final String[] params = list.toArray(new String[list.size()]);
+      // Get root logger. Yes, it is an empty logger, Logger.getGlobal() doesn't work here
+      final Logger globalLogger = Logger.getLogger(Strings.EMPTY);
+      final Handler outHandler = new UncloseableStreamHandler(out, quiet);
+      try
+      {
+         globalLogger.addHandler(outHandler);
+         int returnCode = new MavenCli().doMain(params, directory.getAbsolutePath(), out, err);
+         return returnCode == 0;
+      }
+      finally
+      {
+         globalLogger.removeHandler(outHandler);
+      }
+   }
+
+   /**
+    * The arguments of a build run by the resident container
+    */
+   static class BuildArguments
+   {
+      final List<String> goals = new ArrayList<>();
+      final Properties userProperties = new Properties();
+      final List<String> activeProfiles = new ArrayList<>();
+      final List<String> inactiveProfiles = new ArrayList<>();
+      int loggingLevel = MavenExecutionRequest.LOGGING_LEVEL_INFO;
+      boolean showErrors;
+      boolean offline;
+      boolean updateSnapshots;
+      boolean recursive = true;
+      String pom;
+
+      /**
+       * @return the parsed arguments, or <code>null</code> if they contain options not supported by the resident
+       *         container
+       */
+      static BuildArguments parse(List<String> arguments)
+      {
+         BuildArguments result = new BuildArguments();
+         for (int i = 0; i < arguments.size(); i++)
+         {
+            String argument = arguments.get(i);
+            if (!argument.startsWith("-"))
+            {
+               result.goals.add(argument);
+            }
+            else if (argument.startsWith("-D"))
+            {
+               String property = argument.length() > 2 ? argument.substring(2) : next(arguments, ++i);
+               if (property == null)
+               {
+                  return null;
+               }
+               int separator = property.indexOf('=');
+               if (separator < 0)
+               {
+                  result.userProperties.setProperty(property, "true");
+               }
+               else
+               {
+                  result.userProperties.setProperty(property.substring(0, separator),
+                           property.substring(separator + 1));
+               }
+            }
+            else if (argument.startsWith("-P"))
+            {
+               String profiles = argument.length() > 2 ? argument.substring(2) : next(arguments, ++i);
+               if (profiles == null)
+               {
+                  return null;
+               }
+               for (String profile : profiles.split(","))
+               {
+                  profile = profile.trim();
+                  if (profile.startsWith("!") || profile.startsWith("-"))
+                  {
+                     result.inactiveProfiles.add(profile.substring(1));
+                  }
+                  else if (profile.startsWith("+"))
+                  {
+                     result.activeProfiles.add(profile.substring(1));
+                  }
+                  else if (!profile.isEmpty())
+                  {
+                     result.activeProfiles.add(profile);
+                  }
+               }
+            }
+            else
+            {
+               switch (argument)
+               {
+               case "-o":
+               case "--offline":
+                  result.offline = true;
+                  break;
+               case "-q":
+               case "--quiet":
+                  result.loggingLevel = MavenExecutionRequest.LOGGING_LEVEL_ERROR;
+                  break;
+               case "-X":
+               case "--debug":
+                  result.loggingLevel = MavenExecutionRequest.LOGGING_LEVEL_DEBUG;
+                  result.showErrors = true;
+                  break;
+               case "-e":
+               case "--errors":
+                  result.showErrors = true;
+                  break;
+               case "-U":
+               case "--update-snapshots":
+                  result.updateSnapshots = true;
+                  break;
+               case "-N":
+               case "--non-recursive":
+                  result.recursive = false;
+                  break;
+               case "-B":
+               case "--batch-mode":
+                  // Builds are never interactive
+                  break;
+               case "-s":
+               case "--settings":
+                  // Only the settings the resident container is configured with (see FORGE-1912)
+                  String settings = next(arguments, ++i);
+                  if (settings == null
+                           || !(settings.equals(System.getProperty(MavenContainer.ALT_USER_SETTINGS_XML_LOCATION))
+                           || settings.equals(System.getProperty(MavenContainer.ALT_GLOBAL_SETTINGS_XML_LOCATION))))
+                  {
+                     return null;
+                  }
+                  break;
+               case "-f":
+               case "--file":
+                  result.pom = next(arguments, ++i);
+                  if (result.pom == null)
+                  {
+                     return null;
+                  }
+                  break;
+               default:
+                  return null;
+               }
+            }
+         }
+         return result;
+      }
+
+      private static String next(List<String> arguments, int index)
+      {
+         return index < arguments.size() ? arguments.get(index) : null;
+      }
+   }
+
+   /**
+    * Serializes the builds of a project
+    */
+   private static class ProjectLock
+   {
+      /**
+       * The number of threads running or waiting to run a build of the project
+       */
+      private int users;
+   }
+
+   /**
+    * Creates loggers writing to the output of the running build. Maven logging levels have the values of the Plexus
+    * logger levels.
+    */
+   private static class BuildLoggerManager extends BaseLoggerManager
+   {
+      private static final String[] LEVELS = { "DEBUG", "INFO", "WARNING", "ERROR", "ERROR" };
+
+      private volatile PrintStream out;
+      private volatile int threshold = MavenExecutionRequest.LOGGING_LEVEL_INFO;
+      private volatile boolean showErrors;
+
+      void begin(PrintStream out, int threshold, boolean showErrors)
+      {
+         this.out = out;
+         this.threshold = threshold;
+         this.showErrors = showErrors;
+      }
+
+      void end()
+      {
+         this.out = null;
+      }
+
+      boolean isEnabled(int level)
+      {
+         return out != null && level >= threshold;
+      }
+
+      void log(int level, String message, Throwable t)
+      {
+         PrintStream stream = out;
+         if (stream != null && level >= threshold)
+         {
+            stream.printf("[%s] %s%n", LEVELS[Math.min(level, LEVELS.length - 1)], message);
+            if (t != null && showErrors)
+            {
+               t.printStackTrace(stream);
+            }
+         }
+      }
+
+      @Override
+      protected org.codehaus.plexus.logging.Logger createLogger(String key)
+      {
+         return new BuildLogger(this, key);
+      }
+   }
+
+   private static class BuildLogger implements org.codehaus.plexus.logging.Logger
+   {
+      private final BuildLoggerManager manager;
+      private final String name;
+
+      BuildLogger(BuildLoggerManager manager, String name)
+      {
+         this.manager = manager;
+         this.name = name;
+      }
+
+      @Override
+      public void debug(String message)
+      {
+         manager.log(LEVEL_DEBUG, message, null);
+      }
+
+      @Override
+      public void debug(String message, Throwable throwable)
+      {
+         manager.log(LEVEL_DEBUG, message, throwable);
+      }
+
+      @Override
+      public boolean isDebugEnabled()
+      {
+         return manager.isEnabled(LEVEL_DEBUG);
+      }
+
+      @Override
+      public void info(String message)
+      {
+         manager.log(LEVEL_INFO, message, null);
+      }
+
+      @Override
+      public void info(String message, Throwable throwable)
+      {
+         manager.log(LEVEL_INFO, message, throwable);
+      }
+
+      @Override
+      public boolean isInfoEnabled()
+      {
+         return manager.isEnabled(LEVEL_INFO);
+      }
+
+      @Override
+      public void warn(String message)
+      {
+         manager.log(LEVEL_WARN, message, null);
+      }
+
+      @Override
+      public void warn(String message, Throwable throwable)
+      {
+         manager.log(LEVEL_WARN, message, throwable);
+      }
+
+      @Override
+      public boolean isWarnEnabled()
+      {
+         return manager.isEnabled(LEVEL_WARN);
+      }
+
+      @Override
+      public void error(String message)
+      {
+         manager.log(LEVEL_ERROR, message, null);
+      }
+
+      @Override
+      public void error(String message, Throwable throwable)
+      {
+         manager.log(LEVEL_ERROR, message, throwable);
+      }
+
+      @Override
+      public boolean isErrorEnabled()
+      {
+         return manager.isEnabled(LEVEL_ERROR);
+      }
+
+      @Override
+      public void fatalError(String message)
+      {
+         manager.log(LEVEL_FATAL, message, null);
+      }
+
+      @Override
+      public void fatalError(String message, Throwable throwable)
+      {
+         manager.log(LEVEL_FATAL, message, throwable);
+      }
+
+      @Override
+      public boolean isFatalErrorEnabled()
+      {
+         return manager.isEnabled(LEVEL_FATAL);
+      }
+
+      @Override
+      public int getThreshold()
+      {
+         return manager.threshold;
+      }
+
+      @Override
+      public void setThreshold(int threshold)
+      {
+         // The threshold is set per build
+      }
+
+      @Override
+      public org.codehaus.plexus.logging.Logger getChildLogger(String name)
+      {
+         return new BuildLogger(manager, this.name + "." + name);
+      }
+
+      @Override
+      public String getName()
+      {
+         return name;
+      }
+   }
+
+   /**
+    * Logs the progress of a build, like the Maven command line does
+    */
+   private static class BuildEventLogger extends AbstractExecutionListener
+   {
+      private static final String LINE = "------------------------------------------------------------------------";
+
+      private final BuildLoggerManager log;
+      private final long start = System.currentTimeMillis();
+
+      BuildEventLogger(BuildLoggerManager log)
+      {
+         this.log = log;
+      }
+
+      @Override
+      public void projectStarted(ExecutionEvent event)
+      {
+         MavenProject project = event.getProject();
+         info(LINE);
+         info("Building " + project.getName() + " " + project.getVersion());
+         info(LINE);
+      }
+
+      @Override
+      public void mojoStarted(ExecutionEvent event)
+      {
+         MojoExecution execution = event.getMojoExecution();
+         info("");
+         info("--- " + execution.getArtifactId() + ":" + execution.getVersion() + ":" + execution.getGoal() + " ("
+                  + execution.getExecutionId() + ") @ " + event.getProject().getArtifactId() + " ---");
+      }
+
+      @Override
+      public void sessionEnded(ExecutionEvent event)
+      {
+         info(LINE);
+         info(event.getSession().getResult().hasExceptions() ? "BUILD FAILURE" : "BUILD SUCCESS");
+         info(LINE);
+         info("Total time: " + (System.currentTimeMillis() - start) / 1000.0 + " s");
+         info(LINE);
+      }
+
+      private void info(String message)
+      {
+         log.log(MavenExecutionRequest.LOGGING_LEVEL_INFO, message, null);
+      }
+   }
+
+   /**
+    * A {@link Handler} implementation that writes to a {@link PrintStream}
+    *
+    * Used in {@link MavenEmbeddedExecutor#executeMavenCli(File, List, PrintStream, PrintStream)}
+    */
+   private static class UncloseableStreamHandler extends Handler
+   {
+      private final PrintStream out;
+      private final boolean quiet;
+
+      public UncloseableStreamHandler(PrintStream out, boolean quiet)
+      {
+         super();
+         this.out = out;
+         this.quiet = quiet;
+      }
+
+      @Override
+      public void publish(LogRecord record)
+      {
+         // Write only if quiet is false
+         if (!quiet && isLoggable(record))
+         {
+            out.printf("[%s] %s%n", record.getLevel(), record.getMessage());
+         }
+      }
+
+      @Override
+      public boolean isLoggable(LogRecord record)
+      {
+         if (super.isLoggable(record))
+         {
+            switch (record.getMessage())
+            {
+            // Avoid unwanted warning messages
+            case "setRootLoggerLevel: operation not supported":
+            case "reset(): operation not supported":
+               break;
+            default:
+               return true;
+            }
+         }
+         return false;
+      }
+
+      @Override
+      public void flush()
+      {
+         out.flush();
+      }
+
+      @Override
+      public void close()
+      {
+         // Never close
+      }
+   }
+}
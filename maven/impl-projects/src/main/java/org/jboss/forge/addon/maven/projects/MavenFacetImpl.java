@@ -7,6 +7,7 @@
 package org.jboss.forge.addon.maven.projects;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
@@ -17,16 +18,11 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Properties;
-import java.util.logging.Handler;
 import java.util.logging.Level;
-import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
 import javax.inject.Inject;
 
-import org.apache.maven.cli.MavenCli;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.building.ModelProblem;
 import org.apache.maven.model.building.ModelProblem.Severity;
@@ -36,6 +32,7 @@ import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.project.ProjectBuildingResult;
 import org.jboss.forge.addon.facets.AbstractFacet;
 import org.jboss.forge.addon.maven.projects.util.NativeSystemCall;
+import org.jboss.forge.addon.maven.projects.util.PropertyInterpolator;
 import org.jboss.forge.addon.maven.resources.MavenModelResource;
 import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.projects.ProjectFacet;
@@ -43,7 +40,6 @@ import org.jboss.forge.addon.resource.DirectoryResource;
 import org.jboss.forge.addon.resource.ResourceFactory;
 import org.jboss.forge.furnace.manager.maven.MavenContainer;
 import org.jboss.forge.furnace.util.OperatingSystemUtils;
-import org.jboss.forge.furnace.util.Strings;
 
 /**
  * Implementation of {@link MavenFacet}
@@ -61,6 +57,29 @@ public class MavenFacetImpl extends AbstractFacet<Project> implements ProjectFac
    @Inject
    private MavenBuildManager buildManager;
 
+   @Inject
+   private MavenEmbeddedExecutor executor;
+
+   /**
+    * The number of open model edit sessions
+    */
+   private int editSessions;
+   /**
+    * The model read or set during the current edit session
+    */
+   private Model editedModel;
+   private boolean editedModelChanged;
+   /**
+    * The effective model of {@link #editedModel}, built on the first read after each change
+    */
+   private ProjectBuildingResult editedModelResult;
+
+   /**
+    * Resolves the properties of {@link #interpolatorResult}
+    */
+   private PropertyInterpolator interpolator;
+   private ProjectBuildingResult interpolatorResult;
+
    public ProjectBuildingRequest getRequest()
    {
       return buildManager.getProjectBuildingRequest();
@@ -121,13 +140,62 @@ public class MavenFacetImpl extends AbstractFacet<Project> implements ProjectFac
    }
 
    @Override
-   public Model getModel()
+   public synchronized Model getModel()
    {
+      if (editSessions > 0)
+      {
+         if (editedModel == null)
+         {
+            editedModel = getModelResource().getCurrentModel();
+         }
+         // Callers may change the returned model without setting it
+         return editedModel.clone();
+      }
       return getModelResource().getCurrentModel();
    }
 
    @Override
-   public void setModel(final Model pom)
+   public synchronized void setModel(final Model pom)
+   {
+      if (editSessions > 0)
+      {
+         editedModel = pom;
+         editedModelChanged = true;
+         editedModelResult = null;
+      }
+      else
+      {
+         writeModel(pom);
+      }
+   }
+
+   @Override
+   public synchronized void beginModelEdit()
+   {
+      editSessions++;
+   }
+
+   @Override
+   public synchronized void commitModelEdit()
+   {
+      if (editSessions > 0 && --editSessions == 0)
+      {
+         writeEditedModel();
+         editedModel = null;
+         editedModelResult = null;
+      }
+   }
+
+   private void writeEditedModel()
+   {
+      if (editedModelChanged)
+      {
+         editedModelChanged = false;
+         writeModel(editedModel);
+      }
+   }
+
+   private void writeModel(final Model pom)
    {
       MavenXpp3Writer writer = new MavenXpp3Writer();
       ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
@@ -152,9 +220,32 @@ public class MavenFacetImpl extends AbstractFacet<Project> implements ProjectFac
     */
    public synchronized ProjectBuildingResult getProjectBuildingResult() throws ProjectBuildingException
    {
+      if (editedModelChanged)
+      {
+         // The POM file is written when the edit session is committed
+         if (editedModelResult == null)
+         {
+            editedModelResult = buildManager.getProjectBuildingResult(getModelResource(), editedModel);
+         }
+         return editedModelResult;
+      }
       return buildManager.getProjectBuildingResult(getModelResource());
    }
 
+   /**
+    * Returns the {@link PropertyInterpolator} of the current {@link ProjectBuildingResult}, created once per result
+    */
+   private synchronized PropertyInterpolator getInterpolator() throws ProjectBuildingException
+   {
+      ProjectBuildingResult result = getProjectBuildingResult();
+      if (interpolator == null || interpolatorResult != result)
+      {
+         interpolator = new PropertyInterpolator(result.getProject().getProperties());
+         interpolatorResult = result;
+      }
+      return interpolator;
+   }
+
    @Override
    public Map<String, String> getProperties()
    {
@@ -162,11 +253,7 @@ public class MavenFacetImpl extends AbstractFacet<Project> implements ProjectFac
 
       try
       {
-         Properties properties = getProjectBuildingResult().getProject().getProperties();
-         for (Entry<Object, Object> o : properties.entrySet())
-         {
-            result.put((String) o.getKey(), (String) o.getValue());
-         }
+         result.putAll(getInterpolator().getProperties());
       }
       catch (Exception e)
       {
@@ -184,16 +271,9 @@ public class MavenFacetImpl extends AbstractFacet<Project> implements ProjectFac
       String result = input;
       try
       {
-         if (input != null)
+         if (input != null && input.contains("${"))
          {
-            Properties properties = getProjectBuildingResult().getProject().getProperties();
-
-            for (Entry<Object, Object> e : properties.entrySet())
-            {
-               String key = "\\$\\{" + e.getKey().toString() + "\\}";
-               Object value = e.getValue();
-               result = result.replaceAll(key, value.toString());
-            }
+            result = getInterpolator().interpolate(input);
          }
       }
       catch (Exception e)
@@ -227,48 +307,11 @@ public class MavenFacetImpl extends AbstractFacet<Project> implements ProjectFac
    public boolean executeMavenEmbedded(final PrintStream out, final PrintStream err, String[] arguments)
    {
       List<String> list = new ArrayList<>();
-      // FORGE-1912: Maven settings are not being set in embedded maven
-      if (System.getProperty(MavenContainer.ALT_USER_SETTINGS_XML_LOCATION) != null)
-      {
-         list.add("-s");
-         list.add(System.getProperty(MavenContainer.ALT_USER_SETTINGS_XML_LOCATION));
-      }
-      else if (System.getProperty(MavenContainer.ALT_GLOBAL_SETTINGS_XML_LOCATION) != null)
-      {
-         list.add("-s");
-         list.add(System.getProperty(MavenContainer.ALT_GLOBAL_SETTINGS_XML_LOCATION));
-      }
       if (arguments != null)
       {
          list.addAll(Arrays.asList(arguments));
       }
-      return doExecuteMavenEmbedded(out, err, list);
-   }
-
-   /**
-    * The embedded maven CLI uses the java logging API to output the log. <br/>
-    * Since we never write the log to the console, we need register a logging handler.
-    *
-    * @author <a href="ggastald@redhat.com">George Gastaldi</a>
-    */
-   private boolean doExecuteMavenEmbedded(final PrintStream out, final PrintStream err, final List<String> list)
-   {
-      // Have we asked for quiet mode?
-      final boolean quiet = list.contains("-q") || list.contains("--quiet");
-      final String[] params = list.toArray(new String[list.size()]);
-      // Get root logger. Yes, it is an empty logger, Logger.getGlobal() doesn't work here
-      final Logger globalLogger = Logger.getLogger(Strings.EMPTY);
-      final Handler outHandler = new UncloseableStreamHandler(out, quiet);
-      try
-      {
-         globalLogger.addHandler(outHandler);
-         int returnCode = new MavenCli().doMain(params, getFaceted().getRoot().getFullyQualifiedName(), out, err);
-         return returnCode == 0;
-      }
-      finally
-      {
-         globalLogger.removeHandler(outHandler);
-      }
+      return executor.execute(new File(getFaceted().getRoot().getFullyQualifiedName()), list, out, err);
    }
 
    @Override
@@ -350,64 +393,4 @@ public class MavenFacetImpl extends AbstractFacet<Project> implements ProjectFac
       }
    }
 
-   /**
-    * A {@link Handler} implementation that writes to a {@link PrintStream}
-    *
-    * Used in {@link MavenFacetImpl#executeMavenEmbedded(PrintStream, PrintStream, String[])}
-    *
-    * @author <a href="ggastald@redhat.com">George Gastaldi</a>
-    */
-   private static class UncloseableStreamHandler extends Handler
-   {
-      private final PrintStream out;
-      private final boolean quiet;
-
-      public UncloseableStreamHandler(PrintStream out, boolean quiet)
-      {
-         super();
-         this.out = out;
-         this.quiet = quiet;
-      }
-
-      @Override
-      public void publish(LogRecord record)
-      {
-         // Write only if quiet is false
-         if (!quiet && isLoggable(record))
-         {
-            out.printf("[%s] %s%n", record.getLevel(), record.getMessage());
-         }
-      }
-
-      @Override
-      public boolean isLoggable(LogRecord record)
-      {
-         if (super.isLoggable(record))
-         {
-            switch (record.getMessage())
-            {
-            // Avoid unwanted warning messages
-            case "setRootLoggerLevel: operation not supported":
-            case "reset(): operation not supported":
-               break;
-            default:
-               return true;
-            }
-         }
-         return false;
-      }
-
-      @Override
-      public void flush()
-      {
-         out.flush();
-      }
-
-      @Override
-      public void close()
-      {
-         // Never close
-      }
-   }
-
 }
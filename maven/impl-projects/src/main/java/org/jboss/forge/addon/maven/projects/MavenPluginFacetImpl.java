@@ -744,10 +744,19 @@ public class MavenPluginFacetImpl extends AbstractFacet<Project> implements Mave
    private void updatePlugin(final MavenPlugin plugin, boolean managedPlugin,
             org.jboss.forge.addon.maven.profiles.Profile profileParam)
    {
-      this.removePlugin(plugin.getCoordinate(), managedPlugin, profileParam);
-      if (!this.hasPlugin(plugin.getCoordinate(), managedPlugin, false, profileParam))
+      MavenFacet mavenCoreFacet = getFaceted().getFacet(MavenFacet.class);
+      mavenCoreFacet.beginModelEdit();
+      try
+      {
+         this.removePlugin(plugin.getCoordinate(), managedPlugin, profileParam);
+         if (!this.hasPlugin(plugin.getCoordinate(), managedPlugin, false, profileParam))
+         {
+            this.addPlugin(plugin, managedPlugin, profileParam);
+         }
+      }
+      finally
       {
-         this.addPlugin(plugin, managedPlugin, profileParam);
+         mavenCoreFacet.commitModelEdit();
       }
    }
 }
@@ -30,6 +30,7 @@ public class MavenProjectBuilder implements ProjectBuilder
 
    private boolean runTests = true;
    private boolean quiet;
+   private boolean incremental;
    private final List<String> args = new ArrayList<>();
 
    public MavenProjectBuilder(final Environment environment, final Project project)
@@ -59,6 +60,13 @@ public class MavenProjectBuilder implements ProjectBuilder
       return this;
    }
 
+   @Override
+   public ProjectBuilder incremental(boolean incremental)
+   {
+      this.incremental = incremental;
+      return this;
+   }
+
    @Override
    public Resource<?> build()
    {
@@ -69,7 +77,14 @@ public class MavenProjectBuilder implements ProjectBuilder
    public Resource<?> build(PrintStream out, PrintStream err) throws BuildException
    {
       List<String> selected = new ArrayList<>();
-      selected.addAll(Arrays.asList("clean", "package"));
+      if (incremental)
+      {
+         selected.add("compile");
+      }
+      else
+      {
+         selected.addAll(Arrays.asList("clean", "package"));
+      }
 
       if ((args != null) && (!args.isEmpty()))
       {
@@ -91,11 +106,17 @@ public class MavenProjectBuilder implements ProjectBuilder
       {
          selected.add("-q");
       }
+      if (incremental)
+      {
+         // Recompile only the stale sources instead of the whole module once a change is detected
+         selected.add("-Dmaven.compiler.useIncrementalCompilation=false");
+      }
       boolean success = project.getFacet(MavenFacet.class).executeMavenEmbedded(selected, out, err);
 
       if (success)
       {
-         return project.getFacet(PackagingFacet.class).getFinalArtifact();
+         PackagingFacet packaging = project.getFacet(PackagingFacet.class);
+         return incremental ? packaging.getBuildOutputDirectory() : packaging.getFinalArtifact();
       }
       else
       {
@@ -10,17 +10,30 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
 import javax.xml.parsers.DocumentBuilder;
@@ -31,6 +44,7 @@ import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
+import org.jboss.forge.addon.ui.progress.UIProgressMonitor;
 import org.jboss.forge.furnace.util.Streams;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -41,18 +55,25 @@ import org.xml.sax.SAXException;
 /**
  * This class is a replacement for <code>mvn archetype:generate</code> without dependencies to maven-archetype related
  * libraries.
+ * <p/>
+ * The archetype is read with a {@link ZipFile}: its entries are extracted concurrently, binary entries being copied as
+ * is and text entries being interpolated by the extracting thread.
  * 
  * @author fabric8
  * @author <a href="ggastald@redhat.com">George Gastaldi</a>
  */
 public class ArchetypeHelper
 {
+   private static final Logger log = Logger.getLogger(ArchetypeHelper.class.getName());
+
+   private static final String archetypeMetadataEntry = "META-INF/maven/archetype-metadata.xml";
    private static String archetypeDescriptorUri = "http://maven.apache.org/plugins/maven-archetype-plugin/archetype-descriptor/1.0.0";
    private static String requiredPropertyXPath = "/ad:archetype-descriptor/ad:requiredProperties/ad:requiredProperty";
 
    /* Value properties - initialized in constructor */
 
    private InputStream archetypeIn;
+   private File archetypeFile;
    private File outputDir;
    private String groupId;
    private String artifactId;
@@ -61,8 +82,8 @@ public class ArchetypeHelper
    /* private properties */
 
    private String packageName = "";
-   private Boolean verbose = Boolean.FALSE;
    private Boolean createDefaultDirectories = Boolean.TRUE;
+   private UIProgressMonitor progressMonitor;
 
    private Map<String, String> overrideProperties = new HashMap<String, String>();
 
@@ -89,17 +110,13 @@ public class ArchetypeHelper
       this.version = version;
    }
 
-   private void info(String s)
-   {
-      System.out.println(s);
-   }
-
-   private void debug(String s)
+   public ArchetypeHelper(File archetypeFile, File outputDir, String groupId, String artifactId, String version)
    {
-      if (verbose)
-      {
-         System.out.println(s);
-      }
+      this.archetypeFile = archetypeFile;
+      this.outputDir = outputDir;
+      this.groupId = groupId;
+      this.artifactId = artifactId;
+      this.version = version;
    }
 
    public void setPackageName(String packageName)
@@ -112,6 +129,15 @@ public class ArchetypeHelper
       this.overrideProperties = overrideProperties;
    }
 
+   /**
+    * Reports the extraction of each file (and the time the extraction took) to the given {@link UIProgressMonitor}.
+    * {@link UIProgressMonitor#beginTask(String, int)} is called by {@link #execute()}
+    */
+   public void setProgressMonitor(UIProgressMonitor progressMonitor)
+   {
+      this.progressMonitor = progressMonitor;
+   }
+
    /**
     * Main method which extracts given Maven Archetype in destination directory
     *
@@ -128,115 +154,39 @@ public class ArchetypeHelper
 
       String packageDir = packageName.replace('.', '/');
 
-      info("Creating archetype using Maven groupId: " +
+      long start = System.currentTimeMillis();
+      log.info("Creating archetype using Maven groupId: " +
                groupId + ", artifactId: " + artifactId + ", version: " + version
                + " in directory: " + outputDir);
 
-      Map<String, String> replaceProperties = new HashMap<String, String>();
-
-      ZipInputStream zip = null;
+      Map<String, String> replaceProperties;
+      int extracted;
+      File zipFile = archetypeFile;
       try
       {
-         zip = new ZipInputStream(archetypeIn);
-         boolean ok = true;
-         while (ok)
+         if (zipFile == null)
          {
-            ZipEntry entry = zip.getNextEntry();
-            if (entry == null)
-            {
-               ok = false;
-            }
-            else
-            {
-               if (!entry.isDirectory())
-               {
-                  String fullName = entry.getName();
-                  if (fullName != null && fullName.startsWith(zipEntryPrefix))
-                  {
-                     String name = replaceFileProperties(fullName.substring(zipEntryPrefix.length()), replaceProperties);
-                     debug("Processing resource: " + name);
-
-                     int idx = name.lastIndexOf('/');
-                     Matcher matcher = sourcePathRegexPattern.matcher(name);
-                     String dirName;
-                     if (packageName.length() > 0 && idx > 0 && matcher.matches())
-                     {
-                        String prefix = matcher.group(1);
-                        dirName = prefix + packageDir + "/" + name.substring(prefix.length());
-                     }
-                     else if (packageName.length() > 0 && name.startsWith(webInfResources))
-                     {
-                        dirName = "src/main/webapp/WEB-INF/" + packageDir + "/resources"
-                                 + name.substring(webInfResources.length());
-                     }
-                     else
-                     {
-                        dirName = name;
-                     }
-
-                     // lets replace properties...
-                     File file = new File(outputDir, dirName);
-                     file.getParentFile().mkdirs();
-                     FileOutputStream out = null;
-                     try
-                     {
-                        out = new FileOutputStream(file);
-                        boolean isBinary = false;
-                        for (String suffix : binarySuffixes)
-                        {
-                           if (name.endsWith(suffix))
-                           {
-                              isBinary = true;
-                              break;
-                           }
-                        }
-                        if (isBinary)
-                        {
-                           // binary file? don't transform.
-                           Streams.write(zip, out);
-                        }
-                        else
-                        {
-                           // text file...
-                           ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                           Streams.write(zip, bos);
-                           String text = new String(bos.toByteArray(), "UTF-8");
-                           out.write(transformContents(text, replaceProperties).getBytes());
-                        }
-                     }
-                     finally
-                     {
-                        if (out != null)
-                        {
-                           out.close();
-                        }
-                     }
-                  }
-                  else if (fullName != null && fullName.equals("META-INF/maven/archetype-metadata.xml"))
-                  {
-                     // we assume that this resource will be first in Archetype's ZIP
-                     // this way we can find out what are the required properties before we will actually use them
-                     parseReplaceProperties(zip, replaceProperties);
-                     replaceProperties.putAll(overrideProperties);
-                  }
-               }
-               zip.closeEntry();
-            }
+            // ZipFile needs random access
+            zipFile = File.createTempFile("archetype", ".zip");
+            Files.copy(archetypeIn, zipFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+         }
+         try (ZipFile zip = new ZipFile(zipFile))
+         {
+            // The required properties are needed before any resource is extracted
+            replaceProperties = readReplaceProperties(zipFile);
+            replaceProperties.putAll(overrideProperties);
+            extracted = extractResources(zip, packageDir, replaceProperties);
          }
-      }
-      catch (Exception e)
-      {
-         throw new IOException(e.getMessage(), e);
       }
       finally
       {
-         if (zip != null)
+         if (archetypeFile == null && zipFile != null)
          {
-            zip.close();
+            zipFile.delete();
          }
       }
 
-      info("Using replace properties: " + replaceProperties);
+      log.info("Using replace properties: " + replaceProperties);
 
       // now lets replace all the properties in the pom.xml
       if (!replaceProperties.isEmpty())
@@ -280,55 +230,184 @@ public class ArchetypeHelper
          }
       }
 
+      if (progressMonitor != null)
+      {
+         progressMonitor.subTask("Extracted " + extracted + " files in " + (System.currentTimeMillis() - start)
+                  + " ms");
+      }
       return 0;
    }
 
    /**
-    * Searches ZIP archive and returns properties found in "META-INF/maven/archetype-metadata.xml" entry
+    * Extracts the archetype resources concurrently
     *
-    * @return
-    * @throws IOException
+    * @return the number of extracted files
     */
-   public Map<String, String> parseProperties() throws IOException
+   private int extractResources(final ZipFile zip, final String packageDir, final Map<String, String> replaceProperties)
+            throws IOException
    {
-      Map<String, String> replaceProperties = new HashMap<String, String>();
-      ZipInputStream zip = null;
+      List<ZipEntry> resources = new ArrayList<ZipEntry>();
+      for (Enumeration<? extends ZipEntry> entries = zip.entries(); entries.hasMoreElements();)
+      {
+         ZipEntry entry = entries.nextElement();
+         if (!entry.isDirectory() && entry.getName().startsWith(zipEntryPrefix))
+         {
+            resources.add(entry);
+         }
+      }
+      if (progressMonitor != null)
+      {
+         progressMonitor.beginTask("Extracting archetype", resources.size());
+      }
+      if (resources.isEmpty())
+      {
+         return 0;
+      }
+      int threads = Math.min(resources.size(), Runtime.getRuntime().availableProcessors());
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
       try
       {
-         zip = new ZipInputStream(archetypeIn);
-         boolean ok = true;
-         while (ok)
+         CompletionService<Void> completion = new ExecutorCompletionService<Void>(executor);
+         for (final ZipEntry entry : resources)
          {
-            ZipEntry entry = zip.getNextEntry();
-            if (entry == null)
-            {
-               ok = false;
-            }
-            else
+            completion.submit(new Callable<Void>()
             {
-               if (!entry.isDirectory())
+               @Override
+               public Void call() throws Exception
                {
-                  String fullName = entry.getName();
-                  if (fullName != null && fullName.equals("META-INF/maven/archetype-metadata.xml"))
-                  {
-                     parseReplaceProperties(zip, replaceProperties);
-                  }
+                  extractResource(zip, entry, packageDir, replaceProperties);
+                  return null;
                }
-               zip.closeEntry();
+            });
+         }
+         // Progress is reported as each file is extracted
+         for (int i = 0; i < resources.size(); i++)
+         {
+            completion.take().get();
+            if (progressMonitor != null)
+            {
+               progressMonitor.worked(1);
             }
          }
       }
-      catch (Exception e)
+      catch (ExecutionException e)
       {
-         throw new IOException(e.getMessage(), e);
+         Throwable cause = e.getCause();
+         throw new IOException(cause.getMessage(), cause);
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+         throw new IOException("Archetype extraction was interrupted", e);
       }
       finally
       {
-         if (zip != null)
+         executor.shutdownNow();
+      }
+      return resources.size();
+   }
+
+   private void extractResource(ZipFile zip, ZipEntry entry, String packageDir, Map<String, String> replaceProperties)
+            throws IOException
+   {
+      String name = replaceFileProperties(entry.getName().substring(zipEntryPrefix.length()), replaceProperties);
+      log.fine("Processing resource: " + name);
+
+      int idx = name.lastIndexOf('/');
+      Matcher matcher = sourcePathRegexPattern.matcher(name);
+      String dirName;
+      if (packageName.length() > 0 && idx > 0 && matcher.matches())
+      {
+         String prefix = matcher.group(1);
+         dirName = prefix + packageDir + "/" + name.substring(prefix.length());
+      }
+      else if (packageName.length() > 0 && name.startsWith(webInfResources))
+      {
+         dirName = "src/main/webapp/WEB-INF/" + packageDir + "/resources"
+                  + name.substring(webInfResources.length());
+      }
+      else
+      {
+         dirName = name;
+      }
+
+      Path file = new File(outputDir, dirName).toPath();
+      Files.createDirectories(file.getParent());
+      boolean isBinary = false;
+      for (String suffix : binarySuffixes)
+      {
+         if (name.endsWith(suffix))
+         {
+            isBinary = true;
+            break;
+         }
+      }
+      try (InputStream in = zip.getInputStream(entry))
+      {
+         if (isBinary)
+         {
+            // binary file? don't transform.
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+         }
+         else
          {
-            zip.close();
+            // text file... lets replace properties
+            String text = Streams.toString(in, StandardCharsets.UTF_8);
+            Files.write(file, transformContents(text, replaceProperties).getBytes(StandardCharsets.UTF_8));
          }
       }
+   }
+
+   /**
+    * Searches ZIP archive and returns properties found in "META-INF/maven/archetype-metadata.xml" entry
+    *
+    * @return
+    * @throws IOException
+    */
+   public Map<String, String> parseProperties() throws IOException
+   {
+      File zipFile = archetypeFile;
+      try
+      {
+         if (zipFile == null)
+         {
+            zipFile = File.createTempFile("archetype", ".zip");
+            Files.copy(archetypeIn, zipFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+         }
+         return readReplaceProperties(zipFile);
+      }
+      finally
+      {
+         if (archetypeFile == null && zipFile != null)
+         {
+            zipFile.delete();
+         }
+      }
+   }
+
+   private Map<String, String> readReplaceProperties(File zipFile) throws IOException
+   {
+      Map<String, String> replaceProperties = new HashMap<String, String>();
+      try (ZipInputStream zip = new ZipInputStream(new FileInputStream(zipFile)))
+      {
+         ZipEntry entry;
+         while ((entry = zip.getNextEntry()) != null)
+         {
+            if (archetypeMetadataEntry.equals(entry.getName()))
+            {
+               parseReplaceProperties(zip, replaceProperties);
+               break;
+            }
+         }
+      }
+      catch (IOException e)
+      {
+         throw e;
+      }
+      catch (Exception e)
+      {
+         throw new IOException(e.getMessage(), e);
+      }
       return replaceProperties;
    }
 
@@ -404,7 +483,7 @@ public class ArchetypeHelper
     */
    protected String removeInvalidHeaderCommentsAndProcessVelocityMacros(String text)
    {
-      String answer = "";
+      StringBuilder answer = new StringBuilder(text.length());
       String[] lines = text.split("\r?\n");
       for (String line : lines)
       {
@@ -416,11 +495,11 @@ public class ArchetypeHelper
             {
                line = line.replaceAll("\\$\\{D\\}", "\\$");
             }
-            answer = answer.concat(line);
-            answer = answer.concat("\n"); // TODO: maybe "line.separator"?
+            answer.append(line);
+            answer.append("\n"); // TODO: maybe "line.separator"?
          }
       }
-      return answer;
+      return answer.toString();
    }
 
    protected String replaceFileProperties(String fileName, Map<String, String> replaceProperties)
@@ -437,7 +516,7 @@ public class ArchetypeHelper
    {
       if (value.contains("}"))
       {
-         System.out.println("Ignoring dodgy value '" + value + "'");
+         log.warning("Ignoring dodgy value '" + value + "'");
          return text;
       }
       else
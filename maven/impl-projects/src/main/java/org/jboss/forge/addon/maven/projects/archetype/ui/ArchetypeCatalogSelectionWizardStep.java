@@ -37,6 +37,7 @@ import org.jboss.forge.addon.ui.context.UINavigationContext;
 import org.jboss.forge.addon.ui.input.UISelectOne;
 import org.jboss.forge.addon.ui.metadata.UICommandMetadata;
 import org.jboss.forge.addon.ui.metadata.WithAttributes;
+import org.jboss.forge.addon.ui.progress.UIProgressMonitor;
 import org.jboss.forge.addon.ui.result.NavigationResult;
 import org.jboss.forge.addon.ui.result.Result;
 import org.jboss.forge.addon.ui.result.Results;
@@ -159,11 +160,20 @@ public class ArchetypeCatalogSelectionWizardStep extends AbstractUICommand imple
       FileResource<?> artifact = resolvedArtifact.getArtifact();
       MetadataFacet metadataFacet = project.getFacet(MetadataFacet.class);
       File fileRoot = project.getRoot().reify(DirectoryResource.class).getUnderlyingResourceObject();
-      ArchetypeHelper archetypeHelper = new ArchetypeHelper(artifact.getResourceInputStream(), fileRoot,
+      ArchetypeHelper archetypeHelper = new ArchetypeHelper(artifact.getUnderlyingResourceObject(), fileRoot,
                metadataFacet.getProjectGroupName(), metadataFacet.getProjectName(), metadataFacet.getProjectVersion());
       JavaSourceFacet facet = (JavaSourceFacet) project.getFacet(JavaSourceFacet.class);
       archetypeHelper.setPackageName(facet.getBasePackage());
-      archetypeHelper.execute();
+      UIProgressMonitor progressMonitor = context.getProgressMonitor();
+      archetypeHelper.setProgressMonitor(progressMonitor);
+      try
+      {
+         archetypeHelper.execute();
+      }
+      finally
+      {
+         progressMonitor.done();
+      }
       return Results.success();
    }
 }
@@ -8,13 +8,17 @@
 package org.jboss.forge.addon.maven.projects.archetype.ui;
 
 import java.io.File;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import javax.inject.Inject;
 
+import org.apache.maven.archetype.catalog.Archetype;
 import org.jboss.forge.addon.dependencies.Dependency;
 import org.jboss.forge.addon.dependencies.DependencyRepository;
 import org.jboss.forge.addon.dependencies.DependencyResolver;
 import org.jboss.forge.addon.dependencies.builder.DependencyQueryBuilder;
+import org.jboss.forge.addon.maven.archetype.ArchetypeCatalogFactoryRegistry;
 import org.jboss.forge.addon.maven.projects.archetype.ArchetypeHelper;
 import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
 import org.jboss.forge.addon.projects.Project;
@@ -27,9 +31,12 @@ import org.jboss.forge.addon.ui.context.UIContext;
 import org.jboss.forge.addon.ui.context.UIExecutionContext;
 import org.jboss.forge.addon.ui.context.UINavigationContext;
 import org.jboss.forge.addon.ui.context.UIValidationContext;
+import org.jboss.forge.addon.ui.input.InputComponent;
+import org.jboss.forge.addon.ui.input.UICompleter;
 import org.jboss.forge.addon.ui.input.UIInput;
 import org.jboss.forge.addon.ui.metadata.UICommandMetadata;
 import org.jboss.forge.addon.ui.metadata.WithAttributes;
+import org.jboss.forge.addon.ui.progress.UIProgressMonitor;
 import org.jboss.forge.addon.ui.result.NavigationResult;
 import org.jboss.forge.addon.ui.result.Result;
 import org.jboss.forge.addon.ui.result.Results;
@@ -63,6 +70,9 @@ public class ArchetypeSelectionWizardStep extends AbstractUICommand implements U
    @Inject
    private DependencyResolver resolver;
 
+   @Inject
+   private ArchetypeCatalogFactoryRegistry archetypeRegistry;
+
    @Override
    public NavigationResult next(UINavigationContext context) throws Exception
    {
@@ -79,6 +89,58 @@ public class ArchetypeSelectionWizardStep extends AbstractUICommand implements U
    @Override
    public void initializeUI(UIBuilder builder) throws Exception
    {
+      // Completion is served from the prefix index of the archetype catalogs
+      archetypeGroupId.setCompleter(new UICompleter<String>()
+      {
+         @Override
+         public Iterable<String> getCompletionProposals(UIContext context, InputComponent<?, String> input,
+                  String value)
+         {
+            Set<String> result = new LinkedHashSet<>();
+            for (Archetype archetype : archetypeRegistry.getArchetypes(Strings.isNullOrEmpty(value) ? "" : value))
+            {
+               result.add(archetype.getGroupId());
+            }
+            return result;
+         }
+      });
+      archetypeArtifactId.setCompleter(new UICompleter<String>()
+      {
+         @Override
+         public Iterable<String> getCompletionProposals(UIContext context, InputComponent<?, String> input,
+                  String value)
+         {
+            Set<String> result = new LinkedHashSet<>();
+            if (archetypeGroupId.hasValue())
+            {
+               String prefix = archetypeGroupId.getValue() + ":" + (Strings.isNullOrEmpty(value) ? "" : value);
+               for (Archetype archetype : archetypeRegistry.getArchetypes(prefix))
+               {
+                  result.add(archetype.getArtifactId());
+               }
+            }
+            return result;
+         }
+      });
+      archetypeVersion.setCompleter(new UICompleter<String>()
+      {
+         @Override
+         public Iterable<String> getCompletionProposals(UIContext context, InputComponent<?, String> input,
+                  String value)
+         {
+            Set<String> result = new LinkedHashSet<>();
+            if (archetypeGroupId.hasValue() && archetypeArtifactId.hasValue())
+            {
+               String prefix = archetypeGroupId.getValue() + ":" + archetypeArtifactId.getValue() + ":"
+                        + (Strings.isNullOrEmpty(value) ? "" : value);
+               for (Archetype archetype : archetypeRegistry.getArchetypes(prefix))
+               {
+                  result.add(archetype.getVersion());
+               }
+            }
+            return result;
+         }
+      });
       builder.add(archetypeGroupId).add(archetypeArtifactId).add(archetypeVersion).add(archetypeRepository);
    }
 
@@ -109,11 +171,20 @@ public class ArchetypeSelectionWizardStep extends AbstractUICommand implements U
       FileResource<?> artifact = resolvedArtifact.getArtifact();
       MetadataFacet metadataFacet = project.getFacet(MetadataFacet.class);
       File fileRoot = project.getRoot().reify(DirectoryResource.class).getUnderlyingResourceObject();
-      ArchetypeHelper archetypeHelper = new ArchetypeHelper(artifact.getResourceInputStream(), fileRoot,
+      ArchetypeHelper archetypeHelper = new ArchetypeHelper(artifact.getUnderlyingResourceObject(), fileRoot,
                metadataFacet.getProjectGroupName(), metadataFacet.getProjectName(), metadataFacet.getProjectVersion());
       JavaSourceFacet facet = (JavaSourceFacet) project.getFacet(JavaSourceFacet.class);
       archetypeHelper.setPackageName(facet.getBasePackage());
-      archetypeHelper.execute();
+      UIProgressMonitor progressMonitor = context.getProgressMonitor();
+      archetypeHelper.setProgressMonitor(progressMonitor);
+      try
+      {
+         archetypeHelper.execute();
+      }
+      finally
+      {
+         progressMonitor.done();
+      }
       return Results.success();
    }
 }
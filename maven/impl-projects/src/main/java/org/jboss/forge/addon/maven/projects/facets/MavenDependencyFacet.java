@@ -9,8 +9,11 @@ package org.jboss.forge.addon.maven.projects.facets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -52,6 +55,13 @@ public class MavenDependencyFacet extends AbstractFacet<Project> implements Depe
    @Inject
    private DependencyResolver resolver;
 
+   /**
+    * The effective dependencies and managed dependencies of {@link #indexedResult}
+    */
+   private ProjectBuildingResult indexedResult;
+   private DependencyIndex effectiveDependencies;
+   private DependencyIndex effectiveManagedDependencies;
+
    @Override
    public boolean isInstalled()
    {
@@ -68,25 +78,34 @@ public class MavenDependencyFacet extends AbstractFacet<Project> implements Depe
    public void addDirectDependency(final Dependency dep)
    {
       MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-      Model pom = maven.getModel();
-      List<org.apache.maven.model.Dependency> dependencies = pom.getDependencies();
-      Coordinate depCoordinate = dep.getCoordinate();
-      boolean exists = false;
-      for (org.apache.maven.model.Dependency dependency : dependencies)
+      maven.beginModelEdit();
+      try
       {
-         Coordinate dependencyCoordinate = new MavenDependencyAdapter(dependency).getCoordinate();
-         if (Dependencies.areEquivalent(depCoordinate, dependencyCoordinate))
+         Model pom = maven.getModel();
+         List<org.apache.maven.model.Dependency> dependencies = pom.getDependencies();
+         Coordinate depCoordinate = dep.getCoordinate();
+         boolean exists = false;
+         for (org.apache.maven.model.Dependency dependency : dependencies)
+         {
+            Coordinate dependencyCoordinate = new MavenDependencyAdapter(dependency).getCoordinate();
+            if (Dependencies.areEquivalent(depCoordinate, dependencyCoordinate))
+            {
+               dependency.setVersion(depCoordinate.getVersion());
+               exists = true;
+            }
+         }
+         if (!exists)
          {
-            dependency.setVersion(depCoordinate.getVersion());
-            exists = true;
+            org.apache.maven.model.Dependency dependency = MavenDependencyAdapter.toMavenList(Arrays.asList(dep))
+                     .get(0);
+            dependencies.add(dependency);
          }
+         maven.setModel(pom);
       }
-      if (!exists)
+      finally
       {
-         org.apache.maven.model.Dependency dependency = MavenDependencyAdapter.toMavenList(Arrays.asList(dep)).get(0);
-         dependencies.add(dependency);
+         maven.commitModelEdit();
       }
-      maven.setModel(pom);
    }
 
    @Override
@@ -95,10 +114,11 @@ public class MavenDependencyFacet extends AbstractFacet<Project> implements Depe
       MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
       Model pom = maven.getModel();
       List<Dependency> dependencies = MavenDependencyAdapter.fromMavenList(pom.getDependencies());
+      Dependency resolved = resolveProperties(dependency);
 
       for (Dependency dep : dependencies)
       {
-         if (Dependencies.areEquivalent(resolveProperties(dependency), dep))
+         if (Dependencies.areEquivalent(resolved, dep))
          {
             return true;
          }
@@ -110,20 +130,29 @@ public class MavenDependencyFacet extends AbstractFacet<Project> implements Depe
    public void removeDependency(final Dependency dep)
    {
       MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-      Model pom = maven.getModel();
-      List<Dependency> dependencies = MavenDependencyAdapter.fromMavenList(pom.getDependencies());
-
-      List<Dependency> toBeRemoved = new ArrayList<>();
-      for (Dependency dependency : dependencies)
+      maven.beginModelEdit();
+      try
       {
-         if (Dependencies.areEquivalent(dependency, resolveProperties(dep)))
+         Model pom = maven.getModel();
+         List<Dependency> dependencies = MavenDependencyAdapter.fromMavenList(pom.getDependencies());
+
+         Dependency resolved = resolveProperties(dep);
+         List<Dependency> toBeRemoved = new ArrayList<>();
+         for (Dependency dependency : dependencies)
          {
-            toBeRemoved.add(dependency);
+            if (Dependencies.areEquivalent(dependency, resolved))
+            {
+               toBeRemoved.add(dependency);
+            }
          }
+         dependencies.removeAll(toBeRemoved);
+         pom.setDependencies(MavenDependencyAdapter.toMavenList(dependencies));
+         maven.setModel(pom);
+      }
+      finally
+      {
+         maven.commitModelEdit();
       }
-      dependencies.removeAll(toBeRemoved);
-      pom.setDependencies(MavenDependencyAdapter.toMavenList(dependencies));
-      maven.setModel(pom);
    }
 
    @Override
@@ -148,10 +177,11 @@ public class MavenDependencyFacet extends AbstractFacet<Project> implements Depe
       MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
       Model pom = maven.getModel();
       List<Dependency> dependencies = MavenDependencyAdapter.fromMavenList(pom.getDependencies());
+      Dependency resolved = resolveProperties(dependency);
 
       for (Dependency dep : dependencies)
       {
-         if (Dependencies.areEquivalent(resolveProperties(dependency), dep))
+         if (Dependencies.areEquivalent(resolved, dep))
          {
             return resolveProperties(dep);
          }
@@ -168,49 +198,110 @@ public class MavenDependencyFacet extends AbstractFacet<Project> implements Depe
    @Override
    public Dependency getEffectiveDependency(final Dependency manDep)
    {
-      for (Dependency dependency : getEffectiveDependencies())
-      {
-         if (Dependencies.areEquivalent(dependency, resolveProperties(manDep)))
-         {
-            return resolveProperties(dependency);
-         }
-      }
-      return null;
+      DependencyIndex index = getEffectiveDependencyIndex();
+      return index == null ? null : index.get(resolveProperties(manDep));
    }
 
    @Override
    public List<Dependency> getEffectiveDependencies()
    {
-      List<Dependency> result = new ArrayList<>();
+      DependencyIndex index = getEffectiveDependencyIndex();
+      return index == null ? new ArrayList<Dependency>() : index.getDependencies();
+   }
 
+   /**
+    * Returns the effective dependencies of the current {@link ProjectBuildingResult}, with their properties resolved
+    */
+   private synchronized DependencyIndex getEffectiveDependencyIndex()
+   {
       MavenFacetImpl maven = getFaceted().getFacet(MavenFacetImpl.class);
       try
       {
          ProjectBuildingResult projectBuildingResult = maven.getProjectBuildingResult();
-         DependencyResolutionResult dependencyResolutionResult = projectBuildingResult.getDependencyResolutionResult();
-         List<Dependency> deps = MavenDependencyAdapter.fromAetherList(dependencyResolutionResult.getDependencies());
-
-         for (Dependency dependency : deps)
+         if (effectiveDependencies == null || indexedResult != projectBuildingResult)
          {
-            result.add(resolveProperties(dependency));
+            DependencyResolutionResult dependencyResolutionResult = projectBuildingResult
+                     .getDependencyResolutionResult();
+            List<Dependency> deps = MavenDependencyAdapter.fromAetherList(dependencyResolutionResult
+                     .getDependencies());
+            DependencyIndex index = new DependencyIndex(resolveProperties(deps));
+            resetIndexes(projectBuildingResult);
+            effectiveDependencies = index;
          }
+         return effectiveDependencies;
+      }
+      catch (Exception e)
+      {
+         log.log(Level.SEVERE, "Could not resolve managed dependencies in project ["
+                  + maven.getModelResource().getFullyQualifiedName() + "]. ", e);
+         return null;
+      }
+   }
 
+   /**
+    * Returns the effective managed dependencies of the current {@link ProjectBuildingResult}, with their properties
+    * resolved
+    */
+   private synchronized DependencyIndex getEffectiveManagedDependencyIndex()
+   {
+      MavenFacetImpl maven = getFaceted().getFacet(MavenFacetImpl.class);
+      try
+      {
+         ProjectBuildingResult projectBuildingResult = maven.getProjectBuildingResult();
+         if (effectiveManagedDependencies == null || indexedResult != projectBuildingResult)
+         {
+            DependencyManagement depMan = projectBuildingResult.getProject().getDependencyManagement();
+            List<Dependency> managedDependencies = (depMan != null ? MavenDependencyAdapter.fromMavenList(depMan
+                     .getDependencies()) : new ArrayList<Dependency>());
+            DependencyIndex index = new DependencyIndex(resolveProperties(managedDependencies));
+            resetIndexes(projectBuildingResult);
+            effectiveManagedDependencies = index;
+         }
+         return effectiveManagedDependencies;
       }
       catch (Exception e)
       {
          log.log(Level.SEVERE, "Could not resolve managed dependencies in project ["
                   + maven.getModelResource().getFullyQualifiedName() + "]. ", e);
+         return null;
       }
+   }
+
+   private void resetIndexes(ProjectBuildingResult projectBuildingResult)
+   {
+      if (indexedResult != projectBuildingResult)
+      {
+         indexedResult = projectBuildingResult;
+         effectiveDependencies = null;
+         effectiveManagedDependencies = null;
+      }
+   }
 
+   private List<Dependency> resolveProperties(List<Dependency> dependencies)
+   {
+      List<Dependency> result = new ArrayList<>(dependencies.size());
+      for (Dependency dependency : dependencies)
+      {
+         result.add(resolveProperties(dependency));
+      }
       return result;
    }
 
    @Override
    public void addManagedDependency(final Dependency manDep)
    {
-      if (!hasEffectiveManagedDependency(resolveProperties(manDep)))
+      MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
+      maven.beginModelEdit();
+      try
       {
-         addDirectManagedDependency(manDep);
+         if (!hasEffectiveManagedDependency(resolveProperties(manDep)))
+         {
+            addDirectManagedDependency(manDep);
+         }
+      }
+      finally
+      {
+         maven.commitModelEdit();
       }
    }
 
@@ -252,28 +343,8 @@ public class MavenDependencyFacet extends AbstractFacet<Project> implements Depe
    @Override
    public Dependency getEffectiveManagedDependency(final Dependency manDep)
    {
-      MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-      try
-      {
-         DependencyManagement depMan = ((MavenFacetImpl) maven).getProjectBuildingResult().getProject()
-                  .getDependencyManagement();
-         List<Dependency> managedDependencies = (depMan != null ? MavenDependencyAdapter.fromMavenList(depMan
-                  .getDependencies()) : new ArrayList<Dependency>());
-
-         for (Dependency managedDependency : managedDependencies)
-         {
-            if (Dependencies.areEquivalent(managedDependency, resolveProperties(manDep)))
-            {
-               return resolveProperties(managedDependency);
-            }
-         }
-      }
-      catch (Exception e)
-      {
-         log.log(Level.SEVERE, "Could not resolve managed dependencies in project ["
-                  + maven.getModelResource().getFullyQualifiedName() + "]. ", e);
-      }
-      return null;
+      DependencyIndex index = getEffectiveManagedDependencyIndex();
+      return index == null ? null : index.get(resolveProperties(manDep));
    }
 
    @Override
@@ -286,9 +357,10 @@ public class MavenDependencyFacet extends AbstractFacet<Project> implements Depe
       List<Dependency> managedDependencies = depMan != null ? MavenDependencyAdapter.fromMavenList(depMan
                .getDependencies()) : new ArrayList<Dependency>();
 
+      Dependency resolved = resolveProperties(managedDependency);
       for (Dependency manDep : managedDependencies)
       {
-         if (Dependencies.areEquivalent(resolveProperties(managedDependency), manDep))
+         if (Dependencies.areEquivalent(resolved, manDep))
          {
             return true;
          }
@@ -351,9 +423,10 @@ public class MavenDependencyFacet extends AbstractFacet<Project> implements Depe
       List<Dependency> managedDependencies = depMan != null ? MavenDependencyAdapter.fromMavenList(depMan
                .getDependencies()) : new ArrayList<Dependency>();
 
+      Dependency resolved = resolveProperties(manDep);
       for (Dependency managedDependency : managedDependencies)
       {
-         if (Dependencies.areEquivalent(managedDependency, resolveProperties(manDep)))
+         if (Dependencies.areEquivalent(managedDependency, resolved))
          {
             return resolveProperties(managedDependency);
          }
@@ -406,15 +479,23 @@ public class MavenDependencyFacet extends AbstractFacet<Project> implements Depe
    @Override
    public void addRepository(final String name, final String url)
    {
-      if (!hasRepository(url))
+      MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
+      maven.beginModelEdit();
+      try
       {
-         MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
-         Model pom = maven.getModel();
-         Repository repo = new Repository();
-         repo.setId(name);
-         repo.setUrl(url);
-         pom.getRepositories().add(repo);
-         maven.setModel(pom);
+         if (!hasRepository(url))
+         {
+            Model pom = maven.getModel();
+            Repository repo = new Repository();
+            repo.setId(name);
+            repo.setUrl(url);
+            pom.getRepositories().add(repo);
+            maven.setModel(pom);
+         }
+      }
+      finally
+      {
+         maven.commitModelEdit();
       }
    }
 
@@ -518,4 +599,92 @@ public class MavenDependencyFacet extends AbstractFacet<Project> implements Depe
    {
       super.setFaceted(project);
    }
+
+   /**
+    * An immutable list of dependencies, indexed by the parts of their {@link Coordinate} compared by
+    * {@link Dependencies#areEquivalent(Coordinate, Coordinate)}
+    */
+   private static class DependencyIndex
+   {
+      private final List<Dependency> dependencies;
+      private final Map<CoordinateKey, Dependency> index;
+
+      DependencyIndex(List<Dependency> dependencies)
+      {
+         this.dependencies = Collections.unmodifiableList(dependencies);
+         this.index = new HashMap<>();
+         for (Dependency dependency : dependencies)
+         {
+            CoordinateKey key = new CoordinateKey(dependency.getCoordinate());
+            // The first equivalent dependency wins, as when searching the list
+            if (!index.containsKey(key))
+            {
+               index.put(key, dependency);
+            }
+         }
+      }
+
+      /**
+       * @return copies of the dependencies, which callers may change
+       */
+      List<Dependency> getDependencies()
+      {
+         List<Dependency> result = new ArrayList<>(dependencies.size());
+         for (Dependency dependency : dependencies)
+         {
+            result.add(DependencyBuilder.create(dependency));
+         }
+         return result;
+      }
+
+      /**
+       * @return a copy of the dependency equivalent to the given one, or <code>null</code>
+       */
+      Dependency get(Dependency dependency)
+      {
+         Dependency result = dependency == null ? null : index.get(new CoordinateKey(dependency.getCoordinate()));
+         return result == null ? null : DependencyBuilder.create(result);
+      }
+   }
+
+   /**
+    * The groupId:artifactId:packaging:classifier of a {@link Coordinate} (the packaging defaults to "jar")
+    */
+   private static class CoordinateKey
+   {
+      private final String groupId;
+      private final String artifactId;
+      private final String packaging;
+      private final String classifier;
+
+      CoordinateKey(Coordinate coordinate)
+      {
+         this.groupId = coordinate.getGroupId();
+         this.artifactId = coordinate.getArtifactId();
+         this.packaging = coordinate.getPackaging() == null ? "jar" : coordinate.getPackaging();
+         this.classifier = coordinate.getClassifier();
+      }
+
+      @Override
+      public boolean equals(Object obj)
+      {
+         if (this == obj)
+         {
+            return true;
+         }
+         if (!(obj instanceof CoordinateKey))
+         {
+            return false;
+         }
+         CoordinateKey other = (CoordinateKey) obj;
+         return Objects.equals(groupId, other.groupId) && Objects.equals(artifactId, other.artifactId)
+                  && packaging.equals(other.packaging) && Objects.equals(classifier, other.classifier);
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return Objects.hash(groupId, artifactId, packaging, classifier);
+      }
+   }
 }
@@ -124,6 +124,27 @@ public class MavenPackagingFacet extends AbstractFacet<Project> implements Packa
       }
    }
 
+   @Override
+   public Resource<?> getBuildOutputDirectory()
+   {
+      MavenFacetImpl mvn = getFaceted().getFacet(MavenFacetImpl.class);
+
+      try
+      {
+         String outputDirectory = mvn.getProjectBuildingResult().getProject().getBuild().getOutputDirectory();
+         if (Strings.isNullOrEmpty(outputDirectory))
+         {
+            throw new IllegalStateException("Project build output directory is not configured");
+         }
+         return factory.create(new File(outputDirectory.trim()));
+      }
+      catch (Exception e)
+      {
+         throw new RuntimeException("Could not resolve build output directory for project ["
+                  + mvn.getModelResource().getFullyQualifiedName() + "]");
+      }
+   }
+
    @Override
    public Resource<?> executeBuild(final String... args)
    {
@@ -31,6 +31,7 @@ import org.jboss.forge.addon.maven.plugins.ExecutionBuilder;
 import org.jboss.forge.addon.maven.plugins.MavenPlugin;
 import org.jboss.forge.addon.maven.plugins.MavenPluginAdapter;
 import org.jboss.forge.addon.maven.plugins.MavenPluginBuilder;
+import org.jboss.forge.addon.maven.projects.MavenFacet;
 import org.jboss.forge.addon.maven.projects.MavenPluginFacet;
 import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.projects.facets.DependencyFacet;
@@ -60,9 +61,18 @@ public class MavenPersistenceMetaModelFacet extends AbstractFacet<Project> imple
    public boolean install()
    {
       MetaModelProvider provider = getMetaModelProvider();
-      addProcessorPlugin(provider);
-      modifyCompilerPlugin();
-      addPluginRepository(provider);
+      MavenFacet maven = getFaceted().getFacet(MavenFacet.class);
+      maven.beginModelEdit();
+      try
+      {
+         addProcessorPlugin(provider);
+         modifyCompilerPlugin();
+         addPluginRepository(provider);
+      }
+      finally
+      {
+         maven.commitModelEdit();
+      }
       return true;
    }
 
@@ -0,0 +1,139 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.projects.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Replaces <code>${property}</code> expressions with the values of a snapshot of Maven properties.
+ *
+ * Inputs are scanned once, looking each expression up in the property map. Property values may refer to other
+ * properties; each value is resolved once and then reused. Expressions referring to unknown properties (or to
+ * properties that refer back to themselves) are kept as is. Values depending on such a cycle are not reused, as they
+ * depend on the property the resolution started from.
+ */
+public class PropertyInterpolator
+{
+   private static final String PREFIX = "${";
+   private static final char SUFFIX = '}';
+
+   private final Map<String, String> properties;
+   private final ConcurrentMap<String, String> resolved = new ConcurrentHashMap<>();
+
+   public PropertyInterpolator(Properties properties)
+   {
+      Map<String, String> map = new HashMap<>();
+      for (Entry<Object, Object> entry : properties.entrySet())
+      {
+         map.put(String.valueOf(entry.getKey()), String.valueOf(entry.getValue()));
+      }
+      this.properties = Collections.unmodifiableMap(map);
+   }
+
+   /**
+    * @return the properties, as they were defined
+    */
+   public Map<String, String> getProperties()
+   {
+      return properties;
+   }
+
+   /**
+    * @return the given input with the known properties replaced by their resolved values
+    */
+   public String interpolate(String input)
+   {
+      if (input == null || input.indexOf(PREFIX) < 0)
+      {
+         return input;
+      }
+      return interpolate(input, new Resolution());
+   }
+
+   private String interpolate(String input, Resolution resolution)
+   {
+      int start = input.indexOf(PREFIX);
+      if (start < 0)
+      {
+         return input;
+      }
+      StringBuilder result = new StringBuilder(input.length());
+      int position = 0;
+      while (start >= 0)
+      {
+         int end = input.indexOf(SUFFIX, start + PREFIX.length());
+         if (end < 0)
+         {
+            break;
+         }
+         String value = resolve(input.substring(start + PREFIX.length(), end), resolution);
+         result.append(input, position, start);
+         if (value == null)
+         {
+            result.append(input, start, end + 1);
+         }
+         else
+         {
+            result.append(value);
+         }
+         position = end + 1;
+         start = input.indexOf(PREFIX, position);
+      }
+      result.append(input, position, input.length());
+      return result.toString();
+   }
+
+   private String resolve(String key, Resolution resolution)
+   {
+      String value = resolved.get(key);
+      if (value == null)
+      {
+         String definition = properties.get(key);
+         if (definition == null)
+         {
+            // Unknown
+            return null;
+         }
+         if (!resolution.resolving.add(key))
+         {
+            // Cyclic
+            resolution.cyclic = true;
+            return null;
+         }
+         boolean cyclic = resolution.cyclic;
+         resolution.cyclic = false;
+         value = interpolate(definition, resolution);
+         resolution.resolving.remove(key);
+         if (!resolution.cyclic)
+         {
+            resolved.put(key, value);
+         }
+         resolution.cyclic |= cyclic;
+      }
+      return value;
+   }
+
+   /**
+    * The state of the resolution of an input
+    */
+   private static class Resolution
+   {
+      private final Set<String> resolving = new HashSet<>();
+      /**
+       * Whether a cycle was found while resolving the current property
+       */
+      private boolean cyclic;
+   }
+}
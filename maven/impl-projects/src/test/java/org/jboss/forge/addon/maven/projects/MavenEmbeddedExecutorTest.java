@@ -0,0 +1,113 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.projects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.codehaus.plexus.DefaultPlexusContainer;
+import org.jboss.forge.addon.maven.projects.MavenEmbeddedExecutor.BuildArguments;
+import org.jboss.forge.furnace.manager.maven.MavenContainer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for the resident container of {@link MavenEmbeddedExecutor} and the arguments it supports
+ */
+public class MavenEmbeddedExecutorTest
+{
+   private static final String POM = "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">"
+            + "<modelVersion>4.0.0</modelVersion><groupId>org.example</groupId><artifactId>resident</artifactId>"
+            + "<version>1.0</version><packaging>pom</packaging><name>Resident Build</name></project>";
+
+   @Rule
+   public TemporaryFolder folder = new TemporaryFolder();
+
+   @Test
+   public void testParseArguments()
+   {
+      BuildArguments arguments = BuildArguments.parse(Arrays.asList("clean", "install", "-DskipTests",
+               "-Dmaven.repo.local=/tmp/repo", "-D", "a=b", "-Pdev,!slow", "-o", "-q", "-N", "-B", "-f",
+               "module/pom.xml"));
+      assertNotNull(arguments);
+      assertEquals(Arrays.asList("clean", "install"), arguments.goals);
+      assertEquals("true", arguments.userProperties.getProperty("skipTests"));
+      assertEquals("/tmp/repo", arguments.userProperties.getProperty("maven.repo.local"));
+      assertEquals("b", arguments.userProperties.getProperty("a"));
+      assertEquals(Arrays.asList("dev"), arguments.activeProfiles);
+      assertEquals(Arrays.asList("slow"), arguments.inactiveProfiles);
+      assertTrue(arguments.offline);
+      assertFalse(arguments.recursive);
+      assertEquals(MavenExecutionRequest.LOGGING_LEVEL_ERROR, arguments.loggingLevel);
+      assertEquals("module/pom.xml", arguments.pom);
+   }
+
+   @Test
+   public void testUnsupportedArgumentsAreNotParsed()
+   {
+      assertNull(BuildArguments.parse(Arrays.asList("install", "-T", "4")));
+      assertNull(BuildArguments.parse(Arrays.asList("install", "-pl", "module")));
+      assertNull(BuildArguments.parse(Arrays.asList("install", "-s", "/tmp/other-settings.xml")));
+      assertNull(BuildArguments.parse(Arrays.asList("install", "-f")));
+   }
+
+   @Test
+   public void testResidentContainerIsReused() throws Exception
+   {
+      File project = folder.newFolder("project");
+      Files.write(new File(project, "pom.xml").toPath(), POM.getBytes(StandardCharsets.UTF_8));
+      File localRepository = folder.newFolder("repository");
+      BuildArguments arguments = BuildArguments.parse(Arrays.asList("validate", "-o",
+               "-Dmaven.repo.local=" + localRepository.getAbsolutePath()));
+      MavenEmbeddedExecutor executor = new MavenEmbeddedExecutor(new MavenContainer());
+      try
+      {
+         ByteArrayOutputStream first = new ByteArrayOutputStream();
+         assertTrue(executor.executeResident(project, arguments, new PrintStream(first, true)));
+         DefaultPlexusContainer container = executor.getPlexusContainer();
+         ByteArrayOutputStream second = new ByteArrayOutputStream();
+         assertTrue(executor.executeResident(project, arguments, new PrintStream(second, true)));
+         assertSame(container, executor.getPlexusContainer());
+
+         for (ByteArrayOutputStream out : Arrays.asList(first, second))
+         {
+            String output = out.toString();
+            assertTrue(output, output.contains("Building Resident Build 1.0"));
+            assertTrue(output, output.contains("BUILD SUCCESS"));
+         }
+
+         ByteArrayOutputStream failed = new ByteArrayOutputStream();
+         assertFalse(executor.executeResident(project, BuildArguments.parse(Arrays.asList("unknown-phase", "-o")),
+                  new PrintStream(failed, true)));
+         assertTrue(failed.toString().contains("[ERROR]"));
+
+         ByteArrayOutputStream executed = new ByteArrayOutputStream();
+         PrintStream executedOut = new PrintStream(executed, true);
+         assertTrue(executor.execute(project, Arrays.asList("validate", "-o",
+                  "-Dmaven.repo.local=" + localRepository.getAbsolutePath()), executedOut, executedOut));
+         assertSame(container, executor.getPlexusContainer());
+         assertEquals(0, executor.getProjectLockCount());
+      }
+      finally
+      {
+         executor.preShutdown(null);
+      }
+   }
+}
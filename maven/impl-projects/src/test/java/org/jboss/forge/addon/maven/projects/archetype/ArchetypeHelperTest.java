@@ -0,0 +1,107 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.projects.archetype;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.jboss.forge.addon.ui.progress.DefaultUIProgressMonitor;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for the extraction of an archetype by {@link ArchetypeHelper}
+ */
+public class ArchetypeHelperTest
+{
+   private static final String METADATA = "<archetype-descriptor "
+            + "xmlns=\"http://maven.apache.org/plugins/maven-archetype-plugin/archetype-descriptor/1.0.0\">"
+            + "<requiredProperties><requiredProperty key=\"greeting\"><defaultValue>Hello</defaultValue>"
+            + "</requiredProperty></requiredProperties></archetype-descriptor>";
+
+   private static final String POM = "<project><groupId>${groupId}</groupId><artifactId>${artifactId}</artifactId>"
+            + "<version>${version}</version><name>${greeting}</name></project>";
+
+   private static final byte[] IMAGE = { (byte) 0x89, 'P', 'N', 'G', '$', '{', 'g', 'r', 'e', 'e', 't', 'i', 'n',
+            'g', '}', 0, (byte) 0xff };
+
+   @Rule
+   public TemporaryFolder folder = new TemporaryFolder();
+
+   @Test
+   public void testExtractArchetype() throws Exception
+   {
+      File archetype = folder.newFile("archetype.zip");
+      try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(archetype)))
+      {
+         add(zip, "archetype-resources/pom.xml", POM.getBytes(StandardCharsets.UTF_8));
+         add(zip, "archetype-resources/src/main/java/App.java",
+                  "## comment\npackage ${package};\nclass App {}\n".getBytes(StandardCharsets.UTF_8));
+         add(zip, "archetype-resources/src/main/webapp/__greeting__.txt",
+                  "${greeting} ${artifactId}".getBytes(StandardCharsets.UTF_8));
+         add(zip, "archetype-resources/src/main/webapp/logo.png", IMAGE);
+         add(zip, "META-INF/maven/archetype-metadata.xml", METADATA.getBytes(StandardCharsets.UTF_8));
+      }
+      File outputDir = new File(folder.getRoot(), "output");
+      ArchetypeHelper helper = new ArchetypeHelper(archetype, outputDir, "org.example", "demo", "1.0");
+      assertEquals(Collections.singletonMap("greeting", "Hello"), helper.parseProperties());
+
+      CountingProgressMonitor monitor = new CountingProgressMonitor();
+      helper.setProgressMonitor(monitor);
+      assertEquals(0, helper.execute());
+      assertEquals(4, monitor.total);
+      assertEquals(4, monitor.worked);
+
+      assertEquals("<project><groupId>org.example</groupId><artifactId>demo</artifactId>"
+               + "<version>1.0</version><name>Hello</name></project>\n", read(new File(outputDir, "pom.xml")));
+      assertEquals("package org.example.demo;\nclass App {}\n",
+               read(new File(outputDir, "src/main/java/org/example/demo/App.java")));
+      assertEquals("Hello demo\n", read(new File(outputDir, "src/main/webapp/Hello.txt")));
+      assertArrayEquals(IMAGE, Files.readAllBytes(new File(outputDir, "src/main/webapp/logo.png").toPath()));
+      assertTrue(new File(outputDir, "src/test/java/org/example/demo").isDirectory());
+   }
+
+   private static void add(ZipOutputStream zip, String name, byte[] contents) throws Exception
+   {
+      zip.putNextEntry(new ZipEntry(name));
+      zip.write(contents);
+      zip.closeEntry();
+   }
+
+   private static String read(File file) throws Exception
+   {
+      return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+   }
+
+   private static class CountingProgressMonitor extends DefaultUIProgressMonitor
+   {
+      private int total;
+      private int worked;
+
+      @Override
+      public void beginTask(String name, int totalWork)
+      {
+         total = totalWork;
+      }
+
+      @Override
+      public void worked(int work)
+      {
+         worked += work;
+      }
+   }
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.maven.addon.projects.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Properties;
+
+import org.jboss.forge.addon.maven.projects.util.PropertyInterpolator;
+import org.junit.Test;
+
+/**
+ * Test case for {@link PropertyInterpolator} class
+ */
+public class PropertyInterpolatorTest
+{
+   @Test
+   public void testInterpolate()
+   {
+      Properties properties = new Properties();
+      properties.setProperty("version.arquillian", "1.1.8.Final");
+      properties.setProperty("groupId", "org.jboss.arquillian");
+      PropertyInterpolator interpolator = new PropertyInterpolator(properties);
+      assertEquals("org.jboss.arquillian:arquillian-bom:1.1.8.Final",
+               interpolator.interpolate("${groupId}:arquillian-bom:${version.arquillian}"));
+      assertEquals("1.1.8.Final", interpolator.interpolate("${version.arquillian}"));
+      assertEquals("no properties", interpolator.interpolate("no properties"));
+      assertNull(interpolator.interpolate(null));
+   }
+
+   @Test
+   public void testInterpolateNestedProperties()
+   {
+      Properties properties = new Properties();
+      properties.setProperty("version.major", "2");
+      properties.setProperty("version.minor", "${version.major}.15");
+      properties.setProperty("version.forge", "${version.minor}.3");
+      PropertyInterpolator interpolator = new PropertyInterpolator(properties);
+      assertEquals("2.15.3", interpolator.interpolate("${version.forge}"));
+      assertEquals("2.15", interpolator.interpolate("${version.minor}"));
+   }
+
+   @Test
+   public void testKeepUnresolvedExpressions()
+   {
+      Properties properties = new Properties();
+      properties.setProperty("a", "${b}");
+      properties.setProperty("b", "${a}");
+      properties.setProperty("dollar", "$1");
+      PropertyInterpolator interpolator = new PropertyInterpolator(properties);
+      assertEquals("${unknown}", interpolator.interpolate("${unknown}"));
+      assertEquals("${b", interpolator.interpolate("${b"));
+      assertEquals("${a}", interpolator.interpolate("${a}"));
+      assertEquals("$1 and ${}", interpolator.interpolate("${dollar} and ${}"));
+   }
+
+   @Test
+   public void testCyclicValuesAreNotReused()
+   {
+      Properties properties = new Properties();
+      properties.setProperty("a", "${b}");
+      properties.setProperty("b", "${a}");
+      properties.setProperty("c", "${a}-${d}");
+      properties.setProperty("d", "value");
+      PropertyInterpolator interpolator = new PropertyInterpolator(properties);
+      assertEquals("${a}", interpolator.interpolate("${a}"));
+      assertEquals("${b}", interpolator.interpolate("${b}"));
+      assertEquals("${a}-value", interpolator.interpolate("${c}"));
+      assertEquals("${b}", interpolator.interpolate("${b}"));
+      assertEquals("value", interpolator.interpolate("${d}"));
+   }
+
+   @Test
+   public void testInterpolateWithManyProperties()
+   {
+      // Sized like a project importing a few BOMs
+      int count = 2000;
+      Properties properties = new Properties();
+      for (int i = 0; i < count; i++)
+      {
+         properties.setProperty("version.artifact" + i, "1.0." + i);
+         properties.setProperty("artifact" + i, "org.example:artifact" + i + ":${version.artifact" + i + "}");
+      }
+      PropertyInterpolator interpolator = new PropertyInterpolator(properties);
+      for (int i = 0; i < count; i++)
+      {
+         assertEquals("org.example:artifact" + i + ":1.0." + i, interpolator.interpolate("${artifact" + i + "}"));
+      }
+      String text = "version.artifact" + (count - 1);
+      assertSame(text, interpolator.interpolate(text));
+   }
+}
@@ -9,8 +9,10 @@ package org.jboss.forge.addon.maven.archetype;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.logging.Level;
@@ -21,6 +23,8 @@ import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import org.apache.maven.archetype.catalog.Archetype;
+import org.apache.maven.archetype.catalog.ArchetypeCatalog;
 import org.jboss.forge.addon.configuration.Configuration;
 import org.jboss.forge.addon.configuration.Subset;
 import org.jboss.forge.furnace.services.Imported;
@@ -128,6 +132,38 @@ public class ArchetypeCatalogFactoryRegistryImpl implements ArchetypeCatalogFact
       factories.remove(name);
    }
 
+   @Override
+   public Iterable<Archetype> getArchetypes(String coordinatePrefix)
+   {
+      String prefix = coordinatePrefix == null ? "" : coordinatePrefix;
+      List<Archetype> result = new ArrayList<>();
+      for (ArchetypeCatalogFactory factory : getArchetypeCatalogFactories())
+      {
+         if (factory instanceof URLArchetypeCatalogFactory)
+         {
+            // Served from the catalog index
+            result.addAll(((URLArchetypeCatalogFactory) factory).getArchetypes(prefix));
+         }
+         else
+         {
+            ArchetypeCatalog catalog = factory.getArchetypeCatalog();
+            if (catalog != null)
+            {
+               for (Archetype archetype : catalog.getArchetypes())
+               {
+                  String coordinate = archetype.getGroupId() + ":" + archetype.getArtifactId() + ":"
+                           + archetype.getVersion();
+                  if (coordinate.startsWith(prefix))
+                  {
+                     result.add(archetype);
+                  }
+               }
+            }
+         }
+      }
+      return result;
+   }
+
    @Override
    public boolean hasArchetypeCatalogFactories()
    {
@@ -0,0 +1,375 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.maven.archetype;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.enterprise.inject.Vetoed;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.maven.archetype.catalog.Archetype;
+import org.apache.maven.archetype.catalog.ArchetypeCatalog;
+import org.jboss.forge.furnace.util.Strings;
+
+/**
+ * Keeps the archetypes of an archetype catalog in a local index file.
+ *
+ * The catalog is streamed and written to the index one archetype at a time, so it is never held in memory as a whole.
+ * The index is read instead of the catalog while it is younger than {@link #REFRESH_INTERVAL}; after that, the catalog
+ * is downloaded again in the background, only if it changed (using the ETag and Last-Modified headers of the previous
+ * download). Archetypes can be looked up by a prefix of their <code>groupId:artifactId:version</code> coordinate.
+ */
+@Vetoed
+class ArchetypeCatalogStore
+{
+   static final long REFRESH_INTERVAL = TimeUnit.DAYS.toMillis(1);
+
+   private static final String ETAG = "#etag=";
+   private static final String LAST_MODIFIED = "#last-modified=";
+   private static final char SEPARATOR = '\t';
+   private static final List<String> FIELDS = Arrays.asList("groupId", "artifactId", "version", "repository",
+            "description");
+
+   private static final Logger log = Logger.getLogger(ArchetypeCatalogStore.class.getName());
+
+   private final URL catalogURL;
+   private final String defaultRepository;
+   private final File indexFile;
+
+   private volatile Index index;
+   private boolean refreshing;
+
+   ArchetypeCatalogStore(URL catalogURL, String defaultRepository, File indexFile)
+   {
+      this.catalogURL = catalogURL;
+      this.defaultRepository = defaultRepository;
+      this.indexFile = indexFile;
+   }
+
+   /**
+    * @return the catalog, in the order it was defined. Null if it could not be read
+    */
+   ArchetypeCatalog getArchetypeCatalog()
+   {
+      Index current = getIndex();
+      return current == null ? null : current.catalog;
+   }
+
+   /**
+    * @return the archetypes whose <code>groupId:artifactId:version</code> coordinate starts with the given prefix
+    */
+   Collection<Archetype> getArchetypes(String prefix)
+   {
+      Index current = getIndex();
+      if (current == null)
+      {
+         return Collections.emptyList();
+      }
+      if (Strings.isNullOrEmpty(prefix))
+      {
+         return current.byCoordinate.values();
+      }
+      return current.byCoordinate.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+   }
+
+   private synchronized Index getIndex()
+   {
+      if (index == null && indexFile.isFile())
+      {
+         try
+         {
+            index = readIndex();
+         }
+         catch (IOException e)
+         {
+            log.log(Level.WARNING, "Could not read archetype catalog index " + indexFile, e);
+         }
+      }
+      if (index == null)
+      {
+         // Nothing to show until the catalog is read
+         refresh();
+      }
+      else if (!refreshing && System.currentTimeMillis() - indexFile.lastModified() > REFRESH_INTERVAL)
+      {
+         refreshing = true;
+         Thread thread = new Thread(new Runnable()
+         {
+            @Override
+            public void run()
+            {
+               refresh();
+            }
+         }, "Archetype catalog refresh: " + catalogURL);
+         thread.setDaemon(true);
+         thread.start();
+      }
+      return index;
+   }
+
+   /**
+    * Downloads the catalog if it changed since the index was written
+    */
+   private void refresh()
+   {
+      try
+      {
+         Index current = index;
+         URLConnection connection = catalogURL.openConnection();
+         if (current != null && connection instanceof HttpURLConnection)
+         {
+            if (current.etag != null)
+               connection.setRequestProperty("If-None-Match", current.etag);
+            if (current.lastModified > 0)
+               connection.setIfModifiedSince(current.lastModified);
+         }
+         try (InputStream stream = connection.getInputStream())
+         {
+            boolean notModified = (connection instanceof HttpURLConnection)
+                     ? ((HttpURLConnection) connection).getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED
+                     : current != null && current.lastModified > 0
+                              && current.lastModified == connection.getLastModified();
+            if (notModified)
+            {
+               indexFile.setLastModified(System.currentTimeMillis());
+            }
+            else
+            {
+               index = writeIndex(stream, connection.getHeaderField("ETag"), connection.getLastModified());
+            }
+         }
+      }
+      catch (IOException | XMLStreamException e)
+      {
+         log.log(Level.SEVERE, "Error while retrieving archetypes from " + catalogURL, e);
+      }
+      finally
+      {
+         synchronized (this)
+         {
+            refreshing = false;
+         }
+      }
+   }
+
+   private Index writeIndex(InputStream stream, String etag, long lastModified) throws IOException,
+            XMLStreamException
+   {
+      File parent = indexFile.getAbsoluteFile().getParentFile();
+      parent.mkdirs();
+      File tempFile = File.createTempFile(indexFile.getName(), ".tmp", parent);
+      Index result = new Index(etag, lastModified);
+      try
+      {
+         try (Writer writer = Files.newBufferedWriter(tempFile.toPath(), StandardCharsets.UTF_8))
+         {
+            if (etag != null)
+               writer.write(ETAG + etag + "\n");
+            if (lastModified > 0)
+               writer.write(LAST_MODIFIED + lastModified + "\n");
+            XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(stream);
+            try
+            {
+               Archetype archetype = null;
+               while (reader.hasNext())
+               {
+                  int event = reader.next();
+                  if (event == XMLStreamConstants.START_ELEMENT)
+                  {
+                     String element = reader.getLocalName();
+                     if ("archetype".equals(element))
+                     {
+                        archetype = new Archetype();
+                     }
+                     else if (archetype != null && FIELDS.contains(element))
+                     {
+                        // Tabs and line breaks are not kept, as in the index
+                        setField(archetype, element, field(reader.getElementText().trim()));
+                     }
+                  }
+                  else if (event == XMLStreamConstants.END_ELEMENT && "archetype".equals(reader.getLocalName())
+                           && archetype != null)
+                  {
+                     writeLine(writer, archetype);
+                     result.add(archetype, defaultRepository);
+                     archetype = null;
+                  }
+               }
+            }
+            finally
+            {
+               reader.close();
+            }
+         }
+         Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+      finally
+      {
+         tempFile.delete();
+      }
+      return result;
+   }
+
+   private Index readIndex() throws IOException
+   {
+      try (BufferedReader reader = Files.newBufferedReader(indexFile.toPath(), StandardCharsets.UTF_8))
+      {
+         String etag = null;
+         long lastModified = 0;
+         Index result = null;
+         String line;
+         while ((line = reader.readLine()) != null)
+         {
+            if (line.startsWith(ETAG))
+            {
+               etag = line.substring(ETAG.length());
+            }
+            else if (line.startsWith(LAST_MODIFIED))
+            {
+               lastModified = Long.parseLong(line.substring(LAST_MODIFIED.length()));
+            }
+            else
+            {
+               if (result == null)
+               {
+                  result = new Index(etag, lastModified);
+               }
+               result.add(readLine(line), defaultRepository);
+            }
+         }
+         return result == null ? new Index(etag, lastModified) : result;
+      }
+   }
+
+   private static void setField(Archetype archetype, String element, String value)
+   {
+      switch (element)
+      {
+      case "groupId":
+         archetype.setGroupId(value);
+         break;
+      case "artifactId":
+         archetype.setArtifactId(value);
+         break;
+      case "version":
+         archetype.setVersion(value);
+         break;
+      case "repository":
+         archetype.setRepository(value);
+         break;
+      case "description":
+         archetype.setDescription(value);
+         break;
+      default:
+         break;
+      }
+   }
+
+   private static void writeLine(Writer writer, Archetype archetype) throws IOException
+   {
+      writer.write(field(archetype.getGroupId()));
+      writer.write(SEPARATOR);
+      writer.write(field(archetype.getArtifactId()));
+      writer.write(SEPARATOR);
+      writer.write(field(archetype.getVersion()));
+      writer.write(SEPARATOR);
+      writer.write(field(archetype.getRepository()));
+      writer.write(SEPARATOR);
+      writer.write(field(archetype.getDescription()));
+      writer.write('\n');
+   }
+
+   private static Archetype readLine(String line)
+   {
+      List<String> fields = new ArrayList<>(5);
+      int start = 0;
+      int end;
+      while ((end = line.indexOf(SEPARATOR, start)) >= 0)
+      {
+         fields.add(line.substring(start, end));
+         start = end + 1;
+      }
+      fields.add(line.substring(start));
+      while (fields.size() < 5)
+      {
+         fields.add("");
+      }
+      Archetype archetype = new Archetype();
+      archetype.setGroupId(value(fields.get(0)));
+      archetype.setArtifactId(value(fields.get(1)));
+      archetype.setVersion(value(fields.get(2)));
+      archetype.setRepository(value(fields.get(3)));
+      archetype.setDescription(value(fields.get(4)));
+      return archetype;
+   }
+
+   private static String field(String value)
+   {
+      if (value == null)
+      {
+         return "";
+      }
+      return value.replace(SEPARATOR, ' ').replace('\r', ' ').replace('\n', ' ');
+   }
+
+   private static String value(String field)
+   {
+      return field.isEmpty() ? null : field;
+   }
+
+   /**
+    * The archetypes read from the index. Not modified once published
+    */
+   private static class Index
+   {
+      private final String etag;
+      private final long lastModified;
+      private final ArchetypeCatalog catalog = new ArchetypeCatalog();
+      private final NavigableMap<String, Archetype> byCoordinate = new TreeMap<>();
+
+      Index(String etag, long lastModified)
+      {
+         this.etag = etag;
+         this.lastModified = lastModified;
+      }
+
+      void add(Archetype archetype, String defaultRepository)
+      {
+         if (Strings.isNullOrEmpty(archetype.getRepository()))
+         {
+            archetype.setRepository(defaultRepository);
+         }
+         catalog.addArchetype(archetype);
+         byCoordinate.put(archetype.getGroupId() + ":" + archetype.getArtifactId() + ":" + archetype.getVersion(),
+                  archetype);
+      }
+   }
+}
@@ -7,35 +7,32 @@
 
 package org.jboss.forge.addon.maven.archetype;
 
-import java.io.InputStream;
+import java.io.File;
 import java.net.URL;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.util.Collection;
 
 import javax.enterprise.inject.Vetoed;
 
 import org.apache.maven.archetype.catalog.Archetype;
 import org.apache.maven.archetype.catalog.ArchetypeCatalog;
-import org.apache.maven.archetype.catalog.io.xpp3.ArchetypeCatalogXpp3Reader;
 import org.jboss.forge.furnace.util.Assert;
-import org.jboss.forge.furnace.util.Strings;
+import org.jboss.forge.furnace.util.OperatingSystemUtils;
 
 /**
  * An {@link ArchetypeCatalogFactory} implementation using an {@link URL} as the
- * source
+ * source. The catalog is kept in an {@link ArchetypeCatalogStore} index under the
+ * Forge directory
  *
  * @author <a href="ggastald@redhat.com">George Gastaldi</a>
  */
 @Vetoed
 class URLArchetypeCatalogFactory implements ArchetypeCatalogFactory
 {
-    private final Logger logger = Logger.getLogger(getClass().getName());
-
     private final String name;
     private final URL catalogURL;
     private final String defaultRepository;
 
-    private ArchetypeCatalog cachedArchetypes;
+    private final ArchetypeCatalogStore store;
 
     public URLArchetypeCatalogFactory(String name, URL catalogURL, String defaultRepository)
     {
@@ -45,6 +42,7 @@ class URLArchetypeCatalogFactory implements ArchetypeCatalogFactory
         this.name = name;
         this.catalogURL = catalogURL;
         this.defaultRepository = defaultRepository;
+        this.store = new ArchetypeCatalogStore(catalogURL, defaultRepository, getIndexFile(catalogURL));
     }
 
     public URLArchetypeCatalogFactory(String name, URL catalogUrl)
@@ -65,6 +63,12 @@ class URLArchetypeCatalogFactory implements ArchetypeCatalogFactory
         return url.substring(0, idx);
     }
 
+    private static File getIndexFile(URL catalog)
+    {
+        String fileName = catalog.toString().replaceAll("[^A-Za-z0-9.-]", "_") + ".idx";
+        return new File(OperatingSystemUtils.getUserForgeDir(), "archetypes" + File.separator + fileName);
+    }
+
     @Override
     public String getName()
     {
@@ -74,24 +78,16 @@ class URLArchetypeCatalogFactory implements ArchetypeCatalogFactory
     @Override
     public ArchetypeCatalog getArchetypeCatalog()
     {
-        if (cachedArchetypes == null)
-        {
-            try (InputStream urlStream = catalogURL.openStream())
-            {
-                cachedArchetypes = new ArchetypeCatalogXpp3Reader().read(urlStream);
-                for (Archetype archetype : cachedArchetypes.getArchetypes())
-                {
-                    if (Strings.isNullOrEmpty(archetype.getRepository()))
-                    {
-                        archetype.setRepository(defaultRepository);
-                    }
-                }
-            } catch (Exception e)
-            {
-                logger.log(Level.SEVERE, "Error while retrieving archetypes", e);
-            }
-        }
-        return cachedArchetypes;
+        return store.getArchetypeCatalog();
+    }
+
+    /**
+     * @return the archetypes whose <code>groupId:artifactId:version</code>
+     *         coordinate starts with the given prefix
+     */
+    public Collection<Archetype> getArchetypes(String coordinatePrefix)
+    {
+        return store.getArchetypes(coordinatePrefix);
     }
 
     @Override
@@ -0,0 +1,192 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.maven.dependencies;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.enterprise.inject.Vetoed;
+
+import org.jboss.forge.furnace.util.Strings;
+
+/**
+ * Indexes the versions and artifact files installed in a local Maven repository.
+ *
+ * An artifact is indexed the first time it is looked up. The index is kept up to date incrementally: a directory is
+ * scanned again only when its last modification time changes, which happens whenever a version is installed or
+ * removed. Version directories holding nothing but failed download markers (<code>*.lastUpdated</code>) are not
+ * counted as installed.
+ */
+@Vetoed
+class LocalRepositoryIndex
+{
+   private static final String FAILED_DOWNLOAD_SUFFIX = ".lastUpdated";
+
+   private static final ConcurrentMap<File, LocalRepositoryIndex> indexes = new ConcurrentHashMap<>();
+
+   private final File repositoryDir;
+   private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+   LocalRepositoryIndex(File repositoryDir)
+   {
+      this.repositoryDir = repositoryDir;
+   }
+
+   /**
+    * @return the shared index of the given local repository
+    */
+   static LocalRepositoryIndex forRepository(File repositoryDir)
+   {
+      File key = repositoryDir.getAbsoluteFile();
+      LocalRepositoryIndex index = indexes.get(key);
+      if (index == null)
+      {
+         LocalRepositoryIndex newIndex = new LocalRepositoryIndex(key);
+         index = indexes.putIfAbsent(key, newIndex);
+         if (index == null)
+         {
+            index = newIndex;
+         }
+      }
+      return index;
+   }
+
+   /**
+    * @return the versions of the given artifact installed in the local repository, in no particular order
+    */
+   Set<String> getVersions(String groupId, String artifactId)
+   {
+      Entry entry = getEntry(groupId, artifactId);
+      return entry == null ? Collections.<String> emptySet() : entry.versions;
+   }
+
+   /**
+    * @return the file of the given artifact in the local repository, or <code>null</code> if it is not installed
+    */
+   File getArtifactFile(String groupId, String artifactId, String version, String classifier, String extension)
+   {
+      Entry entry = getEntry(groupId, artifactId);
+      if (entry == null || !entry.versions.contains(version))
+      {
+         return null;
+      }
+      StringBuilder name = new StringBuilder(artifactId).append('-').append(version);
+      if (!Strings.isNullOrEmpty(classifier))
+      {
+         name.append('-').append(classifier);
+      }
+      name.append('.').append(Strings.isNullOrEmpty(extension) ? "jar" : extension);
+      File file = new File(new File(entry.directory, version), name.toString());
+      return file.isFile() ? file : null;
+   }
+
+   private Entry getEntry(String groupId, String artifactId)
+   {
+      String key = groupId + ":" + artifactId;
+      File directory = new File(repositoryDir, groupId.replace('.', File.separatorChar) + File.separator + artifactId);
+      long lastModified = directory.lastModified();
+      if (lastModified == 0L)
+      {
+         entries.remove(key);
+         return null;
+      }
+      Entry entry = entries.get(key);
+      if (entry == null || entry.isStale(lastModified))
+      {
+         entry = scan(directory, artifactId, lastModified);
+         entries.put(key, entry);
+      }
+      return entry;
+   }
+
+   private static Entry scan(File directory, String artifactId, long lastModified)
+   {
+      Set<String> versions = new HashSet<>();
+      Map<File, Long> incomplete = new HashMap<>();
+      File[] children = directory.listFiles();
+      if (children != null)
+      {
+         for (File child : children)
+         {
+            if (child.isDirectory())
+            {
+               if (isInstalled(child, artifactId))
+               {
+                  versions.add(child.getName());
+               }
+               else
+               {
+                  incomplete.put(child, child.lastModified());
+               }
+            }
+         }
+      }
+      return new Entry(directory, lastModified, Collections.unmodifiableSet(versions), incomplete);
+   }
+
+   private static boolean isInstalled(File versionDir, String artifactId)
+   {
+      String[] names = versionDir.list();
+      if (names != null)
+      {
+         String prefix = artifactId + "-";
+         for (String name : names)
+         {
+            if (name.startsWith(prefix) && !name.endsWith(FAILED_DOWNLOAD_SUFFIX))
+            {
+               return true;
+            }
+         }
+      }
+      return false;
+   }
+
+   /**
+    * The versions found in an artifact directory. Not modified once published
+    */
+   private static class Entry
+   {
+      private final File directory;
+      private final long lastModified;
+      private final Set<String> versions;
+      private final Map<File, Long> incomplete;
+
+      Entry(File directory, long lastModified, Set<String> versions, Map<File, Long> incomplete)
+      {
+         this.directory = directory;
+         this.lastModified = lastModified;
+         this.versions = versions;
+         this.incomplete = incomplete;
+      }
+
+      /**
+       * A version directory that had no artifacts may have received them since it was scanned
+       */
+      boolean isStale(long directoryLastModified)
+      {
+         if (lastModified != directoryLastModified)
+         {
+            return true;
+         }
+         for (Map.Entry<File, Long> entry : incomplete.entrySet())
+         {
+            if (entry.getKey().lastModified() != entry.getValue())
+            {
+               return true;
+            }
+         }
+         return false;
+      }
+   }
+}
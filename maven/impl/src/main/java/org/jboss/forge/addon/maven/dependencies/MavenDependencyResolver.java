@@ -7,7 +7,9 @@
 
 package org.jboss.forge.addon.maven.dependencies;
 
+import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -23,6 +25,7 @@ import org.eclipse.aether.collection.DependencyCollectionContext;
 import org.eclipse.aether.collection.DependencyTraverser;
 import org.eclipse.aether.graph.DependencyNode;
 import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.RepositoryPolicy;
 import org.eclipse.aether.resolution.ArtifactDescriptorRequest;
 import org.eclipse.aether.resolution.ArtifactDescriptorResult;
 import org.eclipse.aether.resolution.ArtifactRequest;
@@ -34,7 +37,13 @@ import org.eclipse.aether.resolution.DependencyResult;
 import org.eclipse.aether.resolution.VersionRangeRequest;
 import org.eclipse.aether.resolution.VersionRangeResult;
 import org.eclipse.aether.util.graph.selector.ScopeDependencySelector;
+import org.eclipse.aether.util.version.GenericVersionScheme;
+import org.eclipse.aether.version.InvalidVersionSpecificationException;
 import org.eclipse.aether.version.Version;
+import org.eclipse.aether.version.VersionConstraint;
+import org.eclipse.aether.version.VersionScheme;
+import org.jboss.forge.addon.configuration.Configuration;
+import org.jboss.forge.addon.configuration.Subset;
 import org.jboss.forge.addon.dependencies.Coordinate;
 import org.jboss.forge.addon.dependencies.Dependency;
 import org.jboss.forge.addon.dependencies.DependencyException;
@@ -53,10 +62,26 @@ import org.jboss.forge.furnace.manager.maven.util.MavenRepositories;
 import org.jboss.forge.furnace.util.Predicate;
 import org.jboss.forge.furnace.util.Strings;
 
+/**
+ * Resolves dependencies through Aether.
+ *
+ * When the <code>maven.dependencies.offlineFirst</code> configuration key is set (or Maven is offline), version queries
+ * and artifacts are answered from the {@link LocalRepositoryIndex} first, and cached repository metadata is not
+ * checked for updates: remote repositories are only used for what is missing in the local repository.
+ *
+ * @author <a href="ggastald@redhat.com">George Gastaldi</a>
+ */
 public class MavenDependencyResolver implements DependencyResolver
 {
+   private static final String OFFLINE_FIRST = "offlineFirst";
+
    private final MavenContainer container;
    private final ResourceFactory factory;
+   private final VersionScheme versionScheme = new GenericVersionScheme();
+
+   @Inject
+   @Subset("maven.dependencies")
+   private Configuration configuration;
 
    @Inject
    public MavenDependencyResolver(ResourceFactory factory, MavenContainer container)
@@ -74,7 +99,7 @@ public class MavenDependencyResolver implements DependencyResolver
       RepositorySystem system = container.getRepositorySystem();
       Settings settings = container.getSettings();
 
-      DefaultRepositorySystemSession session = container.setupRepoSession(system, settings);
+      DefaultRepositorySystemSession session = setupRepoSession(system, settings);
 
       Artifact queryArtifact = MavenConvertUtils.coordinateToMavenArtifact(query.getCoordinate());
 
@@ -156,8 +181,17 @@ public class MavenDependencyResolver implements DependencyResolver
          RepositorySystem maven = container.getRepositorySystem();
          Settings settings = container.getSettings();
 
-         DefaultRepositorySystemSession session = container.setupRepoSession(maven, settings);
          Artifact artifact = MavenConvertUtils.coordinateToMavenArtifact(dep);
+         if (isOfflineFirst(settings))
+         {
+            VersionRangeResult localResult = getLocalVersions(settings, artifact);
+            if (localResult != null)
+            {
+               return localResult;
+            }
+         }
+
+         DefaultRepositorySystemSession session = setupRepoSession(maven, settings);
          List<RemoteRepository> remoteRepos = MavenConvertUtils.convertToMavenRepos(query.getDependencyRepositories(),
                   settings);
          remoteRepos.addAll(MavenRepositories.getRemoteRepositories(container, settings));
@@ -173,34 +207,63 @@ public class MavenDependencyResolver implements DependencyResolver
       }
    }
 
+   /**
+    * Returns the versions of a specific artifact installed in the local repository
+    * 
+    * @return <code>null</code> if no version matches
+    */
+   private VersionRangeResult getLocalVersions(Settings settings, Artifact artifact)
+            throws InvalidVersionSpecificationException
+   {
+      VersionConstraint constraint = versionScheme.parseVersionConstraint(artifact.getVersion());
+      List<Version> versions = new ArrayList<>();
+      for (String localVersion : getLocalIndex(settings).getVersions(artifact.getGroupId(), artifact.getArtifactId()))
+      {
+         Version version = versionScheme.parseVersion(localVersion);
+         if (constraint.containsVersion(version))
+         {
+            versions.add(version);
+         }
+      }
+      if (versions.isEmpty())
+      {
+         return null;
+      }
+      Collections.sort(versions);
+      VersionRangeResult result = new VersionRangeResult(new VersionRangeRequest(artifact, null, null));
+      result.setVersionConstraint(constraint);
+      result.setVersions(versions);
+      return result;
+   }
+
    @Override
    public Dependency resolveArtifact(DependencyQuery query)
    {
       RepositorySystem system = container.getRepositorySystem();
       Settings settings = container.getSettings();
 
+      Artifact queryArtifact = MavenConvertUtils.coordinateToMavenArtifact(query.getCoordinate());
+      if (isOfflineFirst(settings))
+      {
+         File file = getLocalIndex(settings).getArtifactFile(queryArtifact.getGroupId(),
+                  queryArtifact.getArtifactId(), queryArtifact.getBaseVersion(), queryArtifact.getClassifier(),
+                  queryArtifact.getExtension());
+         if (file != null)
+         {
+            return toDependency(queryArtifact.setFile(file));
+         }
+      }
+
       List<RemoteRepository> remoteRepos = MavenConvertUtils.convertToMavenRepos(query.getDependencyRepositories(),
                settings);
       remoteRepos.addAll(MavenRepositories.getRemoteRepositories(container, settings));
 
-      DefaultRepositorySystemSession session = container.setupRepoSession(system, settings);
-      Artifact queryArtifact = MavenConvertUtils.coordinateToMavenArtifact(query.getCoordinate());
+      DefaultRepositorySystemSession session = setupRepoSession(system, settings);
       ArtifactRequest request = new ArtifactRequest(queryArtifact, remoteRepos, null);
       try
       {
          ArtifactResult resolvedArtifact = system.resolveArtifact(session, request);
-         Artifact artifact = resolvedArtifact.getArtifact();
-
-         @SuppressWarnings("unchecked")
-         FileResource<?> artifactResource = factory.create(FileResource.class, artifact.getFile());
-
-         return DependencyBuilder.create()
-                  .setArtifact(artifactResource)
-                  .setGroupId(artifact.getGroupId())
-                  .setArtifactId(artifact.getArtifactId())
-                  .setClassifier(artifact.getClassifier())
-                  .setPackaging(artifact.getExtension())
-                  .setVersion(artifact.getBaseVersion());
+         return toDependency(resolvedArtifact.getArtifact());
       }
       catch (ArtifactResolutionException e)
       {
@@ -208,6 +271,20 @@ public class MavenDependencyResolver implements DependencyResolver
       }
    }
 
+   private Dependency toDependency(Artifact artifact)
+   {
+      @SuppressWarnings("unchecked")
+      FileResource<?> artifactResource = factory.create(FileResource.class, artifact.getFile());
+
+      return DependencyBuilder.create()
+               .setArtifact(artifactResource)
+               .setGroupId(artifact.getGroupId())
+               .setArtifactId(artifact.getArtifactId())
+               .setClassifier(artifact.getClassifier())
+               .setPackaging(artifact.getExtension())
+               .setVersion(artifact.getBaseVersion());
+   }
+
    @Override
    public org.jboss.forge.addon.dependencies.DependencyNode resolveDependencyHierarchy(final DependencyQuery query)
    {
@@ -215,7 +292,7 @@ public class MavenDependencyResolver implements DependencyResolver
       {
          RepositorySystem system = container.getRepositorySystem();
          Settings settings = container.getSettings();
-         DefaultRepositorySystemSession session = container.setupRepoSession(system, settings);
+         DefaultRepositorySystemSession session = setupRepoSession(system, settings);
          session.setDependencyTraverser(new DependencyTraverser()
          {
             @Override
@@ -269,7 +346,7 @@ public class MavenDependencyResolver implements DependencyResolver
          RepositorySystem system = container.getRepositorySystem();
          Settings settings = container.getSettings();
 
-         DefaultRepositorySystemSession session = container.setupRepoSession(system, settings);
+         DefaultRepositorySystemSession session = setupRepoSession(system, settings);
          Artifact artifact = MavenConvertUtils.coordinateToMavenArtifact(query.getCoordinate());
 
          List<RemoteRepository> remoteRepos = MavenConvertUtils.convertToMavenRepos(query.getDependencyRepositories(),
@@ -289,4 +366,30 @@ public class MavenDependencyResolver implements DependencyResolver
          throw new DependencyException("Unable to resolve any artifacts for query [" + query + "]", e);
       }
    }
+
+   private boolean isOfflineFirst(Settings settings)
+   {
+      return settings.isOffline() || (configuration != null && configuration.getBoolean(OFFLINE_FIRST, false));
+   }
+
+   private DefaultRepositorySystemSession setupRepoSession(RepositorySystem system, Settings settings)
+   {
+      DefaultRepositorySystemSession session = container.setupRepoSession(system, settings);
+      if (isOfflineFirst(settings))
+      {
+         // Metadata already in the local repository is not checked for updates; missing metadata is still downloaded
+         session.setUpdatePolicy(RepositoryPolicy.UPDATE_POLICY_NEVER);
+      }
+      return session;
+   }
+
+   private LocalRepositoryIndex getLocalIndex(Settings settings)
+   {
+      String localRepository = settings.getLocalRepository();
+      if (Strings.isNullOrEmpty(localRepository))
+      {
+         localRepository = System.getProperty("user.home") + File.separator + ".m2" + File.separator + "repository";
+      }
+      return LocalRepositoryIndex.forRepository(new File(localRepository));
+   }
 }
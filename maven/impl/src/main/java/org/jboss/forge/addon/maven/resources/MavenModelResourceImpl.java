@@ -10,7 +10,9 @@ package org.jboss.forge.addon.maven.resources;
 import java.io.File;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.enterprise.inject.Vetoed;
 
@@ -33,61 +35,80 @@ public class MavenModelResourceImpl extends XMLResourceImpl implements MavenMode
 {
    private Model currentModel;
 
-   public MavenModelResourceImpl(final ResourceFactory factory, final File file)
+   private final Section<Dependency> dependencies = new Section<Dependency>()
    {
-      super(factory, file);
-   }
+      @Override
+      List<Dependency> getElements(Model model)
+      {
+         return model.getDependencies();
+      }
 
-   @Override
-   public Resource<?> getChild(String name)
-   {
-      List<Resource<?>> chidren = listResources();
+      @Override
+      Resource<?> createResource(Dependency dependency)
+      {
+         return new MavenDependencyResourceImpl(getResourceFactory(), MavenModelResourceImpl.this, dependency);
+      }
+   };
 
-      for (Resource<?> child : chidren)
+   private final Section<Profile> profiles = new Section<Profile>()
+   {
+      @Override
+      List<Profile> getElements(Model model)
       {
-         if (child.getName().trim().equals(name))
-            return child;
+         return model.getProfiles();
       }
 
-      return null;
-   }
+      @Override
+      Resource<?> createResource(Profile profile)
+      {
+         return new MavenProfileResourceImpl(getResourceFactory(), MavenModelResourceImpl.this, profile);
+      }
+   };
 
-   @Override
-   protected List<Resource<?>> doListResources()
+   private final Section<Repository> repositories = new Section<Repository>()
    {
-      List<Resource<?>> children = new ArrayList<>();
-      listDependencies(children);
-      listProfiles(children);
-      listRepositories(children);
-      return children;
-   }
+      @Override
+      List<Repository> getElements(Model model)
+      {
+         return model.getRepositories();
+      }
 
-   private void listRepositories(List<Resource<?>> children)
-   {
-      List<Repository> repositories = getCurrentModel().getRepositories();
-      for (Repository repository : repositories)
+      @Override
+      Resource<?> createResource(Repository repository)
       {
-         children.add(new MavenRepositoryResourceImpl(getResourceFactory(), getParent(), repository));
+         return new MavenRepositoryResourceImpl(getResourceFactory(), getParent(), repository);
       }
+   };
+
+   public MavenModelResourceImpl(final ResourceFactory factory, final File file)
+   {
+      super(factory, file);
    }
 
-   private void listDependencies(List<Resource<?>> children)
+   @Override
+   public Resource<?> getChild(String name)
    {
-      Model model = getCurrentModel();
-      for (Dependency dep : model.getDependencies())
+      Resource<?> child = dependencies.getChild(name);
+      if (child == null)
+      {
+         child = profiles.getChild(name);
+      }
+      if (child == null)
       {
-         children.add(new MavenDependencyResourceImpl(getResourceFactory(), this, dep));
+         child = repositories.getChild(name);
       }
+      return child;
    }
 
-   private void listProfiles(List<Resource<?>> children)
+   @Override
+   protected List<Resource<?>> doListResources()
    {
-      Model model = getCurrentModel();
-      List<Profile> profiles = model.getProfiles();
-      for (Profile profile : profiles)
-      {
-         children.add(new MavenProfileResourceImpl(getResourceFactory(), this, profile));
-      }
+      // Sorted by the caller
+      List<Resource<?>> children = new ArrayList<>();
+      children.addAll(dependencies.getChildren());
+      children.addAll(profiles.getChildren());
+      children.addAll(repositories.getChildren());
+      return children;
    }
 
    @Override
@@ -130,4 +151,91 @@ public class MavenModelResourceImpl extends XMLResourceImpl implements MavenMode
          }
       }
    }
+
+   /**
+    * The child resources of a section of the model (eg. the dependencies), created on first use and kept while the
+    * elements of the section are the same
+    */
+   private abstract class Section<T>
+   {
+      private List<T> elements;
+      private Object[] snapshot;
+      private List<Resource<?>> children;
+      private Map<String, Resource<?>> childrenByName;
+
+      abstract List<T> getElements(Model model);
+
+      abstract Resource<?> createResource(T element);
+
+      synchronized List<Resource<?>> getChildren()
+      {
+         update();
+         return children;
+      }
+
+      synchronized Resource<?> getChild(String name)
+      {
+         update();
+         Resource<?> child = childrenByName.get(name);
+         if (child == null || !name.equals(trimmedName(child)))
+         {
+            // An element may have been renamed in place
+            index();
+            child = childrenByName.get(name);
+         }
+         return child;
+      }
+
+      private void update()
+      {
+         List<T> current = getElements(getCurrentModel());
+         if (current != elements || !isUnchanged(current))
+         {
+            elements = current;
+            snapshot = current.toArray();
+            children = new ArrayList<>(snapshot.length);
+            for (T element : current)
+            {
+               children.add(createResource(element));
+            }
+            index();
+         }
+      }
+
+      private boolean isUnchanged(List<T> current)
+      {
+         if (current.size() != snapshot.length)
+         {
+            return false;
+         }
+         for (int i = 0; i < snapshot.length; i++)
+         {
+            if (current.get(i) != snapshot[i])
+            {
+               return false;
+            }
+         }
+         return true;
+      }
+
+      private void index()
+      {
+         childrenByName = new HashMap<>();
+         for (Resource<?> child : children)
+         {
+            String name = trimmedName(child);
+            // The first child with a given name is returned
+            if (name != null && !childrenByName.containsKey(name))
+            {
+               childrenByName.put(name, child);
+            }
+         }
+      }
+
+      private String trimmedName(Resource<?> child)
+      {
+         String name = child.getName();
+         return name == null ? null : name.trim();
+      }
+   }
 }
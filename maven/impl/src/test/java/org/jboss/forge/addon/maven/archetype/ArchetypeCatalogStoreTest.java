@@ -0,0 +1,111 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.archetype;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.archetype.catalog.Archetype;
+import org.apache.maven.archetype.catalog.ArchetypeCatalog;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link ArchetypeCatalogStore} class
+ */
+public class ArchetypeCatalogStoreTest
+{
+   private static final String CATALOG = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<archetype-catalog>\n"
+            + "  <archetypes>\n"
+            + "    <archetype>\n"
+            + "      <groupId>org.example</groupId>\n"
+            + "      <artifactId>simple</artifactId>\n"
+            + "      <version>1.0</version>\n"
+            + "      <description>A simple\tproject</description>\n"
+            + "    </archetype>\n"
+            + "    <archetype>\n"
+            + "      <groupId>org.example</groupId>\n"
+            + "      <artifactId>simple</artifactId>\n"
+            + "      <version>1.1</version>\n"
+            + "      <repository>http://repo.example.org</repository>\n"
+            + "    </archetype>\n"
+            + "    <archetype>\n"
+            + "      <groupId>com.example</groupId>\n"
+            + "      <artifactId>webapp</artifactId>\n"
+            + "      <version>2.0</version>\n"
+            + "    </archetype>\n"
+            + "  </archetypes>\n"
+            + "</archetype-catalog>\n";
+
+   @Rule
+   public TemporaryFolder folder = new TemporaryFolder();
+
+   @Test
+   public void testReadCatalog() throws Exception
+   {
+      File catalogFile = writeCatalog();
+      File indexFile = new File(folder.getRoot(), "index/catalog.idx");
+      ArchetypeCatalogStore store = new ArchetypeCatalogStore(catalogFile.toURI().toURL(), "http://default", indexFile);
+      ArchetypeCatalog catalog = store.getArchetypeCatalog();
+      assertNotNull(catalog);
+      assertEquals(3, catalog.getArchetypes().size());
+      Archetype first = catalog.getArchetypes().get(0);
+      assertEquals("org.example", first.getGroupId());
+      assertEquals("simple", first.getArtifactId());
+      assertEquals("1.0", first.getVersion());
+      assertEquals("A simple project", first.getDescription());
+      assertEquals("http://default", first.getRepository());
+      assertEquals("http://repo.example.org", catalog.getArchetypes().get(1).getRepository());
+      assertTrue(indexFile.isFile());
+   }
+
+   @Test
+   public void testPrefixLookup() throws Exception
+   {
+      File catalogFile = writeCatalog();
+      ArchetypeCatalogStore store = new ArchetypeCatalogStore(catalogFile.toURI().toURL(), null, new File(
+               folder.getRoot(), "catalog.idx"));
+      assertEquals(3, store.getArchetypes("").size());
+      assertEquals(2, store.getArchetypes("org.example:simple:").size());
+      assertEquals(1, store.getArchetypes("org.example:simple:1.1").size());
+      assertEquals(1, store.getArchetypes("com.").size());
+      assertEquals(0, store.getArchetypes("net.").size());
+   }
+
+   @Test
+   public void testIndexIsReused() throws Exception
+   {
+      File catalogFile = writeCatalog();
+      File indexFile = new File(folder.getRoot(), "catalog.idx");
+      new ArchetypeCatalogStore(catalogFile.toURI().toURL(), null, indexFile).getArchetypeCatalog();
+      assertTrue(catalogFile.delete());
+      ArchetypeCatalogStore store = new ArchetypeCatalogStore(catalogFile.toURI().toURL(), null, indexFile);
+      List<String> descriptions = new ArrayList<>();
+      for (Archetype archetype : store.getArchetypeCatalog().getArchetypes())
+      {
+         descriptions.add(archetype.getDescription());
+      }
+      assertEquals("A simple project", descriptions.get(0));
+      assertEquals(3, descriptions.size());
+   }
+
+   private File writeCatalog() throws Exception
+   {
+      File catalogFile = folder.newFile("archetype-catalog.xml");
+      Files.write(catalogFile.toPath(), CATALOG.getBytes(StandardCharsets.UTF_8));
+      return catalogFile;
+   }
+}
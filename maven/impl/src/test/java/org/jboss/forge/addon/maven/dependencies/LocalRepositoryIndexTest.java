@@ -0,0 +1,78 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.maven.dependencies;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link LocalRepositoryIndex} class
+ */
+public class LocalRepositoryIndexTest
+{
+   @Rule
+   public TemporaryFolder folder = new TemporaryFolder();
+
+   @Test
+   public void testInstalledVersions() throws Exception
+   {
+      install("org.example", "lib", "1.0", "lib-1.0.jar");
+      install("org.example", "lib", "1.1", "lib-1.1.pom");
+      install("org.example", "lib", "2.0", "lib-2.0.jar.lastUpdated");
+      LocalRepositoryIndex index = new LocalRepositoryIndex(folder.getRoot());
+      assertEquals(new HashSet<>(Arrays.asList("1.0", "1.1")), index.getVersions("org.example", "lib"));
+      assertTrue(index.getVersions("org.example", "missing").isEmpty());
+   }
+
+   @Test
+   public void testArtifactFile() throws Exception
+   {
+      File jar = install("org.example", "lib", "1.0", "lib-1.0.jar");
+      File sources = install("org.example", "lib", "1.0", "lib-1.0-sources.jar");
+      LocalRepositoryIndex index = new LocalRepositoryIndex(folder.getRoot());
+      assertEquals(jar, index.getArtifactFile("org.example", "lib", "1.0", null, "jar"));
+      assertEquals(sources, index.getArtifactFile("org.example", "lib", "1.0", "sources", "jar"));
+      assertNull(index.getArtifactFile("org.example", "lib", "1.0", null, "pom"));
+      assertNull(index.getArtifactFile("org.example", "lib", "[1.0,)", null, "jar"));
+   }
+
+   @Test
+   public void testIndexIsUpdated() throws Exception
+   {
+      install("org.example", "lib", "1.0", "lib-1.0.jar");
+      install("org.example", "lib", "2.0", "lib-2.0.jar.lastUpdated");
+      LocalRepositoryIndex index = new LocalRepositoryIndex(folder.getRoot());
+      assertEquals(1, index.getVersions("org.example", "lib").size());
+
+      File versionDir = install("org.example", "lib", "2.0", "lib-2.0.jar").getParentFile();
+      versionDir.setLastModified(versionDir.lastModified() + 2000);
+      assertEquals(2, index.getVersions("org.example", "lib").size());
+
+      File artifactDir = install("org.example", "lib", "3.0", "lib-3.0.jar").getParentFile().getParentFile();
+      artifactDir.setLastModified(artifactDir.lastModified() + 2000);
+      assertEquals(3, index.getVersions("org.example", "lib").size());
+   }
+
+   private File install(String groupId, String artifactId, String version, String fileName) throws Exception
+   {
+      File versionDir = new File(folder.getRoot(), groupId.replace('.', File.separatorChar) + File.separator
+               + artifactId + File.separator + version);
+      versionDir.mkdirs();
+      File file = new File(versionDir, fileName);
+      assertTrue(file.createNewFile());
+      return file;
+   }
+}
@@ -19,6 +19,7 @@ import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.projects.ProjectFactory;
 import org.jboss.forge.addon.projects.facets.MetadataFacet;
 import org.jboss.forge.addon.projects.facets.PackagingFacet;
+import org.jboss.forge.addon.projects.spi.ProjectCache;
 import org.jboss.forge.addon.resource.DirectoryResource;
 import org.jboss.forge.addon.resource.ResourceFactory;
 import org.jboss.forge.arquillian.AddonDeployment;
@@ -26,6 +27,7 @@ import org.jboss.forge.arquillian.AddonDeployments;
 import org.jboss.forge.arquillian.archive.AddonArchive;
 import org.jboss.forge.furnace.Furnace;
 import org.jboss.forge.furnace.repositories.AddonDependencyEntry;
+import org.jboss.forge.furnace.services.Imported;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.junit.Assert;
 import org.junit.Test;
@@ -137,4 +139,46 @@ public class MavenMultiModuleProviderTest
       Assert.assertEquals(parentProject.getFacet(MetadataFacet.class).getProjectVersion(), version);
 
    }
+
+   @Test
+   public void testModulesAreFoundAndCachedAfterRootProject() throws Exception
+   {
+      DirectoryResource addonDir = factory.create(forge.getRepositories().get(0).getRootDirectory()).reify(
+               DirectoryResource.class);
+      DirectoryResource projectDir = addonDir.createTempResource();
+      Project parentProject = projectFactory.createProject(projectDir, locator);
+      parentProject.getFacet(PackagingFacet.class).setPackagingType("pom");
+      MetadataFacet metadata = parentProject.getFacet(MetadataFacet.class);
+      metadata.setProjectName("parent");
+      metadata.setProjectGroupName("com.project.parent");
+
+      DirectoryResource intermediateProjectDir = projectDir.getChildDirectory("intermediate");
+      Project intermediateProject = projectFactory.createProject(intermediateProjectDir, locator);
+      intermediateProject.getFacet(PackagingFacet.class).setPackagingType("pom");
+      DirectoryResource subProjectDir = intermediateProjectDir.getChildDirectory("sub");
+      projectFactory.createProject(subProjectDir, locator);
+      DirectoryResource otherProjectDir = projectDir.getChildDirectory("other");
+      projectFactory.createProject(otherProjectDir, locator);
+
+      projectFactory.invalidateCaches();
+      Assert.assertNotNull(projectFactory.findProject(projectDir));
+      Assert.assertNotNull(projectFactory.findProject(intermediateProjectDir));
+      Assert.assertNotNull(projectFactory.findProject(subProjectDir));
+      Assert.assertNotNull(projectFactory.findProject(otherProjectDir));
+
+      Imported<ProjectCache> caches = forge.getAddonRegistry().getServices(ProjectCache.class);
+      for (ProjectCache cache : caches)
+      {
+         try
+         {
+            Assert.assertNotNull(cache.get(intermediateProjectDir));
+            Assert.assertNotNull(cache.get(subProjectDir));
+            Assert.assertNotNull(cache.get(otherProjectDir));
+         }
+         finally
+         {
+            caches.release(cache);
+         }
+      }
+   }
 }
@@ -195,6 +195,28 @@ public class MavenDependencyFacetTest
       assertDependencies(dependencyTwo, dependencies.get(1));
    }
 
+   @Test
+   public void testEffectiveManagedDependencyLookup() throws Exception
+   {
+      final DependencyFacet facet = project.getFacet(DependencyFacet.class);
+      DependencyBuilder jar = DependencyBuilder.create("org.jboss.errai:errai-cdi-client:1.0.0.Final");
+      DependencyBuilder testJar = DependencyBuilder.create("org.jboss.errai:errai-cdi-client:2.0.0.Final")
+               .setPackaging("test-jar");
+      facet.addDirectManagedDependency(jar);
+      assertDependencies(jar, facet.getEffectiveManagedDependency(DependencyBuilder
+               .create("org.jboss.errai:errai-cdi-client")));
+      Assert.assertNull(facet.getEffectiveManagedDependency(DependencyBuilder.create(
+               "org.jboss.errai:errai-cdi-client").setPackaging("test-jar")));
+
+      // The lookup reflects changes to the model
+      facet.addDirectManagedDependency(testJar);
+      assertDependencies(testJar, facet.getEffectiveManagedDependency(DependencyBuilder.create(
+               "org.jboss.errai:errai-cdi-client").setPackaging("test-jar")));
+      facet.removeManagedDependency(jar);
+      Assert.assertFalse(facet.hasEffectiveManagedDependency(DependencyBuilder
+               .create("org.jboss.errai:errai-cdi-client")));
+   }
+
    private void assertDependencies(Dependency expected, Dependency actual)
    {
       Assert.assertTrue("Dependencies are not equivalent", areEquivalent(expected, actual));
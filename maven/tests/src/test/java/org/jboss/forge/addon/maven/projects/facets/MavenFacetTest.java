@@ -11,6 +11,7 @@ import java.util.List;
 
 import javax.inject.Inject;
 
+import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.arquillian.junit.Arquillian;
@@ -18,6 +19,7 @@ import org.jboss.forge.addon.maven.projects.MavenFacet;
 import org.jboss.forge.addon.maven.resources.MavenModelResource;
 import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.projects.ProjectFactory;
+import org.jboss.forge.addon.resource.Resource;
 import org.jboss.forge.arquillian.AddonDependencies;
 import org.jboss.forge.arquillian.AddonDependency;
 import org.jboss.forge.arquillian.archive.AddonArchive;
@@ -78,4 +80,94 @@ public class MavenFacetTest
       Assert.assertEquals("D", propEntries.get(3).getName());
       Assert.assertEquals("E", propEntries.get(4).getName());
    }
+
+   @Test
+   public void testModelEditSession() throws Exception
+   {
+      Project project = projectFactory.createTempProject();
+      MavenFacet facet = project.getFacet(MavenFacet.class);
+      String original = facet.getModelResource().getContents();
+      facet.beginModelEdit();
+      try
+      {
+         Model model = facet.getModel();
+         model.addProperty("A", "1");
+         facet.setModel(model);
+         facet.beginModelEdit();
+         try
+         {
+            model = facet.getModel();
+            Assert.assertEquals("1", model.getProperties().getProperty("A"));
+            model.addProperty("B", "2");
+            facet.setModel(model);
+         }
+         finally
+         {
+            facet.commitModelEdit();
+         }
+         Assert.assertEquals(original, facet.getModelResource().getContents());
+      }
+      finally
+      {
+         facet.commitModelEdit();
+      }
+      Model model = facet.getModelResource().getCurrentModel();
+      Assert.assertEquals("1", model.getProperties().getProperty("A"));
+      Assert.assertEquals("2", model.getProperties().getProperty("B"));
+   }
+
+   @Test
+   public void testModelEditSessionReadsPropertiesWithoutWritingModel() throws Exception
+   {
+      Project project = projectFactory.createTempProject();
+      MavenFacet facet = project.getFacet(MavenFacet.class);
+      String original = facet.getModelResource().getContents();
+      facet.beginModelEdit();
+      try
+      {
+         Model model = facet.getModel();
+         model.addProperty("A", "1");
+         facet.setModel(model);
+         Assert.assertEquals("1", facet.getProperties().get("A"));
+         Assert.assertEquals(original, facet.getModelResource().getContents());
+      }
+      finally
+      {
+         facet.commitModelEdit();
+      }
+      Assert.assertEquals("1", facet.getModelResource().getCurrentModel().getProperties().getProperty("A"));
+      Assert.assertEquals("1", facet.getProperties().get("A"));
+   }
+
+   @Test
+   public void testModelResourceChildren() throws Exception
+   {
+      Project project = projectFactory.createTempProject();
+      MavenFacet facet = project.getFacet(MavenFacet.class);
+      Model model = facet.getModel();
+      Dependency dependency = new Dependency();
+      dependency.setGroupId("org.example");
+      dependency.setArtifactId("example");
+      dependency.setVersion("1.0");
+      model.addDependency(dependency);
+      facet.setModel(model);
+
+      MavenModelResource modelResource = facet.getModelResource();
+      Resource<?> child = modelResource.getChild("org.example:example");
+      Assert.assertNotNull(child);
+      Assert.assertSame(child, modelResource.getChild("org.example:example"));
+      Assert.assertNull(modelResource.getChild("org.example:missing"));
+
+      Dependency other = new Dependency();
+      other.setGroupId("org.example");
+      other.setArtifactId("other");
+      other.setVersion("1.0");
+      modelResource.getCurrentModel().addDependency(other);
+      Assert.assertNotNull(modelResource.getChild("org.example:other"));
+      Assert.assertEquals(2, modelResource.listResources().size());
+
+      other.setArtifactId("renamed");
+      Assert.assertNotNull(modelResource.getChild("org.example:renamed"));
+      Assert.assertNull(modelResource.getChild("org.example:other"));
+   }
 }
@@ -7,6 +7,7 @@
 
 package org.jboss.forge.addon.projects;
 
+import org.jboss.forge.addon.projects.facets.ModelEditFacet;
 import org.jboss.forge.addon.resource.Resource;
 import org.jboss.forge.addon.ui.context.UIContext;
 import org.jboss.forge.addon.ui.context.UISelection;
@@ -56,4 +57,31 @@ public final class Projects
       return false;
 
    }
+
+   /**
+    * Starts a model edit session if the build system of the given {@link Project} supports it, so the changes made
+    * until {@link #commitModelEdit(Project)} is called are written to the build file once.
+    *
+    * @see ModelEditFacet#beginModelEdit()
+    */
+   public static void beginModelEdit(Project project)
+   {
+      if (project.hasFacet(ModelEditFacet.class))
+      {
+         project.getFacet(ModelEditFacet.class).beginModelEdit();
+      }
+   }
+
+   /**
+    * Commits a model edit session started with {@link #beginModelEdit(Project)}
+    *
+    * @see ModelEditFacet#commitModelEdit()
+    */
+   public static void commitModelEdit(Project project)
+   {
+      if (project.hasFacet(ModelEditFacet.class))
+      {
+         project.getFacet(ModelEditFacet.class).commitModelEdit();
+      }
+   }
 }
@@ -44,4 +44,12 @@ public interface ProjectBuilder
     */
    ProjectBuilder quiet(boolean quiet);
 
+   /**
+    * Enable or disable incremental mode. Incremental builds keep the output of previous builds and only compile the
+    * sources changed since, returning the build output directory instead of a packaged artifact.
+    *
+    * @see org.jboss.forge.addon.projects.facets.PackagingFacet#getBuildOutputDirectory()
+    */
+   ProjectBuilder incremental(boolean incremental);
+
 }
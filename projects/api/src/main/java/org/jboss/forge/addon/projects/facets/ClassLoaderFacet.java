@@ -22,13 +22,17 @@ public interface ClassLoaderFacet extends ProjectFacet
 {
    /**
     * Returns a {@link URLClassLoader} that encompasses all {@link Dependency} instances on which this project depends.
-    * It also includes the compiled/fully built {@link PackagingFacet#getFinalArtifact()} from the project sources
-    * itself. This is the equivalent of class-loading the entire project classpath.
+    * It also includes the compiled classes in {@link PackagingFacet#getBuildOutputDirectory()}, running an incremental
+    * build when the project sources changed since they were compiled. This is the equivalent of class-loading the
+    * entire project classpath.
     * <p/>
-    * WARNING: You *MUST* call {@link URLClassLoader#close()} when finished with this object. Failure to close this
-    * object upon completion will result in fatal memory leaks over time. If the scope of work is appropriate, consider
-    * using a try-with-resources block to encapsulate the operations and automatically clean up any ClassLoader
-    * resources.
+    * The same {@link URLClassLoader} is returned while the project dependencies and compiled classes are unchanged.
+    * Once replaced, it is closed as soon as all its callers have released it.
+    * <p/>
+    * WARNING: You *MUST* call {@link URLClassLoader#close()} when finished with this object, which releases it. Failure
+    * to close this object upon completion will result in fatal memory leaks over time. If the scope of work is
+    * appropriate, consider using a try-with-resources block to encapsulate the operations and automatically clean up
+    * any ClassLoader resources.
     * <p/>
     * IMPORTANT: You must also clean up and release any {@link Class} references that were produced by this
     * {@link ClassLoader}. It is not enough to close this. Held {@link Class} references will keep the
@@ -0,0 +1,36 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.projects.facets;
+
+import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.projects.Projects;
+import org.jboss.forge.addon.projects.ProvidedProjectFacet;
+
+/**
+ * A {@link ProvidedProjectFacet} whose build model can be changed in edit sessions, so that several changes to the
+ * build file of a {@link Project} are written once.
+ *
+ * @see Projects#beginModelEdit(Project)
+ */
+public interface ModelEditFacet extends ProvidedProjectFacet
+{
+   /**
+    * Start a model edit session for this {@link Project}. Until the session is committed with
+    * {@link #commitModelEdit()}, changes to the model are kept in memory instead of being written to the build file.
+    * <p>
+    * Sessions may be nested: the build file is written once, when the outermost session is committed. Callers should
+    * commit the session in a <code>finally</code> block.
+    */
+   void beginModelEdit();
+
+   /**
+    * Commit a model edit session started with {@link #beginModelEdit()}, writing the build file if this is the
+    * outermost session and the model was changed.
+    */
+   void commitModelEdit();
+}
@@ -36,6 +36,14 @@ public interface PackagingFacet extends ProvidedProjectFacet
     */
    Resource<?> getFinalArtifact();
 
+   /**
+    * Return the resource representing the directory where the compiled classes of this project are written. Unlike
+    * {@link #getFinalArtifact()}, it is up to date after an incremental build.
+    *
+    * @see ProjectBuilder#incremental(boolean)
+    */
+   Resource<?> getBuildOutputDirectory();
+
    /**
     * Return a new {@link ProjectBuilder} instance. This object is responsible for executing a build with custom
     * options.
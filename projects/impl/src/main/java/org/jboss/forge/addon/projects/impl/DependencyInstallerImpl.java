@@ -8,6 +8,7 @@ import org.jboss.forge.addon.dependencies.builder.DependencyBuilder;
 import org.jboss.forge.addon.dependencies.builder.DependencyQueryBuilder;
 import org.jboss.forge.addon.dependencies.util.NonSnapshotDependencyFilter;
 import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.projects.Projects;
 import org.jboss.forge.addon.projects.dependencies.DependencyInstaller;
 import org.jboss.forge.addon.projects.facets.DependencyFacet;
 import org.jboss.forge.furnace.util.Strings;
@@ -19,6 +20,20 @@ public class DependencyInstallerImpl implements DependencyInstaller
 {
    @Override
    public Dependency install(final Project project, final Dependency request)
+   {
+      // The build file is written once, however many dependencies are changed
+      Projects.beginModelEdit(project);
+      try
+      {
+         return doInstall(project, request);
+      }
+      finally
+      {
+         Projects.commitModelEdit(project);
+      }
+   }
+
+   private Dependency doInstall(final Project project, final Dependency request)
    {
       DependencyFacet deps = project.getFacet(DependencyFacet.class);
       final Dependency dependency = deps.resolveProperties(request);
@@ -12,7 +12,18 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javax.enterprise.event.Observes;
@@ -28,6 +39,7 @@ import org.jboss.forge.addon.projects.ProjectFactory;
 import org.jboss.forge.addon.projects.ProjectListener;
 import org.jboss.forge.addon.projects.ProjectProvider;
 import org.jboss.forge.addon.projects.ProvidedProjectFacet;
+import org.jboss.forge.addon.projects.facets.ModuleFacet;
 import org.jboss.forge.addon.projects.spi.ProjectCache;
 import org.jboss.forge.addon.resource.DirectoryResource;
 import org.jboss.forge.addon.resource.Resource;
@@ -69,9 +81,23 @@ public class ProjectFactoryImpl implements ProjectFactory
 
    private final List<ListenerRegistration<ResourceListener>> listeners = new ArrayList<>();
 
+   /**
+    * The modules being created ahead of time, by module directory
+    */
+   private final ConcurrentMap<String, Future<Project>> moduleLoads = new ConcurrentHashMap<>();
+   private ExecutorService moduleLoader;
+
    void shutdown(@Observes @Local PreShutdown event)
    {
       invalidateCaches();
+      synchronized (this)
+      {
+         if (moduleLoader != null)
+         {
+            moduleLoader.shutdownNow();
+            moduleLoader = null;
+         }
+      }
       for (ListenerRegistration<ResourceListener> registration : listeners)
       {
          registration.removeListener();
@@ -200,30 +226,13 @@ public class ProjectFactoryImpl implements ProjectFactory
 
       if (projectProvider.containsProject(target))
       {
-         boolean cached = false;
-         Iterator<ProjectCache> cacheIterator = caches.iterator();
-         while (cacheIterator.hasNext())
+         result = getCachedProject(target, filter);
+         boolean cached = result != null;
+         if (!cached)
          {
-            ProjectCache cache = cacheIterator.next();
-            try
-            {
-               result = cache.get(target);
-               if (result != null && !filter.accept(result))
-               {
-                  result = null;
-               }
-               if (result != null)
-               {
-                  cached = true;
-                  break;
-               }
-            }
-            finally
-            {
-               caches.release(cache);
-            }
+            result = takePreloadedModule(target);
          }
-         if (result == null)
+         if (!cached && result == null)
          {
             result = projectProvider.createProject(target);
          }
@@ -235,12 +244,163 @@ public class ProjectFactoryImpl implements ProjectFactory
          {
             registerAvailableFacets(result);
             cacheProject(result);
+            preloadModules(result, projectProvider);
          }
       }
 
       return result;
    }
 
+   private Project getCachedProject(Resource<?> target, Predicate<Project> filter)
+   {
+      Project result = null;
+      Iterator<ProjectCache> cacheIterator = caches.iterator();
+      while (cacheIterator.hasNext() && result == null)
+      {
+         ProjectCache cache = cacheIterator.next();
+         try
+         {
+            result = cache.get(target);
+            if (result != null && !filter.accept(result))
+            {
+               result = null;
+            }
+         }
+         finally
+         {
+            caches.release(cache);
+         }
+      }
+      return result;
+   }
+
+   /**
+    * Starts creating the modules of the given {@link Project} in the background, so looking up a module later only
+    * needs to register its facets. Modules are only created ahead of time when a {@link ProjectCache} will retain them
+    * and no resource transaction is in progress.
+    */
+   private void preloadModules(Project project, final ProjectProvider projectProvider)
+   {
+      if (caches.isUnsatisfied() || isTransactionStarted())
+      {
+         return;
+      }
+      DirectoryResource rootDirectory = project.getRoot().reify(DirectoryResource.class);
+      if (rootDirectory == null || !project.hasFacet(ModuleFacet.class))
+      {
+         return;
+      }
+      // Modules are created by a worker thread
+      final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+      for (String module : project.getFacet(ModuleFacet.class).getModules())
+      {
+         File moduleDir = rootDirectory.getUnderlyingResourceObject().toPath().resolve(module).normalize().toFile();
+         if (!moduleDir.isDirectory())
+         {
+            continue;
+         }
+         final DirectoryResource target = resourceFactory.create(DirectoryResource.class, moduleDir);
+         String key = target.getFullyQualifiedName();
+         if (moduleLoads.containsKey(key) || !projectProvider.containsProject(target)
+                  || getCachedProject(target, acceptsAllProjects) != null)
+         {
+            continue;
+         }
+         moduleLoads.put(key, getModuleLoader().submit(new Callable<Project>()
+         {
+            @Override
+            public Project call() throws Exception
+            {
+               ClassLoader previous = Thread.currentThread().getContextClassLoader();
+               Thread.currentThread().setContextClassLoader(contextClassLoader);
+               try
+               {
+                  return projectProvider.createProject(target);
+               }
+               finally
+               {
+                  Thread.currentThread().setContextClassLoader(previous);
+               }
+            }
+         }));
+      }
+   }
+
+   /**
+    * @return the module created ahead of time for the given directory, waiting for it if it is still being created,
+    *         or <code>null</code> if there is none
+    */
+   private Project takePreloadedModule(Resource<?> target)
+   {
+      Future<Project> load = moduleLoads.remove(target.getFullyQualifiedName());
+      if (load == null)
+      {
+         return null;
+      }
+      try
+      {
+         return load.get();
+      }
+      catch (ExecutionException e)
+      {
+         log.log(Level.WARNING, "Could not load module [" + target + "]", e.getCause());
+      }
+      catch (InterruptedException e)
+      {
+         Thread.currentThread().interrupt();
+      }
+      return null;
+   }
+
+   /**
+    * Discards the modules created ahead of time under the given directory
+    */
+   private void discardPreloadedModules(Resource<?> rootDirectory)
+   {
+      String prefix = rootDirectory.getFullyQualifiedName() + File.separator;
+      Iterator<Entry<String, Future<Project>>> iterator = moduleLoads.entrySet().iterator();
+      while (iterator.hasNext())
+      {
+         Entry<String, Future<Project>> entry = iterator.next();
+         if (entry.getKey().startsWith(prefix))
+         {
+            entry.getValue().cancel(false);
+            iterator.remove();
+         }
+      }
+   }
+
+   private boolean isTransactionStarted()
+   {
+      try
+      {
+         return resourceFactory.getTransaction().isStarted();
+      }
+      catch (UnsupportedOperationException e)
+      {
+         return false;
+      }
+   }
+
+   private synchronized ExecutorService getModuleLoader()
+   {
+      if (moduleLoader == null)
+      {
+         final AtomicInteger count = new AtomicInteger();
+         moduleLoader = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactory()
+         {
+            @Override
+            public Thread newThread(Runnable runnable)
+            {
+               Thread thread = new Thread(runnable, "Forge module loader " + count.incrementAndGet());
+               thread.setDaemon(true);
+               return thread;
+            }
+         });
+      }
+      return moduleLoader;
+   }
+
    @Override
    public Project createProject(Resource<?> target, ProjectProvider projectProvider)
    {
@@ -412,6 +572,7 @@ public class ProjectFactoryImpl implements ProjectFactory
             @Override
             public void processEvent(ResourceEvent event)
             {
+               discardPreloadedModules(project.getRoot());
                for (ProjectCache cache : caches)
                {
                   try
@@ -578,6 +739,11 @@ public class ProjectFactoryImpl implements ProjectFactory
    @Override
    public void invalidateCaches()
    {
+      for (Future<Project> load : moduleLoads.values())
+      {
+         load.cancel(false);
+      }
+      moduleLoads.clear();
       for (ProjectCache cache : caches)
       {
          try
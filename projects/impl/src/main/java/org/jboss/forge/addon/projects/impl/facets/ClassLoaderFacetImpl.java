@@ -8,6 +8,7 @@
 package org.jboss.forge.addon.projects.impl.facets;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -22,12 +23,18 @@ import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.projects.facets.ClassLoaderFacet;
 import org.jboss.forge.addon.projects.facets.DependencyFacet;
 import org.jboss.forge.addon.projects.facets.PackagingFacet;
+import org.jboss.forge.addon.projects.facets.ResourcesFacet;
+import org.jboss.forge.addon.projects.facets.WebResourcesFacet;
+import org.jboss.forge.addon.resource.DirectoryResource;
 import org.jboss.forge.addon.resource.FileResource;
 import org.jboss.forge.addon.resource.Resource;
 
 /**
  * Implementation of the {@link ClassLoaderFacet} interface
  * 
+ * The project is built again when its build descriptor, its <code>src</code> directory or its resource directories
+ * were changed since the last successful build.
+ *
  * @author <a href="ggastald@redhat.com">George Gastaldi</a>
  */
 @FacetConstraint(DependencyFacet.class)
@@ -37,6 +44,14 @@ class ClassLoaderFacetImpl extends AbstractFacet<Project> implements
    private static final Logger log = Logger
             .getLogger(ClassLoaderFacetImpl.class.getName());
 
+   private ProjectClassLoader classLoader;
+   private String classLoaderFingerprint;
+   private long lastBuild;
+   /**
+    * The last modification time of the build output, read when this facet first uses it and after each build
+    */
+   private long outputModified;
+
    @Override
    public boolean install()
    {
@@ -50,13 +65,28 @@ class ClassLoaderFacetImpl extends AbstractFacet<Project> implements
    }
 
    @Override
-   public URLClassLoader getClassLoader()
+   public synchronized URLClassLoader getClassLoader()
    {
       Project project = getFaceted();
+      PackagingFacet packagingFacet = project.getFacet(PackagingFacet.class);
+      File outputDirectory = toFile(packagingFacet.getBuildOutputDirectory());
+      if (outputModified == 0)
+      {
+         outputModified = lastModified(outputDirectory);
+      }
+      if (!outputDirectory.isDirectory() || isSourceModifiedSince(project, Math.max(lastBuild, outputModified)))
+      {
+         // Compile the sources changed since the last build
+         long buildStarted = System.currentTimeMillis();
+         packagingFacet.createBuilder().incremental(true).quiet(true).build();
+         lastBuild = buildStarted;
+         outputModified = lastModified(outputDirectory);
+      }
       DependencyFacet facet = project.getFacet(DependencyFacet.class);
       List<Dependency> effectiveDependencies = facet
                .getEffectiveDependencies();
       List<URL> urls = new ArrayList<>();
+      StringBuilder fingerprint = new StringBuilder();
       // Add project dependencies
       for (Dependency dependency : effectiveDependencies)
       {
@@ -67,6 +97,7 @@ class ClassLoaderFacetImpl extends AbstractFacet<Project> implements
             try
             {
                urls.add(artifactFile.toURI().toURL());
+               fingerprint.append(artifactFile).append(':').append(artifactFile.lastModified()).append(';');
             }
             catch (MalformedURLException e)
             {
@@ -76,29 +107,189 @@ class ClassLoaderFacetImpl extends AbstractFacet<Project> implements
          }
       }
       // Add project build
-      PackagingFacet packagingFacet = project.getFacet(PackagingFacet.class);
-      Resource<?> finalArtifact = packagingFacet.getFinalArtifact();
-      if (!finalArtifact.exists())
+      try
       {
-         // Force build
-         finalArtifact = packagingFacet.createBuilder().quiet(true).build();
+         urls.add(outputDirectory.toURI().toURL());
+         fingerprint.append(outputDirectory).append(':').append(outputModified);
       }
-      if (finalArtifact instanceof FileResource)
+      catch (MalformedURLException e)
       {
-         File artifact = ((FileResource<?>) finalArtifact).getUnderlyingResourceObject();
-         try
+         log.warning("Error while configuring Reflections: "
+                  + e.getMessage());
+      }
+      String key = fingerprint.toString();
+      if (classLoader == null || !key.equals(classLoaderFingerprint))
+      {
+         if (classLoader != null)
          {
-            urls.add(artifact.toURI().toURL());
+            classLoader.expire();
          }
-         catch (MalformedURLException e)
+         classLoader = new ProjectClassLoader(urls.toArray(new URL[urls.size()]));
+         classLoaderFingerprint = key;
+      }
+      return classLoader.acquire();
+   }
+
+   private static File toFile(Resource<?> resource)
+   {
+      return (File) resource.getUnderlyingResourceObject();
+   }
+
+   /**
+    * @return <code>true</code> if one of the inputs of the build of the given project was modified after the given
+    *         time: the files in its root directory (such as the build descriptor), its <code>src</code> directory and
+    *         its resource directories. The directories of modules, and the build output, are not visited. Stops at the
+    *         first modified file found.
+    */
+   private static boolean isSourceModifiedSince(Project project, long since)
+   {
+      File rootDirectory = toFile(project.getRootDirectory());
+      if (rootDirectory.lastModified() > since)
+      {
+         return true;
+      }
+      File[] children = rootDirectory.listFiles();
+      if (children != null)
+      {
+         for (File child : children)
          {
-            log.warning("Error while configuring Reflections: "
-                     + e.getMessage());
+            if (child.isFile() && !child.isHidden() && child.lastModified() > since)
+            {
+               return true;
+            }
+         }
+      }
+      File sources = new File(rootDirectory, "src");
+      if (isModifiedSince(sources, since))
+      {
+         return true;
+      }
+      List<DirectoryResource> resourceDirectories = new ArrayList<>();
+      if (project.hasFacet(ResourcesFacet.class))
+      {
+         resourceDirectories.addAll(project.getFacet(ResourcesFacet.class).getResourceDirectories());
+      }
+      if (project.hasFacet(WebResourcesFacet.class))
+      {
+         resourceDirectories.addAll(project.getFacet(WebResourcesFacet.class).getWebRootDirectories());
+      }
+      for (DirectoryResource directory : resourceDirectories)
+      {
+         File file = toFile(directory);
+         // Resource directories in the default layout were already visited
+         if (!file.toPath().startsWith(sources.toPath()) && isModifiedSince(file, since))
+         {
+            return true;
          }
       }
-      // Project Classloader. May introduce memory leaks if not closed properly
-      URLClassLoader urlClassLoader = URLClassLoader.newInstance(urls.toArray(new URL[urls.size()]));
-      return urlClassLoader;
+      return false;
    }
 
+   /**
+    * @return <code>true</code> if the given file, or one of the files it contains, was modified after the given time,
+    *         skipping hidden files
+    */
+   private static boolean isModifiedSince(File file, long since)
+   {
+      if (file.lastModified() > since)
+      {
+         return true;
+      }
+      File[] children = file.listFiles();
+      if (children != null)
+      {
+         for (File child : children)
+         {
+            if (!child.getName().startsWith(".") && isModifiedSince(child, since))
+            {
+               return true;
+            }
+         }
+      }
+      return false;
+   }
+
+   /**
+    * @return the last modification time of the given file and of the files it contains, skipping hidden files
+    */
+   private static long lastModified(File file)
+   {
+      long lastModified = file.lastModified();
+      File[] children = file.listFiles();
+      if (children != null)
+      {
+         for (File child : children)
+         {
+            if (!child.getName().startsWith("."))
+            {
+               lastModified = Math.max(lastModified, lastModified(child));
+            }
+         }
+      }
+      return lastModified;
+   }
+
+   /**
+    * A {@link URLClassLoader} shared by the callers of {@link ClassLoaderFacet#getClassLoader()}. Closing it releases
+    * it; it is only closed once it was replaced by a newer class loader and released by all its callers.
+    */
+   private static class ProjectClassLoader extends URLClassLoader
+   {
+      private int leases;
+      private boolean expired;
+      private boolean closed;
+
+      ProjectClassLoader(URL[] urls)
+      {
+         super(urls);
+      }
+
+      synchronized ProjectClassLoader acquire()
+      {
+         leases++;
+         return this;
+      }
+
+      void expire()
+      {
+         synchronized (this)
+         {
+            expired = true;
+         }
+         closeIfUnused();
+      }
+
+      @Override
+      public void close() throws IOException
+      {
+         synchronized (this)
+         {
+            if (leases > 0)
+            {
+               leases--;
+            }
+         }
+         closeIfUnused();
+      }
+
+      private void closeIfUnused()
+      {
+         synchronized (this)
+         {
+            if (!expired || leases > 0 || closed)
+            {
+               return;
+            }
+            closed = true;
+         }
+         try
+         {
+            super.close();
+         }
+         catch (IOException e)
+         {
+            log.warning("Error while closing project ClassLoader: " + e.getMessage());
+         }
+      }
+   }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.projects.shell;
+
+import javax.inject.Inject;
+
+import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.projects.ProjectFactory;
+import org.jboss.forge.addon.projects.facets.DependencyFacet;
+import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.shell.spi.WarmupTask;
+
+/**
+ * Detects the {@link Project} in the initial directory of the shell and resolves its effective dependencies, so they
+ * are cached when the first command runs.
+ */
+public class ProjectWarmupTask implements WarmupTask
+{
+   @Inject
+   private ProjectFactory factory;
+
+   @Override
+   public String getDescription()
+   {
+      return "project detection and effective model resolution";
+   }
+
+   @Override
+   public void warmup(Resource<?> initialResource) throws Exception
+   {
+      Project project = factory.findProject(initialResource);
+      if (project != null && project.hasFacet(DependencyFacet.class))
+      {
+         project.getFacet(DependencyFacet.class).getEffectiveDependencies();
+      }
+   }
+}
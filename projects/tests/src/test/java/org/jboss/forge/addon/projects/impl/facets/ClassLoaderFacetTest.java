@@ -82,4 +82,37 @@ public class ClassLoaderFacetTest
       }
    }
 
+   @Test
+   public void testClassLoaderIsReusedUntilSourcesChange() throws Exception
+   {
+      Project project = projectFactory.createTempProject(Arrays
+               .<Class<? extends ProjectFacet>> asList(JavaSourceFacet.class));
+      JavaSourceFacet facet = project.getFacet(JavaSourceFacet.class);
+      JavaClassSource javaClass = Roaster.create(JavaClassSource.class).setName("Foo").setPackage("com.example");
+      javaClass.addMethod("public static String hello() {return \"Hello\";}");
+      facet.saveJavaSource(javaClass);
+      ClassLoaderFacet classLoaderFacet = project.getFacet(ClassLoaderFacet.class);
+      URLClassLoader first;
+      try (URLClassLoader classLoader = classLoaderFacet.getClassLoader())
+      {
+         first = classLoader;
+         Assert.assertEquals("Hello", classLoader.loadClass(javaClass.getQualifiedName()).getMethod("hello")
+                  .invoke(null));
+      }
+      try (URLClassLoader classLoader = classLoaderFacet.getClassLoader())
+      {
+         Assert.assertSame(first, classLoader);
+      }
+      // Make sure the changed source is newer than the last build
+      Thread.sleep(1000);
+      javaClass.getMethod("hello").setBody("return \"Bye\";");
+      facet.saveJavaSource(javaClass);
+      try (URLClassLoader classLoader = classLoaderFacet.getClassLoader())
+      {
+         Assert.assertNotSame(first, classLoader);
+         Assert.assertEquals("Bye", classLoader.loadClass(javaClass.getQualifiedName()).getMethod("hello")
+                  .invoke(null));
+      }
+   }
+
 }
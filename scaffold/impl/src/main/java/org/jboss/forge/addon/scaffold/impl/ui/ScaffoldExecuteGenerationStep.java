@@ -6,9 +6,11 @@ import java.util.Map;
 
 import javax.inject.Inject;
 
+import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.projects.ProjectFactory;
 import org.jboss.forge.addon.projects.ui.AbstractProjectCommand;
 import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.scaffold.metawidget.inspector.ForgeInspectionCache;
 import org.jboss.forge.addon.scaffold.spi.ResourceCollection;
 import org.jboss.forge.addon.scaffold.spi.ScaffoldGenerationContext;
 import org.jboss.forge.addon.scaffold.spi.ScaffoldProvider;
@@ -72,7 +74,17 @@ public class ScaffoldExecuteGenerationStep extends AbstractProjectCommand implem
       // Ensure that the resource collection is instantiated. Prevents a null check in the scaffold provider.
       Collection<Resource<?>> resources = resourceCollection != null ? resourceCollection.getResources()
                : Collections.EMPTY_SET;
-      selectedProvider.generateFrom(populateGenerationContext(context.getUIContext(), resources));
+      // Related types are inspected once for the whole run, whichever provider generates it
+      Project project = getSelectedProject(context);
+      ForgeInspectionCache.begin(project);
+      try
+      {
+         selectedProvider.generateFrom(populateGenerationContext(context.getUIContext(), resources));
+      }
+      finally
+      {
+         ForgeInspectionCache.end(project);
+      }
       return Results.success("Scaffold was generated successfully.");
    }
 
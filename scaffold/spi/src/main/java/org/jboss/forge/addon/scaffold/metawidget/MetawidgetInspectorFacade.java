@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.scaffold.metawidget.inspector.ForgeInspectionCache;
 import org.jboss.forge.addon.scaffold.metawidget.inspector.ForgeInspector;
 import org.jboss.forge.addon.scaffold.metawidget.inspector.ForgeInspectorConfig;
 import org.jboss.forge.addon.scaffold.metawidget.inspector.propertystyle.ForgePropertyStyle;
@@ -44,7 +45,10 @@ public class MetawidgetInspectorFacade
    }
 
    /**
-    * Inspects a {@link JavaClass} instance and provides inspection results in return.
+    * Inspects a {@link JavaClass} instance and provides inspection results in return. Related types are only parsed
+    * and inspected once when called during a generation run.
+    *
+    * @see ForgeInspectionCache#begin(Project)
     *
     * @param klass The {@link JavaClass} to inspect.
     * @return A list representing inspection results for the {@link JavaClass}. Each list item corresponds to the
@@ -0,0 +1,245 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.scaffold.metawidget.inspector;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
+import org.jboss.forge.addon.parser.java.resources.JavaResource;
+import org.jboss.forge.addon.projects.Project;
+import org.jboss.forge.addon.resource.ResourceException;
+import org.jboss.forge.roaster.model.source.JavaSource;
+import org.metawidget.inspector.impl.propertystyle.Property;
+
+/**
+ * Memoizes the Java sources and the properties inspected by Metawidget while a generation run is in progress, so that
+ * related entities are parsed and inspected once instead of once per widget, template and entity.
+ *
+ * Entries are keyed by the type name and validated against the last modification time and size of the source file of
+ * the type, so a type changed during the run is inspected again. The cache is attached to the {@link Project} between
+ * {@link #begin(Project)} and {@link #end(Project)}; outside of a run {@link #get(Project)} returns <code>null</code>
+ * and inspectors behave as before.
+ */
+public class ForgeInspectionCache
+{
+   private static final String ATTRIBUTE = ForgeInspectionCache.class.getName();
+
+   /**
+    * The last modification time and size of a type with no source file
+    */
+   private static final long MISSING = -1L;
+
+   private final JavaSourceFacet java;
+   private final ConcurrentMap<String, CachedSource> sources = new ConcurrentHashMap<>();
+   private final ConcurrentMap<String, CachedProperties> properties = new ConcurrentHashMap<>();
+   private int runs;
+
+   private ForgeInspectionCache(Project project)
+   {
+      this.java = project.hasFacet(JavaSourceFacet.class) ? project.getFacet(JavaSourceFacet.class) : null;
+   }
+
+   /**
+    * Starts a generation run for the given {@link Project}. Runs may be nested; the cache is discarded when the
+    * outermost run ends.
+    */
+   public static synchronized ForgeInspectionCache begin(Project project)
+   {
+      ForgeInspectionCache cache = get(project);
+      if (cache == null)
+      {
+         cache = new ForgeInspectionCache(project);
+         project.setAttribute(ATTRIBUTE, cache);
+      }
+      cache.runs++;
+      return cache;
+   }
+
+   /**
+    * Ends a generation run started with {@link #begin(Project)}
+    */
+   public static synchronized void end(Project project)
+   {
+      ForgeInspectionCache cache = get(project);
+      if (cache != null && --cache.runs <= 0)
+      {
+         project.removeAttribute(ATTRIBUTE);
+      }
+   }
+
+   /**
+    * @return the cache of the generation run in progress for the given {@link Project}, or <code>null</code>
+    */
+   public static ForgeInspectionCache get(Project project)
+   {
+      return project == null ? null : (ForgeInspectionCache) project.getAttribute(ATTRIBUTE);
+   }
+
+   /**
+    * @return the parsed source of the given type, or <code>null</code> if it is not a type of this project
+    */
+   public JavaSource<?> getJavaSource(String type)
+   {
+      return getCachedSource(type).source;
+   }
+
+   /**
+    * Returns the properties of the given type, inspected by the given {@link PropertyInspector} unless they were
+    * inspected earlier in the generation run in progress and none of the types they were inspected from changed since
+    *
+    * @param owner identifies the property style (and configuration) the properties are inspected by
+    */
+   public static Map<String, Property> inspectProperties(Project project, String owner, String type,
+            PropertyInspector inspector)
+   {
+      ForgeInspectionCache cache = get(project);
+      if (cache != null)
+      {
+         Map<String, Property> properties = cache.getProperties(owner, type);
+         if (properties != null)
+         {
+            return properties;
+         }
+      }
+
+      // LinkedHashMap so that returns ordered properties
+      Map<String, Property> properties = new LinkedHashMap<>();
+      List<String> inspectedTypes = new ArrayList<>();
+      inspector.inspect(type, properties, inspectedTypes);
+      if (cache != null)
+      {
+         cache.putProperties(owner, type, properties, inspectedTypes);
+      }
+      return properties;
+   }
+
+   /**
+    * @return the properties of the given type, or <code>null</code> if they were not inspected yet or any type they
+    *         were inspected from has changed since
+    */
+   private Map<String, Property> getProperties(String owner, String type)
+   {
+      CachedProperties cached = properties.get(owner + '#' + type);
+      if (cached == null)
+      {
+         return null;
+      }
+      for (CachedSource source : cached.sources)
+      {
+         if (getCachedSource(source.type) != source)
+         {
+            return null;
+         }
+      }
+      return cached.properties;
+   }
+
+   /**
+    * Stores the properties of the given type
+    *
+    * @param inspectedTypes the type and its supertypes, whose sources the properties were inspected from
+    */
+   private void putProperties(String owner, String type, Map<String, Property> typeProperties,
+            List<String> inspectedTypes)
+   {
+      List<CachedSource> dependencies = new ArrayList<>(inspectedTypes.size());
+      for (String inspectedType : inspectedTypes)
+      {
+         dependencies.add(getCachedSource(inspectedType));
+      }
+      properties.put(owner + '#' + type, new CachedProperties(typeProperties, dependencies));
+   }
+
+   private CachedSource getCachedSource(String type)
+   {
+      JavaResource resource = null;
+      long lastModified = MISSING;
+      long size = MISSING;
+      try
+      {
+         if (java != null)
+         {
+            resource = java.getJavaResource(type);
+            if (resource.exists())
+            {
+               lastModified = resource.getLastModified();
+               size = resource.getSize();
+            }
+         }
+      }
+      catch (ResourceException e)
+      {
+         // Not a Forge-based type
+      }
+
+      CachedSource cached = sources.get(type);
+      if (cached == null || cached.lastModified != lastModified || cached.size != size)
+      {
+         JavaSource<?> source = null;
+         if (size != MISSING)
+         {
+            try
+            {
+               source = resource.getJavaType();
+            }
+            catch (FileNotFoundException | ResourceException e)
+            {
+               // Not a Forge-based type
+            }
+         }
+         cached = new CachedSource(type, lastModified, size, source);
+         sources.put(type, cached);
+      }
+      return cached;
+   }
+
+   /**
+    * Inspects the properties of a type
+    */
+   public interface PropertyInspector
+   {
+      /**
+       * Adds the properties of the given type to the given map, and the names of the types they were inspected from
+       * (the type and its supertypes) to the given list
+       */
+      void inspect(String type, Map<String, Property> properties, List<String> inspectedTypes);
+   }
+
+   private static class CachedSource
+   {
+      final String type;
+      final long lastModified;
+      final long size;
+      final JavaSource<?> source;
+
+      CachedSource(String type, long lastModified, long size, JavaSource<?> source)
+      {
+         this.type = type;
+         this.lastModified = lastModified;
+         this.size = size;
+         this.source = source;
+      }
+   }
+
+   private static class CachedProperties
+   {
+      final Map<String, Property> properties;
+      final List<CachedSource> sources;
+
+      CachedProperties(Map<String, Property> properties, List<CachedSource> sources)
+      {
+         this.properties = properties;
+         this.sources = sources;
+      }
+   }
+}
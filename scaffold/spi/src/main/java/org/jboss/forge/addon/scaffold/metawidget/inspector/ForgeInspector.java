@@ -208,8 +208,17 @@ public class ForgeInspector
       {
          if (this.java != null)
          {
-            JavaResource javaResource = java.getJavaResource(type);
-            JavaSource<?> javaSource = javaResource.getJavaType();
+            ForgeInspectionCache cache = ForgeInspectionCache.get(this.project);
+            JavaSource<?> javaSource;
+            if (cache != null)
+            {
+               javaSource = cache.getJavaSource(type);
+            }
+            else
+            {
+               JavaResource javaResource = java.getJavaResource(type);
+               javaSource = javaResource.getJavaType();
+            }
             if (javaSource instanceof JavaClass)
             {
                JavaClass<?> klass = (JavaClass<?>) javaSource;
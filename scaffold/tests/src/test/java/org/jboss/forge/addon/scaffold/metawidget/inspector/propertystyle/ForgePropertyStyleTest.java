@@ -7,6 +7,9 @@
 package org.jboss.forge.addon.scaffold.metawidget.inspector.propertystyle;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.awt.*;
@@ -21,11 +24,13 @@ import org.jboss.arquillian.junit.Arquillian;
 import org.jboss.forge.addon.projects.Project;
 import org.jboss.forge.addon.parser.java.facets.JavaSourceFacet;
 import org.jboss.forge.addon.scaffold.ProjectHelper;
+import org.jboss.forge.addon.scaffold.metawidget.inspector.ForgeInspectionCache;
 import org.jboss.forge.addon.scaffold.metawidget.inspector.propertystyle.ForgePropertyStyle.ForgeProperty;
 import org.jboss.forge.addon.scaffold.metawidget.inspector.propertystyle.MockAnnotationComplex.anEnum;
 import org.jboss.forge.addon.scaffold.mock.MockProvider;
 import org.jboss.forge.addon.scaffold.util.ScaffoldUtil;
 import org.jboss.forge.arquillian.AddonDeployment;
+import org.jboss.forge.roaster.model.source.JavaClassSource;
 import org.jboss.forge.arquillian.AddonDeployments;
 import org.jboss.forge.arquillian.archive.AddonArchive;
 import org.jboss.forge.furnace.repositories.AddonDependencyEntry;
@@ -209,6 +214,55 @@ public class ForgePropertyStyleTest
       assertEquals(4, properties.size());
    }
 
+   @Test
+   public void testInspectionCache()
+            throws Exception
+   {
+      Project project = projectHelper.createJavaLibraryProject();
+
+      JavaSourceFacet java = project.getFacet(JavaSourceFacet.class);
+      ScaffoldUtil
+               .createOrOverwrite(
+                        java.getJavaResource("org/jboss/forge/addon/scaffold/metawidget/inspector/propertystyle/ManuallyGeneratedClass.java"),
+                        getClass()
+                                 .getResourceAsStream(
+                                          "/org/jboss/forge/addon/scaffold/metawidget/inspector/propertystyle/ManuallyGeneratedClass.java"));
+      ScaffoldUtil
+               .createOrOverwrite(
+                        java.getJavaResource("org/jboss/forge/addon/scaffold/metawidget/inspector/propertystyle/ManuallyGeneratedSubclass.java"),
+                        getClass()
+                                 .getResourceAsStream(
+                                          "/org/jboss/forge/addon/scaffold/metawidget/inspector/propertystyle/ManuallyGeneratedSubclass.java"));
+
+      String type = "org.jboss.forge.addon.scaffold.metawidget.inspector.propertystyle.ManuallyGeneratedSubclass";
+      ForgeInspectionCache.begin(project);
+      try
+      {
+         Map<String, Property> properties = new ForgePropertyStyle(new ForgePropertyStyleConfig().setProject(project))
+                  .getProperties(type);
+         assertSame(properties,
+                  new ForgePropertyStyle(new ForgePropertyStyleConfig().setProject(project)).getProperties(type));
+
+         // Changing a superclass invalidates the cached properties
+
+         JavaClassSource superclass = (JavaClassSource) java.getJavaResource(
+                  "org.jboss.forge.addon.scaffold.metawidget.inspector.propertystyle.ManuallyGeneratedClass")
+                  .getJavaType();
+         superclass.addMethod("public String getAddedField() { return null; }");
+         java.saveJavaSource(superclass);
+
+         Map<String, Property> changed = new ForgePropertyStyle(new ForgePropertyStyleConfig().setProject(project))
+                  .getProperties(type);
+         assertNotSame(properties, changed);
+         assertTrue(changed.containsKey("addedField"));
+      }
+      finally
+      {
+         ForgeInspectionCache.end(project);
+      }
+      assertNull(ForgeInspectionCache.get(project));
+   }
+
    public void testConfig()
    {
       ForgePropertyStyleConfig config1 = new ForgePropertyStyleConfig();
@@ -8,6 +8,7 @@ package org.jboss.forge.addon.shell;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -41,12 +42,14 @@ import org.jboss.forge.addon.resource.DirectoryResource;
 import org.jboss.forge.addon.resource.Resource;
 import org.jboss.forge.addon.shell.aesh.ForgeCommandNotFoundHandler;
 import org.jboss.forge.addon.shell.aesh.ForgeCommandRegistry;
+import org.jboss.forge.addon.shell.spi.WarmupTask;
 import org.jboss.forge.addon.shell.ui.DidYouMeanCommandNotFoundListener;
 import org.jboss.forge.addon.shell.ui.ShellContext;
 import org.jboss.forge.addon.shell.ui.ShellContextImpl;
 import org.jboss.forge.addon.shell.ui.ShellUIOutputImpl;
 import org.jboss.forge.addon.shell.ui.ShellUIProgressMonitor;
 import org.jboss.forge.addon.shell.ui.ShellUIPromptImpl;
+import org.jboss.forge.addon.shell.util.StartupTimeline;
 import org.jboss.forge.addon.ui.DefaultUIDesktop;
 import org.jboss.forge.addon.ui.UIDesktop;
 import org.jboss.forge.addon.ui.UIRuntime;
@@ -82,8 +85,17 @@ public class ShellImpl implements Shell, UIRuntime
 
    private final static Logger log = Logger.getLogger(ShellImpl.class.getName());
 
+   /**
+    * How many of the most used commands have their man page rendered at startup
+    */
+   private static final int MAN_PAGES_TO_PRE_RENDER = 10;
+
+   private final ForgeCommandRegistry registry;
+
    public ShellImpl(Furnace furnace, Resource<?> initialResource, Settings settings, AddonRegistry addonRegistry)
    {
+      StartupTimeline timeline = new StartupTimeline();
+      timeline.mark("shell creation requested");
       this.addonRegistry = addonRegistry;
 
       // Set the paths for the Aesh history, alias and export files.
@@ -91,8 +103,7 @@ public class ShellImpl implements Shell, UIRuntime
       File history = new File(forgeHome, "history");
       File alias = new File(forgeHome, "alias");
       File export = new File(forgeHome, "export");
-      final ForgeCommandRegistry registry =
-               new ForgeCommandRegistry(furnace, this, addonRegistry);
+      this.registry = new ForgeCommandRegistry(furnace, this, addonRegistry);
       // Register DidYouMeanListener
       commandNotFoundListeners.add(new DidYouMeanCommandNotFoundListener(registry));
       SettingsBuilder newSettings = new SettingsBuilder(settings)
@@ -116,6 +127,14 @@ public class ShellImpl implements Shell, UIRuntime
       this.output = new ShellUIOutputImpl(console);
       setCurrentResource(initialResource);
       this.console.start();
+      timeline.mark("prompt shown");
+      List<WarmupTask> shellTasks = Collections.singletonList(registry.getManPageWarmupTask(history,
+               MAN_PAGES_TO_PRE_RENDER));
+      Thread thread = new Thread(new ShellWarmup(this, registry, addonRegistry, initialResource, shellTasks,
+               timeline), "Forge shell warm-up");
+      thread.setDaemon(true);
+      thread.setPriority(Thread.MIN_PRIORITY);
+      thread.start();
    }
 
    private void updatePrompt()
@@ -165,6 +184,7 @@ public class ShellImpl implements Shell, UIRuntime
    {
       this.executionListeners.clear();
       this.commandNotFoundListeners.clear();
+      this.registry.close();
       this.console.stop();
    }
 
@@ -216,6 +236,11 @@ public class ShellImpl implements Shell, UIRuntime
       return output;
    }
 
+   public ForgeCommandRegistry getCommandRegistry()
+   {
+      return registry;
+   }
+
    public ShellContextImpl createUIContext()
    {
       Imported<UIContextListener> listeners = addonRegistry.getServices(UIContextListener.class);
@@ -0,0 +1,102 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.shell;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.shell.aesh.ForgeCommandRegistry;
+import org.jboss.forge.addon.shell.spi.WarmupTask;
+import org.jboss.forge.addon.shell.util.StartupTimeline;
+import org.jboss.forge.furnace.addons.AddonRegistry;
+import org.jboss.forge.furnace.services.Imported;
+
+/**
+ * Runs in background once the prompt is shown: waits for the container to start, then primes the command name index
+ * and runs the shell own {@link WarmupTask} instances. The registered {@link WarmupTask} services may resolve
+ * dependencies over the network, so they only run if the <code>forge.shell.warmup</code> system property is set.
+ * Prints the {@link StartupTimeline} if the <code>forge.shell.profileStartup</code> system property is set.
+ */
+class ShellWarmup implements Runnable
+{
+   static final String WARMUP_PROPERTY = "forge.shell.warmup";
+   static final String PROFILE_STARTUP_PROPERTY = "forge.shell.profileStartup";
+
+   private static final Logger log = Logger.getLogger(ShellWarmup.class.getName());
+
+   private final ShellImpl shell;
+   private final ForgeCommandRegistry registry;
+   private final AddonRegistry addonRegistry;
+   private final Resource<?> initialResource;
+   private final List<WarmupTask> shellTasks;
+   private final StartupTimeline timeline;
+   private final boolean warmup;
+   private final boolean profile;
+
+   ShellWarmup(ShellImpl shell, ForgeCommandRegistry registry, AddonRegistry addonRegistry,
+            Resource<?> initialResource, List<WarmupTask> shellTasks, StartupTimeline timeline)
+   {
+      this.shell = shell;
+      this.registry = registry;
+      this.addonRegistry = addonRegistry;
+      this.initialResource = initialResource;
+      this.shellTasks = shellTasks;
+      this.timeline = timeline;
+      this.warmup = Boolean.getBoolean(WARMUP_PROPERTY);
+      this.profile = Boolean.getBoolean(PROFILE_STARTUP_PROPERTY);
+   }
+
+   @Override
+   public void run()
+   {
+      registry.waitUntilStarted();
+      timeline.mark("container started");
+      registry.getCommandNameIndex();
+      timeline.mark("command name index");
+      for (WarmupTask task : shellTasks)
+      {
+         run(task);
+      }
+      if (warmup)
+      {
+         Imported<WarmupTask> tasks = addonRegistry.getServices(WarmupTask.class);
+         for (WarmupTask task : tasks)
+         {
+            try
+            {
+               run(task);
+            }
+            finally
+            {
+               tasks.release(task);
+            }
+         }
+      }
+      if (profile)
+      {
+         timeline.print(shell.getOutput().out());
+      }
+   }
+
+   /**
+    * Runs the given task, marking the timeline if it succeeds. Failures are logged, not propagated
+    */
+   void run(WarmupTask task)
+   {
+      try
+      {
+         task.warmup(initialResource);
+         timeline.mark(task.getDescription());
+      }
+      catch (Exception e)
+      {
+         log.log(Level.FINE, "Error while running warm-up task " + task, e);
+      }
+   }
+}
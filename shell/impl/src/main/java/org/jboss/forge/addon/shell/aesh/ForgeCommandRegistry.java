@@ -7,6 +7,11 @@
 
 package org.jboss.forge.addon.shell.aesh;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -21,18 +26,23 @@ import org.jboss.aesh.extensions.less.aesh.Less;
 import org.jboss.aesh.extensions.more.aesh.More;
 import org.jboss.forge.addon.convert.ConverterFactory;
 import org.jboss.forge.addon.shell.ShellImpl;
+import org.jboss.forge.addon.shell.spi.WarmupTask;
 import org.jboss.forge.addon.shell.ui.AeshUICommand;
 import org.jboss.forge.addon.shell.ui.ShellContext;
 import org.jboss.forge.addon.shell.ui.ShellContextImpl;
+import org.jboss.forge.addon.shell.util.CommandNameIndex;
 import org.jboss.forge.addon.ui.command.CommandFactory;
 import org.jboss.forge.addon.ui.command.UICommand;
 import org.jboss.forge.addon.ui.controller.CommandController;
 import org.jboss.forge.addon.ui.controller.CommandControllerFactory;
 import org.jboss.forge.addon.ui.controller.SingleCommandController;
 import org.jboss.forge.addon.ui.controller.WizardCommandController;
+import org.jboss.forge.addon.ui.util.Commands;
 import org.jboss.forge.furnace.Furnace;
 import org.jboss.forge.furnace.addons.AddonRegistry;
 import org.jboss.forge.furnace.exception.ContainerException;
+import org.jboss.forge.furnace.spi.ContainerLifecycleListener;
+import org.jboss.forge.furnace.spi.ListenerRegistration;
 
 /**
  * Forge implementation of {@link CommandRegistry}.
@@ -42,8 +52,13 @@ import org.jboss.forge.furnace.exception.ContainerException;
  * @author <a href="ggastald@redhat.com">George Gastaldi</a>
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
  */
-public class ForgeCommandRegistry implements CommandRegistry
+public class ForgeCommandRegistry implements CommandRegistry, AutoCloseable
 {
+   /**
+    * How long to wait for a container event before checking the container status again
+    */
+   private static final long STARTUP_CHECK_INTERVAL = 100;
+
    private Furnace furnace;
    private final ShellImpl shell;
 
@@ -53,6 +68,20 @@ public class ForgeCommandRegistry implements CommandRegistry
 
    private CommandLineUtil commandLineUtil;
    private final CommandControllerFactory commandControllerFactory;
+   private final ForgeManProvider manProvider;
+
+   /**
+    * Fuzzy index of all command names, rebuilt when the {@link AddonRegistry} version changes
+    */
+   private CommandNameIndex commandNameIndex;
+   private Map<String, UICommand> indexedCommands;
+   private long commandNameIndexVersion = -1;
+
+   /**
+    * Notified by the container when it is started
+    */
+   private final Object startupLock = new Object();
+   private final ListenerRegistration<ContainerLifecycleListener> startupListener;
 
    public ForgeCommandRegistry(Furnace furnace, ShellImpl shell, AddonRegistry addonRegistry)
    {
@@ -64,7 +93,8 @@ public class ForgeCommandRegistry implements CommandRegistry
       ConverterFactory converterFactory = addonRegistry.getServices(ConverterFactory.class).get();
       
       // Use Aesh commands
-      Man manCommand = new Man(new ForgeManProvider(shell, commandFactory, converterFactory));
+      this.manProvider = new ForgeManProvider(shell, commandFactory, converterFactory, addonRegistry);
+      Man manCommand = new Man(manProvider);
       this.aeshCommandRegistry = new AeshCommandRegistryBuilder()
                .command(Grep.class)
                .command(Less.class)
@@ -72,6 +102,7 @@ public class ForgeCommandRegistry implements CommandRegistry
                .command(manCommand)
                .create();
       manCommand.setRegistry(this);
+      this.startupListener = furnace.addContainerLifecycleListener(new StartupListener());
    }
 
    @Override
@@ -169,21 +200,116 @@ public class ForgeCommandRegistry implements CommandRegistry
       return allCommands;
    }
 
-   public void waitUntilStarted()
+   /**
+    * Returns the names of the enabled commands similar to the given command name, best matches first
+    *
+    * @see CommandNameIndex#suggest(String, int, int)
+    */
+   public List<String> getSimilarCommandNames(String commandName, int maxDistance, int maxResults)
    {
-      while (furnace.getStatus().isStarting())
+      waitUntilStarted();
+
+      List<String> result = new ArrayList<>();
+      try (ShellContextImpl shellContext = shell.createUIContext())
       {
-         try
+         CommandNameIndex index;
+         Map<String, UICommand> commands;
+         synchronized (this)
+         {
+            index = getCommandNameIndex(shellContext);
+            commands = indexedCommands;
+         }
+         for (String name : index.suggest(commandName, maxDistance, Integer.MAX_VALUE))
          {
-            Thread.sleep(10);
+            UICommand command = commands.get(name);
+            // Aesh commands are always enabled
+            if (command == null || Commands.isEnabled(command, shellContext))
+            {
+               result.add(name);
+               if (result.size() >= maxResults)
+               {
+                  break;
+               }
+            }
          }
-         catch (InterruptedException e)
+      }
+      return result;
+   }
+
+   /**
+    * Returns the {@link CommandNameIndex} for all the available commands, enabled or not
+    */
+   public synchronized CommandNameIndex getCommandNameIndex()
+   {
+      waitUntilStarted();
+      try (ShellContextImpl shellContext = shell.createUIContext())
+      {
+         return getCommandNameIndex(shellContext);
+      }
+   }
+
+   private synchronized CommandNameIndex getCommandNameIndex(ShellContext shellContext)
+   {
+      if (commandNameIndex == null || addonRegistry.getVersion() != commandNameIndexVersion)
+      {
+         commandNameIndexVersion = addonRegistry.getVersion();
+         Map<String, UICommand> commands = new HashMap<>();
+         for (UICommand command : commandFactory.getCommands())
+         {
+            String name = commandFactory.getCommandName(shellContext, command);
+            if (name != null)
+            {
+               commands.put(name, command);
+            }
+         }
+         List<String> names = new ArrayList<>(commands.keySet());
+         names.addAll(aeshCommandRegistry.getAllCommandNames());
+         indexedCommands = commands;
+         commandNameIndex = new CommandNameIndex(names);
+      }
+      return commandNameIndex;
+   }
+
+   /**
+    * Returns a {@link WarmupTask} rendering the man pages of the commands most used in the given shell history
+    */
+   public WarmupTask getManPageWarmupTask(File historyFile, int max)
+   {
+      return new ManPageWarmupTask(manProvider, historyFile, max);
+   }
+
+   /**
+    * Blocks until the container is started. Waiting threads are woken up by the container lifecycle events, the status
+    * is also checked every {@link #STARTUP_CHECK_INTERVAL} ms in case no event is fired (eg. addon reloads)
+    */
+   public void waitUntilStarted()
+   {
+      if (!furnace.getStatus().isStarting())
+      {
+         return;
+      }
+      synchronized (startupLock)
+      {
+         while (furnace.getStatus().isStarting())
          {
-            throw new ContainerException("Interrputed while waiting for STARTED state.", e);
+            try
+            {
+               startupLock.wait(STARTUP_CHECK_INTERVAL);
+            }
+            catch (InterruptedException e)
+            {
+               throw new ContainerException("Interrputed while waiting for STARTED state.", e);
+            }
          }
       }
    }
 
+   @Override
+   public void close()
+   {
+      startupListener.removeListener();
+   }
+
    private Set<String> getForgeCommandNames()
    {
       try (ShellContextImpl newShellContext = shell.createUIContext())
@@ -192,4 +318,50 @@ public class ForgeCommandRegistry implements CommandRegistry
       }
    }
 
+   private class StartupListener implements ContainerLifecycleListener
+   {
+      @Override
+      public void afterStart(Furnace furnace) throws ContainerException
+      {
+         wakeUpWaitingThreads();
+      }
+
+      @Override
+      public void afterConfigurationScan(Furnace furnace) throws ContainerException
+      {
+         wakeUpWaitingThreads();
+      }
+
+      @Override
+      public void beforeStart(Furnace furnace) throws ContainerException
+      {
+         // Do nothing
+      }
+
+      @Override
+      public void beforeStop(Furnace furnace) throws ContainerException
+      {
+         wakeUpWaitingThreads();
+      }
+
+      @Override
+      public void afterStop(Furnace furnace) throws ContainerException
+      {
+         // Do nothing
+      }
+
+      @Override
+      public void beforeConfigurationScan(Furnace furnace) throws ContainerException
+      {
+         // Do nothing
+      }
+
+      private void wakeUpWaitingThreads()
+      {
+         synchronized (startupLock)
+         {
+            startupLock.notifyAll();
+         }
+      }
+   }
 }
@@ -14,7 +14,11 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -22,16 +26,21 @@ import org.jboss.aesh.console.helper.ManProvider;
 import org.jboss.forge.addon.convert.Converter;
 import org.jboss.forge.addon.convert.ConverterFactory;
 import org.jboss.forge.addon.shell.ShellImpl;
+import org.jboss.forge.addon.shell.ui.AeshUICommand;
 import org.jboss.forge.addon.shell.ui.ShellContextImpl;
+import org.jboss.forge.addon.ui.command.AbstractCommandExecutionListener;
 import org.jboss.forge.addon.ui.command.CommandFactory;
 import org.jboss.forge.addon.ui.command.UICommand;
 import org.jboss.forge.addon.ui.context.UIBuilder;
 import org.jboss.forge.addon.ui.context.UIContext;
+import org.jboss.forge.addon.ui.context.UIExecutionContext;
 import org.jboss.forge.addon.ui.input.InputComponent;
 import org.jboss.forge.addon.ui.input.ManyValued;
 import org.jboss.forge.addon.ui.input.SelectComponent;
+import org.jboss.forge.addon.ui.result.Result;
 import org.jboss.forge.addon.ui.util.InputComponents;
 import org.jboss.forge.addon.ui.wizard.UIWizard;
+import org.jboss.forge.furnace.addons.AddonRegistry;
 import org.jboss.forge.furnace.util.OperatingSystemUtils;
 import org.jboss.forge.furnace.util.Streams;
 
@@ -46,9 +55,37 @@ public class ForgeManProvider implements ManProvider
 {
    private static final Logger log = Logger.getLogger(ForgeManProvider.class.getName());
 
+   /**
+    * The maximum number of rendered man pages kept in memory
+    */
+   private static final int MAX_CACHED_PAGES = 64;
+
    private final ShellImpl shell;
    private final CommandFactory manager;
    private final ConverterFactory converterFactory;
+   private final AddonRegistry addonRegistry;
+
+   /**
+    * Rendered default man pages, keyed by command name and current resource. Cleared when the {@link AddonRegistry}
+    * version changes and after the execution of any Forge command, since it may have changed the project state the
+    * pages were rendered from
+    */
+   private final Map<String, byte[]> cache = new LinkedHashMap<String, byte[]>(16, 0.75f, true)
+   {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Entry<String, byte[]> eldest)
+      {
+         return size() > MAX_CACHED_PAGES;
+      }
+   };
+   private long cacheVersion = -1;
+   /**
+    * Incremented each time the cache is cleared
+    */
+   private long cacheGeneration;
+   private volatile String template;
    private final Comparator<? super InputComponent<?, ?>> SHORTNAME_COMPARATOR = new Comparator<InputComponent<?, ?>>()
    {
       @Override
@@ -67,11 +104,14 @@ public class ForgeManProvider implements ManProvider
       }
    };
 
-   public ForgeManProvider(ShellImpl shell, CommandFactory manager, ConverterFactory converterFactory)
+   public ForgeManProvider(ShellImpl shell, CommandFactory manager, ConverterFactory converterFactory,
+            AddonRegistry addonRegistry)
    {
       this.shell = shell;
       this.manager = manager;
       this.converterFactory = converterFactory;
+      this.addonRegistry = addonRegistry;
+      shell.addCommandExecutionListener(new CacheInvalidationListener());
    }
 
    @Override
@@ -100,19 +140,82 @@ public class ForgeManProvider implements ManProvider
                                     + "] for command [" + cmd.getMetadata(context).getType().getName() + "].", e);
                }
             }
-            return buildDefaultManPage(cmd, context);
+            return new ByteArrayInputStream(getDefaultManPage(command, cmd, context));
          }
       }
       return null;
    }
 
-   private InputStream buildDefaultManPage(UICommand cmd, final UIContext context)
+   /**
+    * Renders the default man pages of the given commands, so subsequent <code>man</code> calls are served from the
+    * cache. Commands that are not found, disabled or have their own documentation are skipped.
+    */
+   public void preRender(Iterable<String> commands)
    {
-      try
+      try (ShellContextImpl context = shell.createUIContext())
       {
-         URL template = getClass().getResource("DefaultManPage.txt");
-         String result = Streams.toString(template.openStream());
+         for (String command : commands)
+         {
+            try
+            {
+               UICommand cmd = manager.getCommandByName(context, command);
+               if (cmd != null && cmd.isEnabled(context) && cmd.getMetadata(context).getDocLocation() == null)
+               {
+                  getDefaultManPage(command, cmd, context);
+               }
+            }
+            catch (Exception e)
+            {
+               log.log(Level.FINE, "Could not pre-render man page for command [" + command + "]", e);
+            }
+         }
+      }
+   }
+
+   private byte[] getDefaultManPage(String command, UICommand cmd, UIContext context)
+   {
+      String key = command + "@" + context.getInitialSelection().get();
+      long generation;
+      synchronized (cache)
+      {
+         if (addonRegistry.getVersion() != cacheVersion)
+         {
+            cacheVersion = addonRegistry.getVersion();
+            clearCache();
+         }
+         byte[] page = cache.get(key);
+         if (page != null)
+         {
+            return page;
+         }
+         generation = cacheGeneration;
+      }
+      // Rendered without holding the lock, so a pre-render does not block a man command
+      byte[] page = buildDefaultManPage(cmd, context);
+      synchronized (cache)
+      {
+         // Not kept if the cache was cleared meanwhile, as it may have been rendered from a stale state
+         if (generation == cacheGeneration)
+         {
+            cache.put(key, page);
+         }
+      }
+      return page;
+   }
+
+   private void clearCache()
+   {
+      synchronized (cache)
+      {
+         cache.clear();
+         cacheGeneration++;
+      }
+   }
 
+   private byte[] buildDefaultManPage(UICommand cmd, final UIContext context)
+   {
+      try
+      {
          final List<InputComponent<?, ?>> inputs = new ArrayList<>();
          cmd.initializeUI(new UIBuilder()
          {
@@ -131,15 +234,15 @@ public class ForgeManProvider implements ManProvider
             }
          });
 
-         result = result.replaceAll("%name%", manager.getCommandName(context, cmd));
-         result = result.replaceAll("%description%", cmd.getMetadata(context).getCategory().toString());
+         Map<String, String> variables = new HashMap<>();
+         variables.put("name", manager.getCommandName(context, cmd));
+         variables.put("description", cmd.getMetadata(context).getCategory().toString());
+         variables.put("synopsis", buildSynopsis(cmd, context, inputs));
+         variables.put("options", buildOptions(cmd, context, inputs));
+         variables.put("addon", getSourceAddonName(cmd, context));
+         variables.put("year", String.valueOf(Calendar.getInstance().get(Calendar.YEAR)));
 
-         result = result.replaceAll("%synopsis%", buildSynopsis(cmd, context, inputs));
-         result = result.replaceAll("%options%", buildOptions(cmd, context, inputs));
-         result = result.replaceAll("%addon%", getSourceAddonName(cmd, context));
-         result = result.replaceAll("%year%", String.valueOf(Calendar.getInstance().get(Calendar.YEAR)));
-
-         return new ByteArrayInputStream(result.getBytes());
+         return interpolate(getTemplate(), variables).getBytes();
       }
       catch (Exception e)
       {
@@ -147,6 +250,47 @@ public class ForgeManProvider implements ManProvider
       }
    }
 
+   private String getTemplate() throws IOException
+   {
+      if (template == null)
+      {
+         URL templateURL = getClass().getResource("DefaultManPage.txt");
+         template = Streams.toString(templateURL.openStream());
+      }
+      return template;
+   }
+
+   /**
+    * Replaces each %variable% in the template in a single pass. Unknown variables are kept as is
+    */
+   private static String interpolate(String template, Map<String, String> variables)
+   {
+      StringBuilder result = new StringBuilder(template.length() * 2);
+      int idx = 0;
+      while (idx < template.length())
+      {
+         int start = template.indexOf('%', idx);
+         int end = (start == -1) ? -1 : template.indexOf('%', start + 1);
+         if (end == -1)
+         {
+            result.append(template, idx, template.length());
+            break;
+         }
+         String value = variables.get(template.substring(start + 1, end));
+         if (value == null)
+         {
+            result.append(template, idx, end);
+            idx = end;
+         }
+         else
+         {
+            result.append(template, idx, start).append(value);
+            idx = end + 1;
+         }
+      }
+      return result.toString();
+   }
+
    private String getSourceAddonName(UICommand cmd, final UIContext context)
    {
       return cmd.getMetadata(context).getType().getClassLoader().toString();
@@ -311,4 +455,29 @@ public class ForgeManProvider implements ManProvider
 
       return result.toString();
    }
+
+   /**
+    * Clears the rendered man pages once a Forge command is executed. Aesh commands (man, less, grep...) do not change
+    * the project state
+    */
+   private class CacheInvalidationListener extends AbstractCommandExecutionListener
+   {
+      @Override
+      public void postCommandExecuted(UICommand command, UIExecutionContext context, Result result)
+      {
+         if (!(command instanceof AeshUICommand))
+         {
+            clearCache();
+         }
+      }
+
+      @Override
+      public void postCommandFailure(UICommand command, UIExecutionContext context, Throwable failure)
+      {
+         if (!(command instanceof AeshUICommand))
+         {
+            clearCache();
+         }
+      }
+   }
 }
@@ -0,0 +1,92 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.shell.aesh;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.shell.spi.WarmupTask;
+
+/**
+ * Renders the default man pages of the commands most used in the shell history
+ */
+class ManPageWarmupTask implements WarmupTask
+{
+   private static final Logger log = Logger.getLogger(ManPageWarmupTask.class.getName());
+
+   private final ForgeManProvider manProvider;
+   private final File historyFile;
+   private final int max;
+
+   ManPageWarmupTask(ForgeManProvider manProvider, File historyFile, int max)
+   {
+      this.manProvider = manProvider;
+      this.historyFile = historyFile;
+      this.max = max;
+   }
+
+   @Override
+   public String getDescription()
+   {
+      return "man page pre-render";
+   }
+
+   @Override
+   public void warmup(Resource<?> initialResource)
+   {
+      manProvider.preRender(getMostUsedCommands(historyFile, max));
+   }
+
+   /**
+    * Returns the most used commands in the given shell history file, most used first
+    */
+   static List<String> getMostUsedCommands(File historyFile, int max)
+   {
+      final Map<String, Integer> counts = new HashMap<>();
+      if (historyFile.isFile())
+      {
+         try
+         {
+            for (String line : Files.readAllLines(historyFile.toPath(), Charset.defaultCharset()))
+            {
+               String command = line.trim().split("\\s+")[0];
+               if (!command.isEmpty())
+               {
+                  Integer count = counts.get(command);
+                  counts.put(command, count == null ? 1 : count + 1);
+               }
+            }
+         }
+         catch (IOException e)
+         {
+            log.log(Level.FINE, "Could not read shell history from " + historyFile, e);
+         }
+      }
+      List<String> commands = new ArrayList<>(counts.keySet());
+      Collections.sort(commands, new Comparator<String>()
+      {
+         @Override
+         public int compare(String left, String right)
+         {
+            return counts.get(right).compareTo(counts.get(left));
+         }
+      });
+      return commands.size() > max ? commands.subList(0, max) : commands;
+   }
+}
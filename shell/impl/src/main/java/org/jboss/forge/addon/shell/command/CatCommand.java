@@ -1,5 +1,7 @@
 package org.jboss.forge.addon.shell.command;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.util.Collections;
 import java.util.Iterator;
 
@@ -23,6 +25,7 @@ import org.jboss.forge.addon.ui.output.UIOutput;
 import org.jboss.forge.addon.ui.result.Result;
 import org.jboss.forge.addon.ui.result.Results;
 import org.jboss.forge.addon.ui.util.Metadata;
+import org.jboss.forge.furnace.util.Streams;
 
 /**
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
@@ -86,15 +89,18 @@ public class CatCommand extends AbstractShellCommand
          }
          else
          {
-            try
+            // Stream the contents instead of loading the whole resource in memory
+            try (InputStream stream = resource.getResourceInputStream())
             {
                if (color.getValue())
                {
-                  highlighter.byFileName(resource.getName(), resource.getContents(), output.out());
+                  highlighter.byFileName(resource.getName(), new InputStreamReader(stream), output.out());
+                  output.out().flush();
                }
                else
                {
-                  output.out().println(resource.getContents());
+                  Streams.write(stream, output.out());
+                  output.out().println();
                }
             }
             catch (UnsupportedOperationException uoe)
@@ -8,7 +8,9 @@ package org.jboss.forge.addon.shell.command;
 
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 
@@ -18,13 +20,17 @@ import org.jboss.aesh.terminal.TerminalColor;
 import org.jboss.aesh.terminal.TerminalSize;
 import org.jboss.aesh.terminal.TerminalString;
 import org.jboss.forge.addon.shell.Shell;
+import org.jboss.forge.addon.shell.ShellImpl;
 import org.jboss.forge.addon.shell.ui.AbstractShellCommand;
+import org.jboss.forge.addon.shell.util.CommandNameIndex;
 import org.jboss.forge.addon.ui.command.CommandFactory;
 import org.jboss.forge.addon.ui.command.UICommand;
 import org.jboss.forge.addon.ui.context.UIBuilder;
 import org.jboss.forge.addon.ui.context.UIContext;
 import org.jboss.forge.addon.ui.context.UIExecutionContext;
+import org.jboss.forge.addon.ui.input.UIInput;
 import org.jboss.forge.addon.ui.metadata.UICommandMetadata;
+import org.jboss.forge.addon.ui.metadata.WithAttributes;
 import org.jboss.forge.addon.ui.output.UIOutput;
 import org.jboss.forge.addon.ui.result.Result;
 import org.jboss.forge.addon.ui.result.Results;
@@ -41,6 +47,10 @@ public class CommandListCommand extends AbstractShellCommand
    @Inject
    private CommandFactory commandFactory;
 
+   @Inject
+   @WithAttributes(label = "Search", description = "List only the commands similar to the given name")
+   private UIInput<String> search;
+
    @Override
    public UICommandMetadata getMetadata(UIContext context)
    {
@@ -50,7 +60,7 @@ public class CommandListCommand extends AbstractShellCommand
    @Override
    public void initializeUI(UIBuilder builder) throws Exception
    {
-      // No inputs needed
+      builder.add(search);
    }
 
    @Override
@@ -60,6 +70,8 @@ public class CommandListCommand extends AbstractShellCommand
       Shell shell = (Shell) uiContext.getProvider();
       TerminalSize terminalSize = shell.getConsole().getShell().getSize();
       List<String> display = new ArrayList<>();
+      // Commands may share a name
+      Map<String, List<String>> displayByName = new HashMap<>();
 
       Iterable<UICommand> commands = commandFactory.getCommands();
       for (UICommand command : commands)
@@ -67,14 +79,42 @@ public class CommandListCommand extends AbstractShellCommand
          UICommandMetadata metadata = command.getMetadata(uiContext);
          String name = commandFactory.getCommandName(uiContext, command);
          boolean enabled = command.isEnabled(uiContext);
-         display.add(metadata.getCategory()
+         String line = metadata.getCategory()
                   + " > "
                   + new TerminalString(name, new TerminalColor(enabled ? Color.CYAN : Color.RED,
-                           Color.DEFAULT)).toString() + " - " + metadata.getDescription());
+                           Color.DEFAULT)).toString() + " - " + metadata.getDescription();
+         display.add(line);
+         List<String> sameName = displayByName.get(name);
+         if (sameName == null)
+         {
+            sameName = new ArrayList<>();
+            displayByName.put(name, sameName);
+         }
+         sameName.add(line);
       }
       UIOutput output = uiContext.getProvider().getOutput();
       PrintStream out = output.out();
-      out.println(Parser.formatDisplayList(display.toArray(new String[display.size()]),
+      List<String> lines = new ArrayList<>();
+      if (search.hasValue())
+      {
+         CommandNameIndex index = (shell instanceof ShellImpl)
+                  ? ((ShellImpl) shell).getCommandRegistry().getCommandNameIndex()
+                  : new CommandNameIndex(displayByName.keySet());
+         for (String name : index.suggest(search.getValue(), 2, Integer.MAX_VALUE))
+         {
+            // Aesh commands are indexed but not listed
+            List<String> matches = displayByName.get(name);
+            if (matches != null)
+            {
+               lines.addAll(matches);
+            }
+         }
+      }
+      else
+      {
+         lines.addAll(display);
+      }
+      out.println(Parser.formatDisplayList(lines.toArray(new String[lines.size()]),
                terminalSize.getHeight(), terminalSize.getWidth()));
 
       return Results.success();
@@ -0,0 +1,316 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.shell.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * An immutable fuzzy index over command names, used to suggest similar commands.
+ *
+ * Names are stored in a BK-tree (so only a fraction of the names need an edit distance computation per query), a sorted
+ * map for prefix matches and a token map for names made of several words (eg. "project-new" matches "new-project").
+ */
+public class CommandNameIndex
+{
+   private static final String TOKEN_SEPARATORS = "[\\s\\-:_]+";
+
+   private static final int MIN_PREFIX_LENGTH = 3;
+   private static final int MIN_TOKEN_LENGTH = 2;
+
+   /**
+    * Lower case names mapped to the original command names
+    */
+   private final SortedMap<String, Set<String>> names = new TreeMap<>();
+   private final Map<String, Set<String>> tokens = new HashMap<>();
+   private Node root;
+
+   public CommandNameIndex(Iterable<String> commandNames)
+   {
+      for (String commandName : commandNames)
+      {
+         if (commandName == null || commandName.isEmpty())
+         {
+            continue;
+         }
+         String key = commandName.toLowerCase(Locale.ENGLISH);
+         Set<String> originals = names.get(key);
+         if (originals == null)
+         {
+            originals = new LinkedHashSet<>();
+            names.put(key, originals);
+            addToTree(key);
+            for (String token : key.split(TOKEN_SEPARATORS))
+            {
+               if (token.length() >= MIN_TOKEN_LENGTH)
+               {
+                  Set<String> keys = tokens.get(token);
+                  if (keys == null)
+                  {
+                     keys = new LinkedHashSet<>();
+                     tokens.put(token, keys);
+                  }
+                  keys.add(key);
+               }
+            }
+         }
+         originals.add(commandName);
+      }
+   }
+
+   /**
+    * @return the number of distinct names in this index
+    */
+   public int size()
+   {
+      return names.size();
+   }
+
+   /**
+    * Returns the command names similar to the given query, best matches first.
+    *
+    * A name is similar if it is at most <code>maxDistance</code> edits away from the query, starts with the query or
+    * shares a whole word with it. Results are ranked by edit distance, then prefix matches, then word matches.
+    *
+    * @param query the (possibly misspelled) command name
+    * @param maxDistance the maximum Levenshtein distance accepted
+    * @param maxResults the maximum number of suggestions returned
+    */
+   public List<String> suggest(String query, int maxDistance, int maxResults)
+   {
+      if (query == null || query.trim().isEmpty() || names.isEmpty())
+      {
+         return Collections.emptyList();
+      }
+      String key = query.trim().toLowerCase(Locale.ENGLISH);
+      Map<String, Suggestion> candidates = new LinkedHashMap<>();
+
+      // Edit distance
+      if (root != null)
+      {
+         root.search(key, maxDistance, candidates);
+      }
+      // Prefix
+      if (key.length() >= MIN_PREFIX_LENGTH)
+      {
+         for (String name : names.subMap(key, key + Character.MAX_VALUE).keySet())
+         {
+            getOrCreate(candidates, key, name).prefix = true;
+         }
+      }
+      // Tokens
+      for (String token : key.split(TOKEN_SEPARATORS))
+      {
+         Set<String> keys = tokens.get(token);
+         if (keys != null)
+         {
+            for (String name : keys)
+            {
+               getOrCreate(candidates, key, name).tokens++;
+            }
+         }
+      }
+
+      List<Suggestion> ranked = new ArrayList<>(candidates.values());
+      Collections.sort(ranked);
+      List<String> result = new ArrayList<>();
+      for (Suggestion suggestion : ranked)
+      {
+         for (String name : names.get(suggestion.name))
+         {
+            if (result.size() >= maxResults)
+            {
+               return result;
+            }
+            result.add(name);
+         }
+      }
+      return result;
+   }
+
+   private static Suggestion getOrCreate(Map<String, Suggestion> candidates, String query, String name)
+   {
+      Suggestion suggestion = candidates.get(name);
+      if (suggestion == null)
+      {
+         suggestion = new Suggestion(name, getLevenshteinDistance(query, name));
+         candidates.put(name, suggestion);
+      }
+      return suggestion;
+   }
+
+   private void addToTree(String name)
+   {
+      if (root == null)
+      {
+         root = new Node(name);
+      }
+      else
+      {
+         Node node = root;
+         while (true)
+         {
+            int distance = getLevenshteinDistance(name, node.name);
+            Node child = node.children.get(distance);
+            if (child == null)
+            {
+               node.children.put(distance, new Node(name));
+               break;
+            }
+            node = child;
+         }
+      }
+   }
+
+   /**
+    * <p>
+    * Find the Levenshtein distance between two Strings.
+    * </p>
+    *
+    * <p>
+    * This is the number of changes needed to change one String into another, where each change is a single character
+    * modification (deletion, insertion or substitution).
+    * </p>
+    *
+    * @param s the first String, must not be null
+    * @param t the second String, must not be null
+    * @return result distance
+    * @throws IllegalArgumentException if either String input {@code null}
+    */
+   public static int getLevenshteinDistance(CharSequence s, CharSequence t)
+   {
+      if (s == null || t == null)
+      {
+         throw new IllegalArgumentException("Strings must not be null");
+      }
+
+      int n = s.length();
+      int m = t.length();
+
+      if (n == 0)
+      {
+         return m;
+      }
+      else if (m == 0)
+      {
+         return n;
+      }
+
+      if (n > m)
+      {
+         // swap the input strings to consume less memory
+         CharSequence tmp = s;
+         s = t;
+         t = tmp;
+         n = m;
+         m = t.length();
+      }
+
+      // only two rows of the matrix are kept, swapped on each iteration
+      int p[] = new int[n + 1];
+      int d[] = new int[n + 1];
+      int _d[];
+
+      for (int i = 0; i <= n; i++)
+      {
+         p[i] = i;
+      }
+
+      for (int j = 1; j <= m; j++)
+      {
+         char t_j = t.charAt(j - 1);
+         d[0] = j;
+
+         for (int i = 1; i <= n; i++)
+         {
+            int cost = s.charAt(i - 1) == t_j ? 0 : 1;
+            // minimum of cell to the left+1, to the top+1, diagonally left and up +cost
+            d[i] = Math.min(Math.min(d[i - 1] + 1, p[i] + 1), p[i - 1] + cost);
+         }
+
+         _d = p;
+         p = d;
+         d = _d;
+      }
+
+      return p[n];
+   }
+
+   /**
+    * A BK-tree node: children are keyed by their edit distance to this node
+    */
+   private static class Node
+   {
+      final String name;
+      final Map<Integer, Node> children = new HashMap<>();
+
+      Node(String name)
+      {
+         this.name = name;
+      }
+
+      void search(String query, int maxDistance, Map<String, Suggestion> result)
+      {
+         int distance = getLevenshteinDistance(query, name);
+         if (distance <= maxDistance)
+         {
+            result.put(name, new Suggestion(name, distance));
+         }
+         // Triangle inequality: only subtrees within [distance - max, distance + max] may contain matches
+         for (Map.Entry<Integer, Node> entry : children.entrySet())
+         {
+            int childDistance = entry.getKey();
+            if (childDistance >= distance - maxDistance && childDistance <= distance + maxDistance)
+            {
+               entry.getValue().search(query, maxDistance, result);
+            }
+         }
+      }
+   }
+
+   private static class Suggestion implements Comparable<Suggestion>
+   {
+      final String name;
+      final int distance;
+      boolean prefix;
+      int tokens;
+
+      Suggestion(String name, int distance)
+      {
+         this.name = name;
+         this.distance = distance;
+      }
+
+      @Override
+      public int compareTo(Suggestion other)
+      {
+         if (distance != other.distance)
+         {
+            return distance < other.distance ? -1 : 1;
+         }
+         if (prefix != other.prefix)
+         {
+            return prefix ? -1 : 1;
+         }
+         if (tokens != other.tokens)
+         {
+            return tokens > other.tokens ? -1 : 1;
+         }
+         return name.compareTo(other.name);
+      }
+   }
+}
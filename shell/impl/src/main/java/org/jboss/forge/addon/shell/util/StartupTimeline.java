@@ -0,0 +1,45 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.shell.util;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the moments the shell startup phases finish, relative to the JVM start time.
+ */
+public class StartupTimeline
+{
+   private final long origin = ManagementFactory.getRuntimeMXBean().getStartTime();
+   private final List<String> events = new ArrayList<>();
+   private final List<Long> times = new ArrayList<>();
+
+   /**
+    * Records that the given event just happened
+    */
+   public synchronized void mark(String event)
+   {
+      events.add(event);
+      times.add(System.currentTimeMillis());
+   }
+
+   public synchronized void print(PrintStream out)
+   {
+      out.println();
+      out.println("Startup timeline (since JVM start):");
+      long previous = origin;
+      for (int i = 0; i < events.size(); i++)
+      {
+         long time = times.get(i);
+         out.println(String.format("%8d ms (+%6d ms)  %s", time - origin, time - previous, events.get(i)));
+         previous = time;
+      }
+   }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.shell;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Collections;
+
+import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.shell.spi.WarmupTask;
+import org.jboss.forge.addon.shell.util.StartupTimeline;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ShellWarmup} class
+ */
+public class ShellWarmupTest
+{
+   @Test
+   public void testFailedTasksAreNotMarked() throws Exception
+   {
+      StartupTimeline timeline = new StartupTimeline();
+      ShellWarmup warmup = new ShellWarmup(null, null, null, null, Collections.<WarmupTask> emptyList(), timeline);
+      warmup.run(new MockWarmupTask("working task", false));
+      warmup.run(new MockWarmupTask("failing task", true));
+
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      timeline.print(new PrintStream(bytes, true, "UTF-8"));
+      String printed = bytes.toString("UTF-8");
+      assertTrue(printed.contains("working task"));
+      assertFalse(printed.contains("failing task"));
+   }
+
+   @Test
+   public void testTaskIsExecuted() throws Exception
+   {
+      MockWarmupTask task = new MockWarmupTask("task", false);
+      new ShellWarmup(null, null, null, null, Collections.<WarmupTask> emptyList(), new StartupTimeline()).run(task);
+      assertTrue(task.executed);
+   }
+
+   private static class MockWarmupTask implements WarmupTask
+   {
+      private final String description;
+      private final boolean fail;
+      private boolean executed;
+
+      MockWarmupTask(String description, boolean fail)
+      {
+         this.description = description;
+         this.fail = fail;
+      }
+
+      @Override
+      public String getDescription()
+      {
+         return description;
+      }
+
+      @Override
+      public void warmup(Resource<?> initialResource) throws Exception
+      {
+         executed = true;
+         if (fail)
+         {
+            throw new IllegalStateException("Expected failure");
+         }
+      }
+   }
+}
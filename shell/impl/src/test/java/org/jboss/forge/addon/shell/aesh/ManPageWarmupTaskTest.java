@@ -0,0 +1,45 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.shell.aesh;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link ManPageWarmupTask} class
+ */
+public class ManPageWarmupTaskTest
+{
+   @Rule
+   public TemporaryFolder folder = new TemporaryFolder();
+
+   @Test
+   public void testMostUsedCommands() throws Exception
+   {
+      File history = folder.newFile("history");
+      Files.write(history.toPath(), Arrays.asList("ls", "  project-new --named foo", "ls -a", "", "cd ..",
+               "project-new", "ls"), Charset.defaultCharset());
+      assertEquals(Arrays.asList("ls", "project-new", "cd"), ManPageWarmupTask.getMostUsedCommands(history, 10));
+      assertEquals(Arrays.asList("ls", "project-new"), ManPageWarmupTask.getMostUsedCommands(history, 2));
+   }
+
+   @Test
+   public void testMissingHistory() throws Exception
+   {
+      assertTrue(ManPageWarmupTask.getMostUsedCommands(new File(folder.getRoot(), "missing"), 10).isEmpty());
+   }
+}
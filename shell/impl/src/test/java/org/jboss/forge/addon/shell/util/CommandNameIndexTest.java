@@ -0,0 +1,90 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.shell.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Test case for {@link CommandNameIndex} class
+ */
+public class CommandNameIndexTest
+{
+   private final CommandNameIndex index = new CommandNameIndex(Arrays.asList("project-new", "project-build",
+            "addon-install", "addon-remove", "ls", "cd", "jpa-new-entity", "Scaffold-Generate"));
+
+   @Test
+   public void testTypos()
+   {
+      assertEquals("project-new", index.suggest("projetc-new", 2, 5).get(0));
+      assertEquals("addon-install", index.suggest("adon-instal", 2, 5).get(0));
+      assertTrue(index.suggest("xyzzy-frobnicate", 2, 5).isEmpty());
+   }
+
+   @Test
+   public void testExactMatchComesFirst()
+   {
+      List<String> suggestions = index.suggest("ls", 2, 5);
+      assertEquals("ls", suggestions.get(0));
+      assertTrue(suggestions.contains("cd"));
+   }
+
+   @Test
+   public void testPrefix()
+   {
+      List<String> suggestions = index.suggest("addon", 1, 10);
+      assertTrue(suggestions.containsAll(Arrays.asList("addon-install", "addon-remove")));
+      // Prefixes shorter than 3 characters only match by edit distance
+      assertEquals(Collections.emptyList(), new CommandNameIndex(Arrays.asList("project-new")).suggest("pr", 1, 10));
+   }
+
+   @Test
+   public void testTokens()
+   {
+      assertEquals("project-new", index.suggest("new-project", 2, 5).get(0));
+      assertTrue(index.suggest("entity", 1, 5).contains("jpa-new-entity"));
+   }
+
+   @Test
+   public void testCaseIsIgnoredButPreserved()
+   {
+      assertEquals("Scaffold-Generate", index.suggest("scaffold-generate", 0, 5).get(0));
+      assertEquals("project-new", index.suggest("PROJECT-NEW", 0, 5).get(0));
+   }
+
+   @Test
+   public void testDuplicateNames()
+   {
+      CommandNameIndex duplicates = new CommandNameIndex(Arrays.asList("Help", "help", "help"));
+      assertEquals(1, duplicates.size());
+      assertEquals(Arrays.asList("Help", "help"), duplicates.suggest("help", 0, 5));
+   }
+
+   @Test
+   public void testMaxResults()
+   {
+      assertEquals(1, index.suggest("project", 2, 1).size());
+      assertTrue(index.suggest(null, 2, 5).isEmpty());
+      assertTrue(index.suggest("  ", 2, 5).isEmpty());
+   }
+
+   @Test
+   public void testLevenshteinDistance()
+   {
+      assertEquals(0, CommandNameIndex.getLevenshteinDistance("ls", "ls"));
+      assertEquals(1, CommandNameIndex.getLevenshteinDistance("ls", "lsa"));
+      assertEquals(3, CommandNameIndex.getLevenshteinDistance("kitten", "sitting"));
+      assertEquals(4, CommandNameIndex.getLevenshteinDistance("", "abcd"));
+   }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.shell.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.Test;
+
+/**
+ * Test case for {@link StartupTimeline} class
+ */
+public class StartupTimelineTest
+{
+   @Test
+   public void testEventsArePrintedInOrder() throws Exception
+   {
+      StartupTimeline timeline = new StartupTimeline();
+      timeline.mark("prompt shown");
+      Thread.sleep(20);
+      timeline.mark("container started");
+      String[] lines = print(timeline).trim().split("\\r?\\n");
+      assertEquals(3, lines.length);
+      assertEquals("Startup timeline (since JVM start):", lines[0]);
+      assertTrue(lines[1].endsWith("  prompt shown"));
+      assertTrue(lines[2].endsWith("  container started"));
+      assertTrue(elapsed(lines[2]) >= elapsed(lines[1]) + 20);
+      assertTrue(lines[2].matches("\\s*\\d+ ms \\(\\+\\s*\\d+ ms\\)  container started"));
+   }
+
+   @Test
+   public void testEmptyTimeline() throws Exception
+   {
+      assertEquals("Startup timeline (since JVM start):", print(new StartupTimeline()).trim());
+   }
+
+   private static String print(StartupTimeline timeline) throws Exception
+   {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      timeline.print(new PrintStream(bytes, true, "UTF-8"));
+      return bytes.toString("UTF-8");
+   }
+
+   private static long elapsed(String line)
+   {
+      return Long.parseLong(line.trim().split(" ")[0]);
+   }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.shell.spi;
+
+import org.jboss.forge.addon.resource.Resource;
+
+/**
+ * Extension point for work to be done in background once the shell prompt is shown, so the first command does not pay
+ * for it (eg. detecting the project in the initial directory). Registered tasks only run if the
+ * <code>forge.shell.warmup</code> system property is set.
+ */
+public interface WarmupTask
+{
+   /**
+    * A short description of this task, displayed in the startup timeline
+    */
+   String getDescription();
+
+   /**
+    * Warm up the caches for the given initial {@link Resource} of the shell
+    */
+   void warmup(Resource<?> initialResource) throws Exception;
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.shell.mock.command;
+
+import javax.inject.Inject;
+
+import org.jboss.forge.addon.ui.command.AbstractUICommand;
+import org.jboss.forge.addon.ui.context.UIBuilder;
+import org.jboss.forge.addon.ui.context.UIContext;
+import org.jboss.forge.addon.ui.context.UIExecutionContext;
+import org.jboss.forge.addon.ui.input.UIInput;
+import org.jboss.forge.addon.ui.metadata.UICommandMetadata;
+import org.jboss.forge.addon.ui.metadata.WithAttributes;
+import org.jboss.forge.addon.ui.result.Result;
+import org.jboss.forge.addon.ui.result.Results;
+import org.jboss.forge.addon.ui.util.Metadata;
+
+/**
+ * A command whose default value, and so its man page, follows a state changed by the test
+ */
+public class ManStateCommand extends AbstractUICommand
+{
+   public static volatile String state = "initial";
+
+   @Inject
+   @WithAttributes(label = "state")
+   private UIInput<String> value;
+
+   @Override
+   public UICommandMetadata getMetadata(UIContext context)
+   {
+      return Metadata.forCommand(getClass()).name("manstate").description("Shows the state");
+   }
+
+   @Override
+   public void initializeUI(UIBuilder builder) throws Exception
+   {
+      value.setDefaultValue(state);
+      builder.add(value);
+   }
+
+   @Override
+   public Result execute(UIExecutionContext context) throws Exception
+   {
+      return Results.success(value.getValue());
+   }
+}
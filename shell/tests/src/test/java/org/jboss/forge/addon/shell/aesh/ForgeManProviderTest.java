@@ -17,6 +17,7 @@ import org.jboss.arquillian.junit.Arquillian;
 import org.jboss.forge.addon.shell.mock.MockCommandExecutionListener;
 import org.jboss.forge.addon.shell.mock.command.Career;
 import org.jboss.forge.addon.shell.mock.command.FooCommand;
+import org.jboss.forge.addon.shell.mock.command.ManStateCommand;
 import org.jboss.forge.addon.shell.test.ShellTest;
 import org.jboss.forge.addon.ui.result.Failed;
 import org.jboss.forge.arquillian.AddonDeployment;
@@ -42,7 +43,7 @@ public class ForgeManProviderTest
    public static AddonArchive getDeployment()
    {
       AddonArchive archive = ShrinkWrap.create(AddonArchive.class)
-               .addClasses(FooCommand.class, Career.class)
+               .addClasses(FooCommand.class, Career.class, ManStateCommand.class)
                .addBeansXML()
                .addClass(MockCommandExecutionListener.class)
                .addAsAddonDependencies(
@@ -96,6 +97,35 @@ public class ForgeManProviderTest
       Assert.assertFalse(listener.getResult() instanceof Failed);
    }
 
+   @Test(timeout = 20000)
+   public void testManPageIsRenderedAgainAfterCommandExecution() throws Exception
+   {
+      ManStateCommand.state = "first";
+      showManPage("manstate");
+      Assert.assertThat(test.getStdOut(), containsString("defaults to: [first]"));
+      test.clearScreen();
+
+      // No command was executed: the rendered page is reused
+      ManStateCommand.state = "second";
+      showManPage("manstate");
+      Assert.assertThat(test.getStdOut(), containsString("defaults to: [first]"));
+      test.clearScreen();
+
+      test.execute("manstate", timeoutQuantity, TimeUnit.SECONDS);
+      test.clearScreen();
+      showManPage("manstate");
+      Assert.assertThat(test.getStdOut(), containsString("defaults to: [second]"));
+   }
+
+   private void showManPage(String command) throws Exception
+   {
+      test.execute("man " + command);
+      // Wait for the above line to be consumed
+      Thread.sleep(1000);
+      test.execute("q");
+      test.waitForStdOutValue(command + " -- Uncategorized", timeoutQuantity, TimeUnit.SECONDS);
+   }
+
    @After
    public void clearScreen() throws Exception
    {
@@ -40,12 +40,16 @@ public class FreemarkerTemplateGenerator implements TemplateGenerator
       return new FreemarkerTemplateImpl(loader, template, getConfiguration());
    }
 
-   private Configuration getConfiguration()
+   private synchronized Configuration getConfiguration()
    {
       if (config == null)
       {
          config = new Configuration();
          config.setTemplateLoader(loader);
+         // Check the last modification time on every lookup: compiled templates are reused until their source changes
+         config.setTemplateUpdateDelay(0);
+         // Templates are addressed by their full location, locale variants would only cause extra lookups
+         config.setLocalizedLookup(false);
       }
       return config;
    }
@@ -3,6 +3,8 @@ package org.jboss.forge.addon.templates.freemarker;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.jboss.forge.addon.resource.Resource;
 import org.jboss.forge.addon.templates.AbstractTemplate;
@@ -15,11 +17,16 @@ import freemarker.template.TemplateException;
  * {@link Resource} instances to wrap Freemarker template resources. This class is used to distinguish Freemarker
  * templates from other templates.
  * 
+ * Compiled templates are cached by the {@link Configuration} (keyed by the resource location and checked against its
+ * last modification time) and may be rendered concurrently.
+ * 
  * @author Vineet Reynolds
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
  */
 class FreemarkerTemplateImpl extends AbstractTemplate implements FreemarkerTemplate
 {
+   private static final Logger log = Logger.getLogger(FreemarkerTemplateImpl.class.getName());
+
    private final freemarker.template.Configuration config;
    private final ResourceTemplateLoader loader;
 
@@ -45,18 +52,21 @@ class FreemarkerTemplateImpl extends AbstractTemplate implements FreemarkerTempl
       String id = loader.register(this.getResource());
       try
       {
+         long start = System.nanoTime();
          freemarker.template.Template templateFile = getFreemarkerConfig().getTemplate(id);
+         long loaded = System.nanoTime();
          templateFile.process(model, output);
          output.flush();
+         if (log.isLoggable(Level.FINE))
+         {
+            log.fine("Template " + id + " loaded in " + (loaded - start) / 1000 + "us, rendered in "
+                     + (System.nanoTime() - loaded) / 1000 + "us");
+         }
       }
       catch (TemplateException e)
       {
          throw new RuntimeException(e);
       }
-      finally
-      {
-         loader.dispose(id);
-      }
    }
 
    @Override
@@ -6,9 +6,16 @@
  */
 package org.jboss.forge.addon.templates.freemarker;
 
+import java.io.File;
+
+import org.jboss.forge.addon.resource.FileResource;
 import org.jboss.forge.addon.resource.Resource;
 
 /**
+ * Identifies a template {@link Resource}. The id is the canonical location of the resource (a file URI for files, the
+ * URL otherwise), so templates sharing a file name in different directories never collide and Freemarker can resolve
+ * relative includes against it.
+ * 
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
  */
 class ResourceId
@@ -19,7 +26,7 @@ class ResourceId
    public ResourceId(Resource<?> resource)
    {
       super();
-      this.id = resource.getName().toString();
+      this.id = getId(resource);
       this.resource = resource;
    }
 
@@ -32,4 +39,36 @@ class ResourceId
    {
       return resource;
    }
-}
\ No newline at end of file
+
+   static String getId(Resource<?> resource)
+   {
+      if (resource instanceof FileResource)
+      {
+         File file = ((FileResource<?>) resource).getUnderlyingResourceObject();
+         return file.getAbsoluteFile().toURI().normalize().toString();
+      }
+      return resource.getFullyQualifiedName();
+   }
+
+   @Override
+   public int hashCode()
+   {
+      return id.hashCode();
+   }
+
+   @Override
+   public boolean equals(Object obj)
+   {
+      if (this == obj)
+         return true;
+      if (!(obj instanceof ResourceId))
+         return false;
+      return id.equals(((ResourceId) obj).id);
+   }
+
+   @Override
+   public String toString()
+   {
+      return id;
+   }
+}
@@ -7,12 +7,17 @@
 
 package org.jboss.forge.addon.templates.freemarker;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -24,7 +29,11 @@ import org.jboss.forge.addon.resource.ResourceFactory;
 import freemarker.cache.StatefulTemplateLoader;
 
 /**
- * Loader for Resource objects
+ * Loader for Resource objects.
+ * 
+ * Resources stay registered under their {@link ResourceId} once rendered, so Freemarker's template cache can reuse the
+ * compiled template and only parse it again when {@link #getLastModified(Object)} changes. Only the most recently used
+ * locations are kept, the others are registered again when rendered.
  * 
  * @author <a href="ggastald@redhat.com">George Gastaldi</a>
  * @author <a href="mailto:lincolnbaxter@gmail.com">Lincoln Baxter, III</a>
@@ -32,7 +41,22 @@ import freemarker.cache.StatefulTemplateLoader;
 @Singleton
 public class ResourceTemplateLoader implements StatefulTemplateLoader
 {
-   private final Map<String, ResourceId> resourceMap = new ConcurrentHashMap<>();
+   /**
+    * The maximum number of registered templates and resolved includes
+    */
+   private static final int MAX_RESOURCES = 256;
+
+   private final Map<String, ResourceId> resourceMap = Collections.synchronizedMap(new LinkedHashMap<String, ResourceId>(
+            16, 0.75f, true)
+   {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Entry<String, ResourceId> eldest)
+      {
+         return size() > MAX_RESOURCES;
+      }
+   });
 
    /**
     * Needed for includes
@@ -47,33 +71,17 @@ public class ResourceTemplateLoader implements StatefulTemplateLoader
       return resourceId.getId();
    }
 
-   void dispose(String id)
-   {
-      resourceMap.remove(id);
-   }
-
    @Override
    public Object findTemplateSource(String name) throws IOException
    {
       ResourceId id = resourceMap.get(name);
       if (id == null)
       {
-         for (Entry<String, ResourceId> entry : resourceMap.entrySet())
-         {
-            if (name.startsWith(entry.getKey()))
-            {
-               id = entry.getValue();
-               break;
-            }
-         }
-      }
-
-      if (id == null)
-      {
-         Resource<?> includedResource = resourceFactory.create(name);
+         Resource<?> includedResource = resolve(name);
          if (includedResource != null && includedResource.exists())
          {
             id = generateResourceId(includedResource);
+            resourceMap.put(name, id);
          }
       }
       return id;
@@ -101,8 +109,7 @@ public class ResourceTemplateLoader implements StatefulTemplateLoader
    @Override
    public void closeTemplateSource(Object templateSource) throws IOException
    {
-      ResourceId resourceId = (ResourceId) templateSource;
-      dispose(resourceId.getId());
+      // Nothing to close: the reader is closed by Freemarker and the registration is kept for the next lookup
    }
 
    @Override
@@ -111,6 +118,37 @@ public class ResourceTemplateLoader implements StatefulTemplateLoader
       resourceMap.clear();
    }
 
+   /**
+    * Resolves an included template name. Relative includes are resolved by Freemarker against the including template
+    * id, so the name is usually a file URI or a URL.
+    */
+   private Resource<?> resolve(String name)
+   {
+      if (name.startsWith("file:"))
+      {
+         try
+         {
+            return resourceFactory.create(new File(URI.create(name)));
+         }
+         catch (IllegalArgumentException e)
+         {
+            // Not a hierarchical file URI, try it as an URL
+         }
+      }
+      if (name.indexOf(':') > 1)
+      {
+         try
+         {
+            return resourceFactory.create(new URL(name));
+         }
+         catch (MalformedURLException e)
+         {
+            // Not an URL, try it as a plain name
+         }
+      }
+      return resourceFactory.create(name);
+   }
+
    private ResourceId generateResourceId(Resource<?> resource)
    {
       return new ResourceId(resource);
@@ -1,6 +1,10 @@
 package org.jboss.forge.addon.templates;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import org.jboss.forge.addon.resource.Resource;
+import org.jboss.forge.addon.resource.WriteableResource;
 import org.jboss.forge.furnace.util.Assert;
 
 /**
@@ -12,7 +16,6 @@ import org.jboss.forge.furnace.util.Assert;
  */
 public abstract class AbstractTemplate implements Template
 {
-
    final Resource<?> resource;
 
    protected AbstractTemplate(Resource<?> resource)
@@ -31,4 +34,23 @@ public abstract class AbstractTemplate implements Template
    {
       return resource;
    }
+
+   /**
+    * Process the given model and stream the {@link Template} output to the given {@link WriteableResource} using UTF-8
+    * encoding, without holding the whole output in memory. The resource is created if it does not exist, and left
+    * untouched if the processing fails.
+    * 
+    * @see TemplateOutput
+    */
+   public void process(final Object model, WriteableResource<?, ?> output) throws IOException
+   {
+      TemplateOutput.write(output, new TemplateOutput.Renderer()
+      {
+         @Override
+         public void render(Writer writer) throws Exception
+         {
+            process(model, writer);
+         }
+      });
+   }
 }
@@ -0,0 +1,123 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.jboss.forge.addon.templates;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.forge.addon.resource.FileResource;
+import org.jboss.forge.addon.resource.WriteableResource;
+import org.jboss.forge.furnace.util.Assert;
+
+/**
+ * Writes the output of a template into a {@link WriteableResource} using UTF-8 encoding, without holding the whole
+ * output in memory.
+ *
+ * An existing resource is only overwritten once the template is fully rendered into a temporary file, so a rendering
+ * failure leaves it untouched. A resource created for the output is deleted if the rendering fails.
+ */
+public final class TemplateOutput
+{
+   private static final int BUFFER_SIZE = 8192;
+
+   /**
+    * Renders a template into a {@link Writer}
+    */
+   public interface Renderer
+   {
+      void render(Writer writer) throws Exception;
+   }
+
+   private TemplateOutput()
+   {
+   }
+
+   /**
+    * Renders into the given {@link WriteableResource}. Exceptions other than {@link IOException} and
+    * {@link RuntimeException} thrown by the {@link Renderer} are wrapped in an {@link IOException}.
+    */
+   public static void write(WriteableResource<?, ?> output, Renderer renderer) throws IOException
+   {
+      Assert.notNull(output, "The output resource cannot be null.");
+      if (output.exists())
+      {
+         File buffer = File.createTempFile("forge-template", ".tmp");
+         try
+         {
+            try (Writer writer = newWriter(new FileOutputStream(buffer)))
+            {
+               render(renderer, writer);
+            }
+            try (InputStream rendered = new FileInputStream(buffer))
+            {
+               output.setContents(rendered);
+            }
+         }
+         finally
+         {
+            buffer.delete();
+         }
+      }
+      else
+      {
+         if (output instanceof FileResource)
+         {
+            FileResource<?> file = (FileResource<?>) output;
+            file.getParent().mkdirs();
+            if (!file.createNewFile())
+            {
+               throw new IOException("Failed to create file: " + file.getFullyQualifiedName());
+            }
+         }
+         boolean rendered = false;
+         try
+         {
+            try (Writer writer = newWriter(output.getResourceOutputStream()))
+            {
+               render(renderer, writer);
+            }
+            rendered = true;
+         }
+         finally
+         {
+            if (!rendered)
+            {
+               output.delete();
+            }
+         }
+      }
+   }
+
+   private static Writer newWriter(OutputStream out)
+   {
+      return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+   }
+
+   private static void render(Renderer renderer, Writer writer) throws IOException
+   {
+      try
+      {
+         renderer.render(writer);
+      }
+      catch (IOException | RuntimeException e)
+      {
+         throw e;
+      }
+      catch (Exception e)
+      {
+         throw new IOException(e);
+      }
+   }
+}
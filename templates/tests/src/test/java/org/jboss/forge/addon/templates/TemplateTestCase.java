@@ -7,8 +7,11 @@
 package org.jboss.forge.addon.templates;
 
 import java.io.File;
+import java.io.Writer;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import javax.inject.Inject;
 
@@ -78,6 +81,133 @@ public class TemplateTestCase
       Assert.assertEquals(expected, actual);
    }
 
+   @Test
+   @SuppressWarnings("rawtypes")
+   public void testTemplatesWithSameNameDoNotCollide() throws Exception
+   {
+      File first = File.createTempFile("first", "");
+      first.delete();
+      first.mkdirs();
+      first.deleteOnExit();
+      File second = File.createTempFile("second", "");
+      second.delete();
+      second.mkdirs();
+      second.deleteOnExit();
+      FileResource firstResource = resourceFactory.create(new File(first, "template.ftl")).reify(FileResource.class);
+      firstResource.setContents("First ${name}");
+      FileResource secondResource = resourceFactory.create(new File(second, "template.ftl")).reify(FileResource.class);
+      secondResource.setContents("Second ${name}");
+      Template firstTemplate = templateFactory.create(firstResource, FreemarkerTemplate.class);
+      Template secondTemplate = templateFactory.create(secondResource, FreemarkerTemplate.class);
+      Assert.assertEquals("First JBoss Forge", firstTemplate.process(Collections.singletonMap("name", "JBoss Forge")));
+      Assert.assertEquals("Second JBoss Forge", secondTemplate.process(Collections.singletonMap("name", "JBoss Forge")));
+      firstResource.delete();
+      secondResource.delete();
+   }
+
+   @Test
+   @SuppressWarnings("rawtypes")
+   public void testModifiedTemplateIsReloaded() throws Exception
+   {
+      File tempFile = File.createTempFile("template", ".tmp");
+      tempFile.deleteOnExit();
+      FileResource resource = resourceFactory.create(tempFile).reify(FileResource.class);
+      resource.setContents("Hello ${name}!");
+      Template template = templateFactory.create(resource, FreemarkerTemplate.class);
+      Assert.assertEquals("Hello JBoss Forge!", template.process(Collections.singletonMap("name", "JBoss Forge")));
+      Assert.assertEquals("Hello Forge!", template.process(Collections.singletonMap("name", "Forge")));
+      resource.setContents("Goodbye ${name}!");
+      tempFile.setLastModified(tempFile.lastModified() + 2000);
+      Assert.assertEquals("Goodbye JBoss Forge!", template.process(Collections.singletonMap("name", "JBoss Forge")));
+   }
+
+   @Test
+   @SuppressWarnings("rawtypes")
+   public void testTemplateProcessorToResource() throws Exception
+   {
+      File tempFile = File.createTempFile("template", ".tmp");
+      tempFile.deleteOnExit();
+      FileResource resource = resourceFactory.create(tempFile).reify(FileResource.class);
+      resource.setContents("Hello ${name}!");
+      File outputDir = File.createTempFile("output", "");
+      outputDir.delete();
+      outputDir.deleteOnExit();
+      FileResource output = resourceFactory.create(new File(outputDir, "output.txt")).reify(FileResource.class);
+      final Template template = templateFactory.create(resource, FreemarkerTemplate.class);
+      TemplateOutput.write(output, new TemplateOutput.Renderer()
+      {
+         @Override
+         public void render(Writer writer) throws Exception
+         {
+            template.process(Collections.singletonMap("name", "JBoss Forge"), writer);
+         }
+      });
+      Assert.assertTrue(output.exists());
+      Assert.assertEquals("Hello JBoss Forge!", output.getContents());
+      output.delete();
+   }
+
+   @Test
+   @SuppressWarnings("rawtypes")
+   public void testFailedProcessingKeepsExistingResource() throws Exception
+   {
+      File tempFile = File.createTempFile("template", ".tmp");
+      tempFile.deleteOnExit();
+      FileResource resource = resourceFactory.create(tempFile).reify(FileResource.class);
+      resource.setContents("Hello ${name}! ${missing.value}");
+      File outputFile = File.createTempFile("output", ".txt");
+      outputFile.deleteOnExit();
+      FileResource output = resourceFactory.create(outputFile).reify(FileResource.class);
+      output.setContents("Original");
+      final Template template = templateFactory.create(resource, FreemarkerTemplate.class);
+      try
+      {
+         TemplateOutput.write(output, new TemplateOutput.Renderer()
+         {
+            @Override
+            public void render(Writer writer) throws Exception
+            {
+               template.process(Collections.singletonMap("name", "JBoss Forge"), writer);
+            }
+         });
+         Assert.fail("The template should not be processed");
+      }
+      catch (Exception expected)
+      {
+         // expected
+      }
+      Assert.assertEquals("Original", output.getContents());
+      output.delete();
+   }
+
+   @Test
+   @SuppressWarnings("rawtypes")
+   public void testFailedProcessingDeletesCreatedResource() throws Exception
+   {
+      File outputDir = File.createTempFile("output", "");
+      outputDir.delete();
+      outputDir.deleteOnExit();
+      FileResource output = resourceFactory.create(new File(outputDir, "output.txt")).reify(FileResource.class);
+      try
+      {
+         TemplateOutput.write(output, new TemplateOutput.Renderer()
+         {
+            @Override
+            public void render(Writer writer) throws Exception
+            {
+               writer.write("Partial output");
+               throw new IllegalStateException("Expected failure");
+            }
+         });
+         Assert.fail("The template should not be processed");
+      }
+      catch (IllegalStateException expected)
+      {
+         // expected
+      }
+      Assert.assertFalse(output.exists());
+   }
+
    @Test
    public void testClasspathTemplateProcessor() throws Exception
    {
@@ -119,4 +249,49 @@ public class TemplateTestCase
       Assert.assertEquals(expected, actual);
    }
 
+   @Test
+   @SuppressWarnings("rawtypes")
+   public void testIncludeIsNotMatchedByPrefix() throws Exception
+   {
+      File dir = File.createTempFile("includes", "");
+      dir.delete();
+      dir.mkdirs();
+      dir.deleteOnExit();
+      FileResource header = resourceFactory.create(new File(dir, "header")).reify(FileResource.class);
+      header.setContents("Header");
+      FileResource secondHeader = resourceFactory.create(new File(dir, "header2")).reify(FileResource.class);
+      secondHeader.setContents("Second header");
+      FileResource page = resourceFactory.create(new File(dir, "page")).reify(FileResource.class);
+      page.setContents("<#include \"header2\">");
+      Assert.assertEquals("Header", templateFactory.create(header, FreemarkerTemplate.class).process(Collections.emptyMap()));
+      Assert.assertEquals("Second header", templateFactory.create(page, FreemarkerTemplate.class).process(Collections.emptyMap()));
+      header.delete();
+      secondHeader.delete();
+      page.delete();
+      dir.delete();
+   }
+
+   @Test
+   @SuppressWarnings("rawtypes")
+   public void testManyTemplates() throws Exception
+   {
+      File dir = File.createTempFile("templates", "");
+      dir.delete();
+      dir.mkdirs();
+      dir.deleteOnExit();
+      List<Template> templates = new ArrayList<>();
+      for (int i = 0; i < 300; i++)
+      {
+         FileResource resource = resourceFactory.create(new File(dir, "template" + i)).reify(FileResource.class);
+         resource.setContents("Template " + i);
+         resource.deleteOnExit();
+         templates.add(templateFactory.create(resource, FreemarkerTemplate.class));
+      }
+      for (int i = 0; i < templates.size(); i++)
+      {
+         Assert.assertEquals("Template " + i, templates.get(i).process(Collections.emptyMap()));
+      }
+      // The first templates are no longer registered, they are registered again
+      Assert.assertEquals("Template 0", templates.get(0).process(Collections.emptyMap()));
+   }
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package org.jboss.forge.addon.text;
 
 import java.io.OutputStream;
+import java.io.Reader;
 
 import org.jboss.forge.addon.text.highlight.Encoder;
 import org.jboss.forge.addon.text.highlight.Scanner;
+import org.jboss.forge.addon.text.highlight.StringScanner;
 import org.jboss.forge.addon.text.highlight.Syntax;
 import org.jboss.forge.furnace.Furnace;
 import org.jboss.forge.furnace.container.simple.lifecycle.SimpleContainer;
@@ -18,6 +20,20 @@ public class Highlighter
    }
 
    public void byType(String contentType, String content, OutputStream out)
+   {
+      byType(contentType, content == null ? null : new StringScanner(content), out);
+   }
+
+   /**
+    * Highlights the given {@link Reader} incrementally: tokens are written to the output as the content is read, so
+    * output starts before the whole content is read. The reader is not closed.
+    */
+   public void byType(String contentType, Reader content, OutputStream out)
+   {
+      byType(contentType, content == null ? null : new StringScanner(content), out);
+   }
+
+   private void byType(String contentType, StringScanner content, OutputStream out)
    {
       if (contentType == null)
       {
@@ -41,6 +57,20 @@ public class Highlighter
    }
 
    public void byFileName(String fileName, String content, OutputStream out)
+   {
+      byFileName(fileName, content == null ? null : new StringScanner(content), out);
+   }
+
+   /**
+    * Highlights the given {@link Reader} incrementally: tokens are written to the output as the content is read, so
+    * output starts before the whole content is read. The reader is not closed.
+    */
+   public void byFileName(String fileName, Reader content, OutputStream out)
+   {
+      byFileName(fileName, content == null ? null : new StringScanner(content), out);
+   }
+
+   private void byFileName(String fileName, StringScanner content, OutputStream out)
    {
       if (fileName == null)
       {
@@ -63,7 +93,7 @@ public class Highlighter
       execute(Scanner.Factory.byFileName(fileName), content, out);
    }
 
-   private void execute(Scanner scanner, String content, OutputStream out)
+   private void execute(Scanner scanner, StringScanner content, OutputStream out)
    {
       if (scanner == null)
       {
@@ -8,9 +8,10 @@
  */
 package org.jboss.forge.addon.text;
 
-import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -22,12 +23,43 @@ import org.jboss.forge.furnace.util.Strings;
  * inspired by the <a href="http://api.rubyonrails.org/classes/Inflector.html">Inflector</a> class in <a
  * href="http://www.rubyonrails.org">Ruby on Rails</a>, which is distributed under the <a
  * href="http://wiki.rubyonrails.org/rails/pages/License">Rails license</a>.
+ * <p>
+ * The rules are held in an immutable {@link RuleSet}, replaced as a whole when rules are added, so inflecting words is
+ * thread-safe and lock-free. Instances of this class share the compiled default rules, and results are cached per word
+ * for each rule set.
+ * </p>
  */
 public class Inflector
 {
+   private static final Pattern UPPERCASE_WORD_BOUNDARY = Pattern.compile("([A-Z]+)([A-Z][a-z])");
+   private static final Pattern CAMEL_CASE_WORD_BOUNDARY = Pattern.compile("([a-z\\d])([A-Z])");
+   private static final Pattern UNDERSCORE_AND_NEXT_CHAR = Pattern.compile("(^|_)(.)");
+   private static final Pattern WORD_FIRST_CHAR = Pattern.compile("\\b([a-z])");
+   private static final Pattern TRAILING_ID = Pattern.compile("_id$");
+   private static final Pattern UNDERSCORES = Pattern.compile("_+");
+
+   /**
+    * The maximum number of words cached for each of the plural and singular forms of a {@link RuleSet}
+    */
+   private static final int MAX_CACHED_WORDS = 1024;
+
+   /**
+    * The default rules, compiled once and shared by all the {@link Inflector} instances. Created by the constructor
+    * below (while this field is still null, so it calls {@link #initialize()}).
+    */
+   private static final Inflector DEFAULTS = new Inflector();
+
    public Inflector()
    {
-      initialize();
+      if (DEFAULTS != null && getClass() == Inflector.class)
+      {
+         this.rules = DEFAULTS.rules;
+         this.uncountables.addAll(DEFAULTS.uncountables);
+      }
+      else
+      {
+         initialize();
+      }
    }
 
    protected class Rule
@@ -85,18 +117,78 @@ public class Inflector
       }
    }
 
-   private final LinkedList<Rule> plurals = new LinkedList<Rule>();
-   private final LinkedList<Rule> singulars = new LinkedList<Rule>();
+   /**
+    * An immutable set of compiled rules, along with the results of applying them. Adding a rule creates a new
+    * {@link RuleSet} (and therefore new caches).
+    */
+   private static final class RuleSet
+   {
+      private static final RuleSet EMPTY = new RuleSet(new Rule[0], new Rule[0]);
+
+      private final Rule[] plurals;
+      private final Rule[] singulars;
+      private final ConcurrentMap<String, String> pluralized = new ConcurrentHashMap<String, String>();
+      private final ConcurrentMap<String, String> singularized = new ConcurrentHashMap<String, String>();
+
+      private RuleSet(Rule[] plurals, Rule[] singulars)
+      {
+         this.plurals = plurals;
+         this.singulars = singulars;
+      }
+
+      private RuleSet withPlural(Rule rule)
+      {
+         return new RuleSet(prepend(rule, plurals), singulars);
+      }
+
+      private RuleSet withSingular(Rule rule)
+      {
+         return new RuleSet(plurals, prepend(rule, singulars));
+      }
+
+      private static Rule[] prepend(Rule rule, Rule[] rules)
+      {
+         Rule[] result = new Rule[rules.length + 1];
+         result[0] = rule;
+         System.arraycopy(rules, 0, result, 1, rules.length);
+         return result;
+      }
+
+      private static String apply(Rule[] rules, ConcurrentMap<String, String> cache, String word)
+      {
+         String result = cache.get(word);
+         if (result == null)
+         {
+            result = word;
+            for (Rule rule : rules)
+            {
+               String applied = rule.apply(word);
+               if (applied != null)
+               {
+                  result = applied;
+                  break;
+               }
+            }
+            if (cache.size() >= MAX_CACHED_WORDS)
+            {
+               cache.clear();
+            }
+            cache.put(word, result);
+         }
+         return result;
+      }
+   }
+
+   private volatile RuleSet rules = RuleSet.EMPTY;
    /**
     * The lowercase words that are to be excluded and not processed. This map can be modified by the users via
     * {@link #getUncountables()}.
     */
-   private final Set<String> uncountables = new HashSet<String>();
+   private final Set<String> uncountables = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
 
    protected Inflector(Inflector original)
    {
-      this.plurals.addAll(original.plurals);
-      this.singulars.addAll(original.singulars);
+      this.rules = original.rules;
       this.uncountables.addAll(original.uncountables);
    }
 
@@ -143,13 +235,8 @@ public class Inflector
          return wordStr;
       if (isUncountable(wordStr))
          return wordStr;
-      for (Rule rule : this.plurals)
-      {
-         String result = rule.apply(wordStr);
-         if (result != null)
-            return result;
-      }
-      return wordStr;
+      RuleSet ruleSet = this.rules;
+      return RuleSet.apply(ruleSet.plurals, ruleSet.pluralized, wordStr);
    }
 
    public String pluralize(Object word,
@@ -197,13 +284,8 @@ public class Inflector
          return wordStr;
       if (isUncountable(wordStr))
          return wordStr;
-      for (Rule rule : this.singulars)
-      {
-         String result = rule.apply(wordStr);
-         if (result != null)
-            return result;
-      }
-      return wordStr;
+      RuleSet ruleSet = this.rules;
+      return RuleSet.apply(ruleSet.singulars, ruleSet.singularized, wordStr);
    }
 
    /**
@@ -311,7 +393,7 @@ public class Inflector
          }
 
          // Change the case at the beginning at after each underscore ...
-         return replaceAllWithUppercase(result, "(^|_)(.)", 2);
+         return replaceAllWithUppercase(result, UNDERSCORE_AND_NEXT_CHAR, 2);
       }
       if (lowerCaseAndUnderscoredWord.length() < 2)
          return lowerCaseAndUnderscoredWord;
@@ -349,8 +431,8 @@ public class Inflector
       String result = camelCaseWord.trim();
       if (result.length() == 0)
          return "";
-      result = result.replaceAll("([A-Z]+)([A-Z][a-z])", "$1_$2");
-      result = result.replaceAll("([a-z\\d])([A-Z])", "$1_$2");
+      result = UPPERCASE_WORD_BOUNDARY.matcher(result).replaceAll("$1_$2");
+      result = CAMEL_CASE_WORD_BOUNDARY.matcher(result).replaceAll("$1_$2");
       result = result.replace('-', '_');
       if (delimiterChars != null)
       {
@@ -407,7 +489,7 @@ public class Inflector
       if (result.length() == 0)
          return "";
       // Remove a trailing "_id" token
-      result = result.replaceAll("_id$", "");
+      result = TRAILING_ID.matcher(result).replaceAll("");
       // Remove all of the tokens that should be removed
       if (removableTokens != null)
       {
@@ -416,7 +498,7 @@ public class Inflector
             result = result.replaceAll(removableToken, "");
          }
       }
-      result = result.replaceAll("_+", " "); // replace all adjacent underscores with a single space
+      result = UNDERSCORES.matcher(result).replaceAll(" "); // replace all adjacent underscores with a single space
       return capitalize(result);
    }
 
@@ -442,7 +524,7 @@ public class Inflector
             String... removableTokens)
    {
       String result = humanize(words, removableTokens);
-      result = replaceAllWithUppercase(result, "\\b([a-z])", 1); // change first char of each word to uppercase
+      result = replaceAllWithUppercase(result, WORD_FIRST_CHAR, 1); // change first char of each word to uppercase
       return result;
    }
 
@@ -498,18 +580,18 @@ public class Inflector
       return uncountables;
    }
 
-   public void addPluralize(String rule,
+   public synchronized void addPluralize(String rule,
             String replacement)
    {
       final Rule pluralizeRule = new Rule(rule, replacement);
-      this.plurals.addFirst(pluralizeRule);
+      this.rules = this.rules.withPlural(pluralizeRule);
    }
 
-   public void addSingularize(String rule,
+   public synchronized void addSingularize(String rule,
             String replacement)
    {
       final Rule singularizeRule = new Rule(rule, replacement);
-      this.singulars.addFirst(singularizeRule);
+      this.rules = this.rules.withSingular(singularizeRule);
    }
 
    public void addIrregular(String singular,
@@ -553,8 +635,14 @@ public class Inflector
             String regex,
             int groupNumberToUppercase)
    {
-      Pattern underscoreAndDotPattern = Pattern.compile(regex);
-      Matcher matcher = underscoreAndDotPattern.matcher(input);
+      return replaceAllWithUppercase(input, Pattern.compile(regex), groupNumberToUppercase);
+   }
+
+   private String replaceAllWithUppercase(String input,
+            Pattern pattern,
+            int groupNumberToUppercase)
+   {
+      Matcher matcher = pattern.matcher(input);
       StringBuffer sb = new StringBuffer();
       while (matcher.find())
       {
@@ -567,11 +655,10 @@ public class Inflector
    /**
     * Completely remove all rules within this inflector.
     */
-   public void clear()
+   public synchronized void clear()
    {
       this.uncountables.clear();
-      this.plurals.clear();
-      this.singulars.clear();
+      this.rules = RuleSet.EMPTY;
    }
 
    protected void initialize()
@@ -1,28 +1,57 @@
 package org.jboss.forge.addon.text.highlight;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class StringScanner
 {
+   /**
+    * Upper bound of the pattern cache; patterns built from scanned content (eg. closing tags) would make it grow
+    * without limit otherwise
+    */
+   private static final int MAX_CACHED_PATTERNS = 512;
+
+   private static final ConcurrentMap<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<String, Pattern>();
 
    private StringSequence sequence;
 
    public StringScanner(String source)
    {
-      this.sequence = new StringSequence(source);
+      this.sequence = new StringSequence(source, null);
+   }
+
+   /**
+    * Creates a scanner reading the given {@link Reader} incrementally: input is read in chunks as the scanner advances
+    * (or as a match needs more input to complete) and consumed input is discarded, so scanning starts before the whole
+    * content is read and memory usage is bounded by the longest token instead of the content size.
+    *
+    * Any {@link MatchResult} returned is only valid until the next call to scan, scanUntil or check. The reader is not
+    * closed by this scanner.
+    */
+   public StringScanner(Reader reader)
+   {
+      this.sequence = new StringSequence("", reader);
    }
 
    public MatchResult scan(String pattern)
    {
-      return scan(Pattern.compile(pattern));
+      return scan(compile(pattern));
    }
 
    public MatchResult scan(Pattern pattern)
    {
       Matcher m = pattern.matcher(sequence);
-      if (m.lookingAt())
+      boolean found = m.lookingAt();
+      while (m.hitEnd() && sequence.fill())
+      {
+         found = m.reset().lookingAt();
+      }
+      if (found)
       {
          MatchResult result = new StaticMatchResult(sequence, m);
          sequence.advance(m.end());
@@ -33,13 +62,18 @@ public class StringScanner
 
    public MatchResult scanUntil(String pattern)
    {
-      return scanUntil(Pattern.compile(pattern));
+      return scanUntil(compile(pattern));
    }
 
    public MatchResult scanUntil(Pattern pattern)
    {
       Matcher m = pattern.matcher(sequence);
-      if (m.find())
+      boolean found = m.find();
+      while (m.hitEnd() && sequence.fill())
+      {
+         found = m.reset().find();
+      }
+      if (found)
       {
          MatchResult result = new UntilStaticMatchResult(sequence, m);
          sequence.advance(m.end());
@@ -50,19 +84,42 @@ public class StringScanner
 
    public MatchResult check(String pattern)
    {
-      return check(Pattern.compile(pattern));
+      return check(compile(pattern));
    }
 
    public MatchResult check(Pattern pattern)
    {
       Matcher m = pattern.matcher(sequence);
-      if (m.lookingAt())
+      boolean found = m.lookingAt();
+      while (m.hitEnd() && sequence.fill())
+      {
+         found = m.reset().lookingAt();
+      }
+      if (found)
       {
          return new StaticMatchResult(sequence, m);
       }
       return null;
    }
 
+   /**
+    * Returns the compiled form of the given regular expression, compiling it only the first time it is requested.
+    */
+   static Pattern compile(String pattern)
+   {
+      Pattern compiled = PATTERN_CACHE.get(pattern);
+      if (compiled == null)
+      {
+         if (PATTERN_CACHE.size() >= MAX_CACHED_PATTERNS)
+         {
+            PATTERN_CACHE.clear();
+         }
+         compiled = Pattern.compile(pattern);
+         PATTERN_CACHE.put(pattern, compiled);
+      }
+      return compiled;
+   }
+
    public String next()
    {
       return sequence.pop();
@@ -118,6 +175,7 @@ public class StringScanner
          this.originalMatch = result;
          this.sequence = sequence;
          this.previousIndex = sequence.index();
+         sequence.mark();
       }
 
       @Override
@@ -232,43 +290,64 @@ public class StringScanner
       }
    }
 
+   /*
+    * A window over the source. Indexes given to and returned by this class are absolute positions in the source; the
+    * window holds the source from base onwards. When reading from a Reader, the window is refilled on demand and
+    * input before the line of the last match is discarded.
+    */
    private static class StringSequence implements CharSequence
    {
+      private static final int CHUNK_SIZE = 8192;
+
       private String source;
 
+      private Reader reader;
+
+      private char[] chunk;
+
+      private int base;
+
       private int index;
 
-      public StringSequence(String source)
+      private int mark;
+
+      public StringSequence(String source, Reader reader)
       {
          this.source = source;
+         this.reader = reader;
+         this.base = 0;
          this.index = 0;
       }
 
       @Override
       public int length()
       {
-         return source.length() - index;
+         return source.length() - (index - base);
       }
 
       @Override
       public char charAt(int index)
       {
-         return source.charAt(this.index + index);
+         return source.charAt(this.index - base + index);
       }
 
       @Override
       public CharSequence subSequence(int start, int end)
       {
-         return source.subSequence(this.index + start, this.index + end);
+         return source.subSequence(this.index - base + start, this.index - base + end);
       }
 
       public CharSequence subSequence(int index, int start, int end)
       {
-         return source.subSequence(index + start, index + end);
+         return source.subSequence(index - base + start, index - base + end);
       }
 
       public String peek(int length)
       {
+         while (length > length() && fill())
+         {
+            // read until enough input is available
+         }
          return peek(index, length);
       }
 
@@ -276,14 +355,18 @@ public class StringScanner
       {
          if(length < 0)
          {
-            return source.substring(pos+length, pos);
+            return source.substring(pos - base + length, pos - base);
          }
-         return source.substring(pos, pos + length);
+         return source.substring(pos - base, pos - base + length);
       }
 
       public String pop()
       {
-         return String.valueOf(source.charAt(this.index++));
+         if (length() == 0)
+         {
+            fill();
+         }
+         return String.valueOf(source.charAt(this.index++ - base));
       }
 
       public int index()
@@ -298,7 +381,62 @@ public class StringScanner
 
       public boolean hasMore()
       {
-         return this.index < source.length();
+         return length() > 0 || fill();
+      }
+
+      /**
+       * Marks the current index as the start of the last match, which must be kept in the window
+       */
+      public void mark()
+      {
+         this.mark = index;
+      }
+
+      /**
+       * Reads more input into the window. Reads at least as much as is already ahead of the current index, so
+       * patterns that keep asking for more input (eg. an unterminated comment) are retried a logarithmic number of
+       * times.
+       *
+       * @return <code>false</code> if the end of the input was already reached
+       */
+      public boolean fill()
+      {
+         if (reader == null)
+         {
+            return false;
+         }
+         if (chunk == null || chunk.length < length())
+         {
+            chunk = new char[Math.max(CHUNK_SIZE, length())];
+         }
+         int read;
+         try
+         {
+            do
+            {
+               read = reader.read(chunk);
+            }
+            while (read == 0);
+         }
+         catch (IOException e)
+         {
+            throw new RuntimeException("Could not read from input", e);
+         }
+         if (read < 0)
+         {
+            reader = null;
+            chunk = null;
+            return false;
+         }
+         // Keep from the line break before the last match, for column() and isBeginningOfLine()
+         int keep = source.lastIndexOf('\n', Math.min(mark, index) - base - 1);
+         if (keep > source.length() / 2)
+         {
+            source = source.substring(keep);
+            base += keep;
+         }
+         source = source.concat(new String(chunk, 0, read));
+         return true;
       }
    }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import java.awt.Color;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.Reader;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Map;
@@ -125,6 +126,14 @@ public class Syntax
          execute(new StringScanner(source));
       }
 
+      /**
+       * Scans the given {@link Reader} incrementally, encoding tokens as they are scanned
+       */
+      public void execute(Reader source)
+      {
+         execute(new StringScanner(source));
+      }
+
       public void execute(StringScanner source)
       {
          if (output == null && encoder == null)
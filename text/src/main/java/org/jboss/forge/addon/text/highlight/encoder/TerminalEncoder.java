@@ -23,7 +23,9 @@ public class TerminalEncoder extends Encoder.AbstractEncoder implements Encoder
       Color color = color(type);
       if (color != null)
       {
-         write(TerminalString.of(color, text));
+         write(TerminalString.START_BYTES[TerminalString.toAnsi(color)]);
+         write(text);
+         write(TerminalString.RESET_BYTES);
       }
       else
       {
@@ -58,34 +60,56 @@ public class TerminalEncoder extends Encoder.AbstractEncoder implements Encoder
       public static final String END = "m";
       public static final String RESET = "\u001B[0" + END;
 
+      static final byte[] RESET_BYTES = RESET.getBytes();
+
+      /**
+       * The 0-5 ANSI scale of each 0-255 color component
+       */
+      private static final int[] ANSI_SCALE = new int[256];
+
+      /**
+       * The escape sequence starting each of the 256 ANSI colors
+       */
+      private static final String[] START = new String[256];
+      static final byte[][] START_BYTES = new byte[256][];
+
+      static
+      {
+         for (int i = 0; i < ANSI_SCALE.length; i++)
+         {
+            ANSI_SCALE[i] = i / (255 / 5);
+         }
+         for (int i = 0; i < START.length; i++)
+         {
+            START[i] = START_COLOR + i + END;
+            START_BYTES[i] = START[i].getBytes();
+         }
+      }
+
       public static String of(Color color, String text)
       {
-         StringBuilder sb = new StringBuilder();
-         sb.append(START_COLOR)
-                  .append(from(color))
-                  .append(END);
-         sb.append(text);
-         sb.append(RESET);
-         return sb.toString();
+         return START[toAnsi(color)].concat(text).concat(RESET);
       }
 
       public static String from(Color color)
       {
-         return String.valueOf(
-                  rgbToAnsi(
-                           color.getRed(),
-                           color.getGreen(),
-                           color.getBlue()));
+         return String.valueOf(toAnsi(color));
+      }
+
+      static int toAnsi(Color color)
+      {
+         return rgbToAnsi(color.getRed(), color.getGreen(), color.getBlue());
       }
 
       private static int rgbToAnsi(int red, int green, int blue)
       {
-         return 16 + (getAnsiScale(red) * 36) + (getAnsiScale(green) * 6) + getAnsiScale(blue);
+         return 16 + (ANSI_SCALE[red] * 36) + (ANSI_SCALE[green] * 6) + ANSI_SCALE[blue];
       }
 
       public static int getAnsiScale(int color)
       {
-         return Math.round(color / (255/5));
+         // Values outside of the 0-255 color range are not tabled
+         return color >= 0 && color < ANSI_SCALE.length ? ANSI_SCALE[color] : color / (255 / 5);
       }
    }
 }
\ No newline at end of file
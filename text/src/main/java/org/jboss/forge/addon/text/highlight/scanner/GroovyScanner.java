@@ -39,6 +39,7 @@ public class GroovyScanner implements Scanner
    private static final Pattern REGEXP_ESCAPE = Pattern.compile(" [bfnrtv\\n\\\\'\"] | x[a-fA-F0-9]{1,2} | [0-7]{1,3} | \\d | [bBdDsSwW\\/] ", Pattern.COMMENTS);
 
    private static final Map<String, Pattern> STRING_CONTENT_PATTERN = new HashMap<String, Pattern>();
+   static
    {
       STRING_CONTENT_PATTERN.put("'", Pattern.compile("(?>\\\\[^\\\\'\\n]+|[^\\\\'\\n]+)+"));
       STRING_CONTENT_PATTERN.put("\"", Pattern.compile("[^\\\\$\"\\n]+"));
@@ -77,6 +78,10 @@ public class GroovyScanner implements Scanner
    private static final Pattern CONTENT_2 = Pattern.compile(" \\$ ", Pattern.DOTALL|Pattern.COMMENTS);
    private static final Pattern CONTENT_3 = Pattern.compile("\\\\. ", Pattern.DOTALL|Pattern.COMMENTS);
    private static final Pattern END_NEWLINE = Pattern.compile(" \\\\ | \\n ", Pattern.COMMENTS);
+   private static final Pattern KEY_SEPARATOR = Pattern.compile(":");
+   private static final Pattern END_MULTILINE_STRING = Pattern.compile("'''|\"\"\"");
+   private static final Pattern END_STRING = Pattern.compile("[\"'\\/]");
+   private static final Pattern REGEXP_MODIFIERS = Pattern.compile("[ix]+");
 
    public enum State
    {
@@ -167,7 +172,7 @@ public class GroovyScanner implements Scanner
                   kind = TokenType.method;
                   after_def = false;
                }
-               else if (kind == TokenType.ident && !"?".equals(last_token) && source.check(":") != null)
+               else if (kind == TokenType.ident && !"?".equals(last_token) && source.check(KEY_SEPARATOR) != null)
                {
                   kind = TokenType.key;
                }
@@ -297,12 +302,12 @@ public class GroovyScanner implements Scanner
             {
                encoder.textToken(m.group(), TokenType.content);
             }
-            else if ((m = source.scan(state == State.multiline_string ? "'''|\"\"\"":"[\"'\\/]")) != null)
+            else if ((m = source.scan(state == State.multiline_string ? END_MULTILINE_STRING : END_STRING)) != null)
             {
                encoder.textToken(m.group(), TokenType.delimiter);
                if (state == State.regexp)
                {
-                  MatchResult modifiers = source.scan("[ix]+");
+                  MatchResult modifiers = source.scan(REGEXP_MODIFIERS);
                   if (modifiers != null && !modifiers.group().equals(""))
                   {
                      encoder.textToken(modifiers.group(), TokenType.modifier);
@@ -60,6 +60,7 @@ public class HTMLScanner implements Scanner
    public static final Pattern SPECIAL_COMMENT = Pattern.compile("(\\s*<!--)(?:(.*?)(-->)|(.*))", Pattern.DOTALL);
 
    public static final Map<String, Pattern> PLAIN_STRING_CONTENT = new HashMap<String, Pattern>();
+   static
    {
       PLAIN_STRING_CONTENT.put("'", Pattern.compile("[^&'>\\n]+"));
       PLAIN_STRING_CONTENT.put("\"", Pattern.compile("[^&\">\\n]+"));
@@ -243,7 +244,7 @@ public class HTMLScanner implements Scanner
                      {
                         encoder.textToken(m.group(), TokenType.comment);
                      }
-                     String code = source.scanUntil(Pattern.compile("(?=" + groupStart + "|\\z)")).group();
+                     String code = source.scanUntil("(?=" + groupStart + "|\\z)").group();
                      if (EmbeddedType.script == in_attribute)
                      {
                         Syntax.Builder.create()
@@ -83,6 +83,7 @@ public class JavaScanner implements Scanner
             .add(DIRECTIVES, TokenType.directive);
 
    public static final Map<String, Pattern> STRING_CONTENT_PATTERN = new HashMap<String, Pattern>();
+   static
    {
       STRING_CONTENT_PATTERN.put("'", STRING_CONTENT_PATTERN_SINGLE);
       STRING_CONTENT_PATTERN.put("\"", STRING_CONTENT_PATTERN_DOUBLE);
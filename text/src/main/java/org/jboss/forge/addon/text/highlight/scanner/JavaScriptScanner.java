@@ -56,12 +56,14 @@ public class JavaScriptScanner implements Scanner
             Pattern.COMMENTS);
    private static final Pattern REGEXP_ESSCAPE = Pattern.compile(" [bBdDsSwW] ", Pattern.COMMENTS);
    private static final Map<String, Pattern> STRING_CONTENT_PATTERN = new HashMap<String, Pattern>();
+   static
    {
       STRING_CONTENT_PATTERN.put("'", Pattern.compile("[^\\\\']+"));
       STRING_CONTENT_PATTERN.put("\"", Pattern.compile("[^\\\\\"]+"));
       STRING_CONTENT_PATTERN.put("/", Pattern.compile("[^\\\\\\/]+"));
    }
    private static final Map<String, Pattern> KEY_CHECK_PATTERN = new HashMap<String, Pattern>();
+   static
    {
       KEY_CHECK_PATTERN.put("'",
                Pattern.compile(" (?> [^\\\\']* (?: \\\\. [^\\\\']* )* ) ' \\s* : ", Pattern.COMMENTS | Pattern.DOTALL));
@@ -79,6 +79,7 @@ public class SQLScanner implements Scanner
    private static Pattern STRING_END = Pattern.compile(" \\\\ . ", Pattern.COMMENTS);
 
    private static Map<String, Pattern> STRING_CONTENT_PATTERN = new HashMap<String, Pattern>();
+   static
    {
      STRING_CONTENT_PATTERN.put("\"", Pattern.compile(" (?: [^\\\\\"] | \"\" )+ ", Pattern.COMMENTS));
      STRING_CONTENT_PATTERN.put("'", Pattern.compile(" (?: [^\\\\'] | '' )+ ", Pattern.COMMENTS));
@@ -391,4 +391,41 @@ public class InflectorTest
       ordinalize(100004, "100004th");
    }
 
+   @Test
+   public void shouldApplyRulesAddedAfterCaching()
+   {
+      assertEquals("gooses", inflector.pluralize("goose"));
+      assertEquals("gooses", inflector.pluralize("goose"));
+
+      Inflector other = new Inflector();
+      inflector.addIrregular("goose", "geese");
+      assertEquals("geese", inflector.pluralize("goose"));
+      assertEquals("goose", inflector.singularize("geese"));
+      // Rules are not shared with other instances
+      assertEquals("gooses", other.pluralize("goose"));
+      assertEquals("gooses", new Inflector().pluralize("goose"));
+   }
+
+   @Test
+   public void shouldApplyUncountablesAddedAfterCaching()
+   {
+      assertEquals("cloths", inflector.pluralize("cloth"));
+      inflector.getUncountables().add("cloth");
+      assertEquals("cloth", inflector.pluralize("cloth"));
+      inflector.getUncountables().remove("cloth");
+      assertEquals("cloths", inflector.pluralize("cloth"));
+   }
+
+   @Test
+   public void shouldCloneRules()
+   {
+      inflector.addIrregular("goose", "geese");
+      Inflector clone = inflector.clone();
+      assertEquals("geese", clone.pluralize("goose"));
+
+      inflector.clear();
+      assertEquals("goose", inflector.pluralize("goose"));
+      assertEquals("geese", clone.pluralize("goose"));
+   }
+
 }
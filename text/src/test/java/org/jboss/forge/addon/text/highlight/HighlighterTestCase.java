@@ -1,6 +1,7 @@
 package org.jboss.forge.addon.text.highlight;
 
 import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
 
 import javax.inject.Inject;
 
@@ -85,4 +86,16 @@ public class HighlighterTestCase {
 
       Assert.assertTrue(out.toString().contains("public"));
    }
+
+   @Test
+   public void shouldHighlightReaderLikeString() {
+      String content = "public class Test {\n   /* comment */\n   String s = \"value\";\n}\n";
+      ByteArrayOutputStream expected = new ByteArrayOutputStream();
+      highlighter.byFileName("test.java", content, expected);
+
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      highlighter.byFileName("test.java", new StringReader(content), out);
+
+      Assert.assertEquals(expected.toString(), out.toString());
+   }
 }
\ No newline at end of file
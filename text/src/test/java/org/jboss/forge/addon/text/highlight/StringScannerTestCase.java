@@ -119,4 +119,15 @@ public class StringScannerTestCase
       StringScanner scanner = new StringScanner(source);
       Assert.assertEquals(3, scanner.column(7));
    }
+
+   @Test
+   public void shouldReuseCompiledPatterns() throws Exception {
+      Assert.assertSame(StringScanner.compile("[a-z]+"), StringScanner.compile("[a-z]+"));
+
+      StringScanner scanner = new StringScanner("abc123");
+      Assert.assertEquals("abc", scanner.scan("[a-z]+").group());
+      Assert.assertEquals("123", scanner.check("\\d+").group());
+      Assert.assertEquals("123", scanner.scanUntil("\\z").group());
+      Assert.assertFalse(scanner.hasMore());
+   }
 }
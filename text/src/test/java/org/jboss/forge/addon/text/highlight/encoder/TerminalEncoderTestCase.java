@@ -0,0 +1,44 @@
+package org.jboss.forge.addon.text.highlight.encoder;
+
+import java.awt.Color;
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+
+import org.jboss.forge.addon.text.highlight.Theme;
+import org.jboss.forge.addon.text.highlight.TokenType;
+import org.jboss.forge.addon.text.highlight.encoder.TerminalEncoder.TerminalString;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TerminalEncoderTestCase
+{
+
+   @Test
+   public void shouldConvertColorsToAnsi() throws Exception
+   {
+      Assert.assertEquals("16", TerminalString.from(Color.BLACK));
+      Assert.assertEquals("231", TerminalString.from(Color.WHITE));
+      Assert.assertEquals("196", TerminalString.from(Color.RED));
+      Assert.assertEquals(2, TerminalString.getAnsiScale(128));
+   }
+
+   @Test
+   public void shouldScaleColorsOutsideOfRange() throws Exception
+   {
+      Assert.assertEquals(6, TerminalString.getAnsiScale(306));
+      Assert.assertEquals(-1, TerminalString.getAnsiScale(-51));
+   }
+
+   @Test
+   public void shouldWrapColoredTokens() throws Exception
+   {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      TerminalEncoder encoder = new TerminalEncoder(out,
+               new Theme().set(Color.RED, TokenType.keyword), new HashMap<String, Object>());
+      encoder.textToken("class", TokenType.keyword);
+      encoder.textToken(" ", TokenType.space);
+
+      Assert.assertEquals(TerminalString.RESET + TerminalString.of(Color.RED, "class") + " ", out.toString());
+      Assert.assertEquals("\u001B[38;5;196mclass\u001B[0m", TerminalString.of(Color.RED, "class"));
+   }
+}
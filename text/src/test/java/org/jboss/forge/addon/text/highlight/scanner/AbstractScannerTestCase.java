@@ -3,6 +3,7 @@ package org.jboss.forge.addon.text.highlight.scanner;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -77,6 +78,31 @@ public abstract class AbstractScannerTestCase
          }
       }
       Assert.assertEquals(expectedContent, result);
+
+      // The same content read incrementally, in chunks of varying sizes
+      out.reset();
+      builder.execute(new ChunkedReader(exampleContent));
+      out.flush();
+      Assert.assertEquals("streamed " + exampleName, result, new String(out.toByteArray()));
+   }
+
+   /**
+    * Returns at most a few characters per read, so tokens span many chunks
+    */
+   private static class ChunkedReader extends StringReader
+   {
+      private int reads;
+
+      public ChunkedReader(String content)
+      {
+         super(content);
+      }
+
+      @Override
+      public int read(char[] cbuf, int off, int len) throws IOException
+      {
+         return super.read(cbuf, off, Math.min(len, 1 + (reads++ * 7) % 61));
+      }
    }
 
    static byte[] asByteArray(final InputStream in) throws IllegalArgumentException
@@ -0,0 +1,168 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.ui.impl.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.jboss.forge.addon.ui.annotation.Command;
+import org.jboss.forge.addon.ui.annotation.Option;
+
+/**
+ * Holds everything that can be computed once for a {@link Command} annotated method: its {@link MethodHandle} and the
+ * mapping of each method parameter to either a reserved parameter or an {@link Option} input.
+ *
+ * Instances are immutable and do not hold the service instance the method is invoked on, so they may be shared by any
+ * number of {@link AnnotationCommandAdapter} instances.
+ */
+public class AnnotatedCommandMethod
+{
+   private final Method method;
+   private final Command command;
+   private final MethodHandle handle;
+
+   private final Class<?>[] parameterTypes;
+   private final boolean[] reserved;
+   private final Option[] options;
+   private final int[] parameterPositions;
+   private final int[] inputIndexes;
+
+   public AnnotatedCommandMethod(Method method) throws IllegalAccessException
+   {
+      this.method = method;
+      this.command = method.getAnnotation(Command.class);
+      this.parameterTypes = method.getParameterTypes();
+
+      int count = parameterTypes.length;
+      Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+      this.reserved = new boolean[count];
+      this.inputIndexes = new int[count];
+      Option[] optionsFound = new Option[count];
+      int[] positionsFound = new int[count];
+      int inputCount = 0;
+      for (int i = 0; i < count; i++)
+      {
+         inputIndexes[i] = -1;
+         if (ReservedParameters.isReservedParameter(parameterTypes[i]))
+         {
+            reserved[i] = true;
+         }
+         else
+         {
+            for (Annotation annotation : parameterAnnotations[i])
+            {
+               if (annotation instanceof Option)
+               {
+                  optionsFound[inputCount] = (Option) annotation;
+               }
+            }
+            if (optionsFound[inputCount] != null)
+            {
+               positionsFound[inputCount] = i;
+               inputIndexes[i] = inputCount++;
+            }
+         }
+      }
+      this.options = new Option[inputCount];
+      this.parameterPositions = new int[inputCount];
+      System.arraycopy(optionsFound, 0, options, 0, inputCount);
+      System.arraycopy(positionsFound, 0, parameterPositions, 0, inputCount);
+
+      MethodHandle target = MethodHandles.lookup().unreflect(method);
+      if (Modifier.isStatic(method.getModifiers()))
+      {
+         // Static methods ignore the instance they are invoked on
+         target = MethodHandles.dropArguments(target, 0, Object.class);
+      }
+      this.handle = target.asType(MethodType.genericMethodType(count + 1)).asSpreader(Object[].class, count);
+   }
+
+   public Method getMethod()
+   {
+      return method;
+   }
+
+   public Command getCommand()
+   {
+      return command;
+   }
+
+   /**
+    * @return the number of parameters of the underlying method
+    */
+   public int getParameterCount()
+   {
+      return parameterTypes.length;
+   }
+
+   public Class<?> getParameterType(int parameter)
+   {
+      return parameterTypes[parameter];
+   }
+
+   /**
+    * @return <code>true</code> if the given parameter is a {@link ReservedParameters reserved parameter}
+    */
+   public boolean isReservedParameter(int parameter)
+   {
+      return reserved[parameter];
+   }
+
+   /**
+    * @return the index of the input mapped to the given parameter, or -1 if the parameter is not an {@link Option}
+    */
+   public int getInputIndex(int parameter)
+   {
+      return inputIndexes[parameter];
+   }
+
+   /**
+    * @return the number of {@link Option} annotated parameters
+    */
+   public int getInputCount()
+   {
+      return options.length;
+   }
+
+   public Option getOption(int input)
+   {
+      return options[input];
+   }
+
+   /**
+    * @return the position of the method parameter the given input is mapped to
+    */
+   public int getParameterPosition(int input)
+   {
+      return parameterPositions[input];
+   }
+
+   /**
+    * Invokes the underlying method on the given instance with the given arguments. Exceptions thrown by the method are
+    * propagated as is.
+    */
+   public Object invoke(Object instance, Object[] args) throws Exception
+   {
+      try
+      {
+         return (Object) handle.invokeExact(instance, args);
+      }
+      catch (Exception | Error e)
+      {
+         throw e;
+      }
+      catch (Throwable t)
+      {
+         throw new IllegalStateException("Error while invoking " + method, t);
+      }
+   }
+}
@@ -7,10 +7,6 @@
 
 package org.jboss.forge.addon.ui.impl.annotation;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.List;
 
 import org.jboss.forge.addon.ui.annotation.Command;
@@ -39,31 +35,32 @@ import org.jboss.forge.furnace.util.Predicate;
  */
 public class AnnotationCommandAdapter implements UICommand
 {
-   private final List<InputComponent<?, ?>> inputs = new ArrayList<>();
-   private final InputComponentProducer factory;
-   private final Method method;
+   private final AnnotatedCommandMethod commandMethod;
    private final Object instance;
+   private final InputComponentProducer factory;
    private final List<Predicate<UIContext>> enabledPredicates;
+   private final InputComponent<?, ?>[] inputs;
 
-   public AnnotationCommandAdapter(Method method, Object instance, InputComponentProducer factory,
-            List<Predicate<UIContext>> enabledPredicates)
+   public AnnotationCommandAdapter(AnnotatedCommandMethod commandMethod, Object instance,
+            InputComponentProducer factory, List<Predicate<UIContext>> enabledPredicates)
    {
-      this.method = method;
+      this.commandMethod = commandMethod;
       this.instance = instance;
       this.factory = factory;
       this.enabledPredicates = enabledPredicates;
+      this.inputs = new InputComponent<?, ?>[commandMethod.getInputCount()];
    }
 
    @Override
    public UICommandMetadata getMetadata(UIContext context)
    {
-      Command ann = method.getAnnotation(Command.class);
+      Command ann = commandMethod.getCommand();
       String name = ann.value();
       if (name.isEmpty())
       {
-         name = method.getName();
+         name = commandMethod.getMethod().getName();
       }
-      return Metadata.forCommand(method.getDeclaringClass()).name(name).description(ann.help())
+      return Metadata.forCommand(commandMethod.getMethod().getDeclaringClass()).name(name).description(ann.help())
                .category(Categories.create(ann.categories()));
    }
 
@@ -81,45 +78,31 @@ public class AnnotationCommandAdapter implements UICommand
    @Override
    public void initializeUI(UIBuilder builder) throws Exception
    {
-      int position = 0;
-      for (Class<?> parameterType : method.getParameterTypes())
+      for (int i = 0; i < inputs.length; i++)
       {
-         if (!ReservedParameters.isReservedParameter(parameterType))
+         Option option = commandMethod.getOption(i);
+         int position = commandMethod.getParameterPosition(i);
+         Class<?> parameterType = commandMethod.getParameterType(position);
+         char shortName = option.shortName();
+         String paramName = (option.value().isEmpty()) ? "param" + position : option.value();
+         InputComponent<?, ?> input;
+         if (Iterable.class.isAssignableFrom(parameterType))
          {
-            Option option = null;
-            for (Annotation annotation : method.getParameterAnnotations()[position])
-            {
-               if (annotation instanceof Option)
-               {
-                  option = (Option) annotation;
-               }
-            }
-
-            if (option != null)
-            {
-               char shortName = option.shortName();
-               String paramName = (option.value().isEmpty()) ? "param" + position : option.value();
-               InputComponent<?, ?> input;
-               if (Iterable.class.isAssignableFrom(parameterType))
-               {
-                  // TODO: UIInputMany or UISelectMany ?
-                  input = factory.createInputMany(paramName, shortName, parameterType);
-               }
-               else if (parameterType.isEnum() || Boolean.class == parameterType)
-               {
-                  input = factory.createSelectOne(paramName, shortName, parameterType);
-                  factory.setupSelectComponent((SelectComponent<?, ?>) input);
-               }
-               else
-               {
-                  input = factory.createInput(paramName, shortName, parameterType);
-               }
-               factory.preconfigureInput(input, option);
-               builder.add(input);
-               inputs.add(input);
-            }
+            // TODO: UIInputMany or UISelectMany ?
+            input = factory.createInputMany(paramName, shortName, parameterType);
          }
-         position++;
+         else if (parameterType.isEnum() || Boolean.class == parameterType)
+         {
+            input = factory.createSelectOne(paramName, shortName, parameterType);
+            factory.setupSelectComponent((SelectComponent<?, ?>) input);
+         }
+         else
+         {
+            input = factory.createInput(paramName, shortName, parameterType);
+         }
+         factory.preconfigureInput(input, option);
+         builder.add(input);
+         inputs[i] = input;
       }
    }
 
@@ -132,43 +115,23 @@ public class AnnotationCommandAdapter implements UICommand
    @Override
    public Result execute(UIExecutionContext context) throws Exception
    {
-      List<Object> args = new ArrayList<>();
-      int idx = 0;
-      for (Class<?> type : method.getParameterTypes())
+      Object[] args = new Object[commandMethod.getParameterCount()];
+      for (int i = 0; i < args.length; i++)
       {
-         Object value = null;
-         if (ReservedParameters.isReservedParameter(type))
+         if (commandMethod.isReservedParameter(i))
          {
-            value = ReservedParameters.getReservedParameter(context, type);
+            args[i] = ReservedParameters.getReservedParameter(context, commandMethod.getParameterType(i));
          }
          else
          {
-            Option option = null;
-            for (Annotation annotation : method.getParameterAnnotations()[args.size()])
-            {
-               if (annotation instanceof Option)
-               {
-                  option = (Option) annotation;
-               }
-            }
-
-            if (option != null)
+            int idx = commandMethod.getInputIndex(i);
+            if (idx != -1)
             {
-               value = InputComponents.getValueFor(inputs.get(idx));
-               idx++;
+               args[i] = InputComponents.getValueFor(inputs[idx]);
             }
          }
-         args.add(value);
-      }
-      Object result = null;
-      try
-      {
-         result = method.invoke(instance, args.toArray(new Object[args.size()]));
-      }
-      catch (InvocationTargetException ie)
-      {
-         throw (Exception) ie.getCause();
       }
+      Object result = commandMethod.invoke(instance, args);
       if (result == null)
       {
          return Results.success();
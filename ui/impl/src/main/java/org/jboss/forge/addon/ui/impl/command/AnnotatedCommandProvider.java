@@ -10,9 +10,9 @@ package org.jboss.forge.addon.ui.impl.command;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -24,6 +24,7 @@ import org.jboss.forge.addon.ui.annotation.Command;
 import org.jboss.forge.addon.ui.command.CommandProvider;
 import org.jboss.forge.addon.ui.command.UICommand;
 import org.jboss.forge.addon.ui.context.UIContext;
+import org.jboss.forge.addon.ui.impl.annotation.AnnotatedCommandMethod;
 import org.jboss.forge.addon.ui.impl.annotation.AnnotationCommandAdapter;
 import org.jboss.forge.addon.ui.impl.extension.AnnotatedCommandExtension;
 import org.jboss.forge.addon.ui.impl.input.InputComponentProducer;
@@ -50,20 +51,42 @@ public class AnnotatedCommandProvider implements CommandProvider
    @Inject
    private AnnotatedCommandExtension extension;
 
+   /**
+    * Method handles and service lookups resolved for each {@link Command} method, valid for a single
+    * {@link AddonRegistry} version
+    */
+   private volatile CommandMethods commandMethods = new CommandMethods(-1);
+
    private Logger logger = Logger.getLogger(getClass().getName());
 
    @Override
    public Iterable<UICommand> getCommands()
    {
-      Set<UICommand> result = new HashSet<>();
+      CommandMethods current = commandMethods;
+      long registryVersion = registry.getVersion();
+      if (current.version != registryVersion)
+      {
+         // Threads still working with the previous instance cannot put stale entries in this one
+         current = new CommandMethods(registryVersion);
+         commandMethods = current;
+      }
+      List<UICommand> result = new ArrayList<>();
       for (Method method : extension.getAnnotatedCommandMethods())
       {
          try
          {
-            UICommand cmd = createAnnotatedCommand(method);
-            if (cmd != null)
+            CommandMethod commandMethod = current.methods.get(method);
+            if (commandMethod == null)
             {
-               result.add(cmd);
+               commandMethod = createCommandMethod(method);
+               if (commandMethod != null)
+               {
+                  current.methods.put(method, commandMethod);
+               }
+            }
+            if (commandMethod != null)
+            {
+               result.add(commandMethod.createCommand(factory));
             }
          }
          catch (Exception e)
@@ -74,7 +97,7 @@ public class AnnotatedCommandProvider implements CommandProvider
       return result;
    }
 
-   private UICommand createAnnotatedCommand(Method method)
+   private CommandMethod createCommandMethod(Method method) throws IllegalAccessException
    {
       Imported<?> service = registry.getServices(method.getDeclaringClass());
       if (service.isUnsatisfied())
@@ -83,20 +106,63 @@ public class AnnotatedCommandProvider implements CommandProvider
          logger.log(Level.SEVERE, "Error while finding " + method.getDeclaringClass() + " as a service");
          return null;
       }
-      Object instance = service.get();
       Command ann = method.getAnnotation(Command.class);
 
-      List<Predicate<UIContext>> enabledPredicates = new ArrayList<>();
+      List<Imported<? extends Predicate<UIContext>>> enabledPredicates = new ArrayList<>();
       for (Class<? extends Predicate<UIContext>> type : ann.enabled())
       {
-         enabledPredicates.add(registry.getServices(type).get());
+         enabledPredicates.add(registry.getServices(type));
       }
-      return new AnnotationCommandAdapter(method, instance, factory, enabledPredicates);
+      return new CommandMethod(new AnnotatedCommandMethod(method), service, enabledPredicates);
    }
 
    public void addonDestroyed(@Observes PreShutdown shutdown)
    {
       AddonId id = shutdown.getAddon().getId();
       extension.addonDestroyed(id);
+      commandMethods = new CommandMethods(-1);
+   }
+
+   /**
+    * The {@link CommandMethod} instances of an {@link AddonRegistry} version
+    */
+   private static class CommandMethods
+   {
+      private final long version;
+      private final Map<Method, CommandMethod> methods = new ConcurrentHashMap<>();
+
+      CommandMethods(long version)
+      {
+         this.version = version;
+      }
+   }
+
+   /**
+    * A {@link Command} method and the services it needs. Service instances are still obtained for every command
+    * created, as they may not be singletons
+    */
+   private static class CommandMethod
+   {
+      private final AnnotatedCommandMethod method;
+      private final Imported<?> service;
+      private final List<Imported<? extends Predicate<UIContext>>> enabledPredicates;
+
+      CommandMethod(AnnotatedCommandMethod method, Imported<?> service,
+               List<Imported<? extends Predicate<UIContext>>> enabledPredicates)
+      {
+         this.method = method;
+         this.service = service;
+         this.enabledPredicates = enabledPredicates;
+      }
+
+      UICommand createCommand(InputComponentProducer factory)
+      {
+         List<Predicate<UIContext>> predicates = new ArrayList<>(enabledPredicates.size());
+         for (Imported<? extends Predicate<UIContext>> predicate : enabledPredicates)
+         {
+            predicates.add(predicate.get());
+         }
+         return new AnnotationCommandAdapter(method, service.get(), factory, predicates);
+      }
    }
 }
@@ -91,7 +91,7 @@ class SingleCommandControllerImpl extends AbstractCommandController implements S
          firePostCommandExecuted(executionContext, listeners, initialCommand, result);
          return result;
       }
-      catch (Exception e)
+      catch (Exception | Error e)
       {
          firePostCommandFailure(executionContext, listeners, initialCommand, e);
          throw e;
@@ -24,12 +24,15 @@ import org.jboss.forge.addon.ui.command.CommandExecutionListener;
 import org.jboss.forge.addon.ui.command.UICommand;
 import org.jboss.forge.addon.ui.context.UIContext;
 import org.jboss.forge.addon.ui.context.UIExecutionContext;
+import org.jboss.forge.addon.ui.context.UISelection;
 import org.jboss.forge.addon.ui.controller.CommandController;
 import org.jboss.forge.addon.ui.controller.WizardCommandController;
 import org.jboss.forge.addon.ui.impl.context.UIExecutionContextImpl;
 import org.jboss.forge.addon.ui.impl.context.UINavigationContextImpl;
 import org.jboss.forge.addon.ui.input.InputComponent;
 import org.jboss.forge.addon.ui.input.UIPrompt;
+import org.jboss.forge.addon.ui.input.ValueChangeListener;
+import org.jboss.forge.addon.ui.input.events.ValueChangeEvent;
 import org.jboss.forge.addon.ui.metadata.UICommandMetadata;
 import org.jboss.forge.addon.ui.output.UIMessage;
 import org.jboss.forge.addon.ui.progress.UIProgressMonitor;
@@ -40,6 +43,7 @@ import org.jboss.forge.addon.ui.result.Results;
 import org.jboss.forge.addon.ui.wizard.UIWizard;
 import org.jboss.forge.addon.ui.wizard.WizardExecutionListener;
 import org.jboss.forge.furnace.addons.AddonRegistry;
+import org.jboss.forge.furnace.spi.ListenerRegistration;
 
 /**
  *
@@ -67,6 +71,12 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
     */
    private int flowPointer = 0;
 
+   /**
+    * A hash of the {@link UIContext} attributes and selection when the flow was last refreshed. When it changes, every
+    * step is marked as dirty
+    */
+   private Integer contextState;
+
    private final CommandControllerFactoryImpl controllerFactory;
 
    public WizardCommandControllerImpl(UIContext context, AddonRegistry addonRegistry, UIRuntime runtime,
@@ -82,6 +92,16 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
     */
    private void refreshFlow()
    {
+      int currentContextState = getContextState();
+      if (contextState == null || contextState != currentContextState)
+      {
+         contextState = currentContextState;
+         markDirty(0);
+      }
+      if (!isFlowDirty())
+      {
+         return;
+      }
       try
       {
          initialize();
@@ -106,6 +126,11 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
       }
       cleanSubsequentStalePages();
       this.flowPointer = currentFlowPointer;
+      for (WizardStepEntry entry : flow)
+      {
+         track(entry);
+         entry.dirty = false;
+      }
    }
 
    @Override
@@ -154,7 +179,7 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
                results.add(currentResult);
                firePostCommandExecuted(executionContext, listeners, command, currentResult);
             }
-            catch (Exception e)
+            catch (Exception | Error e)
             {
                firePostCommandFailure(executionContext, listeners, command, e);
                throw e;
@@ -279,9 +304,18 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
    public void close() throws Exception
    {
       context.close();
+      for (WizardStepEntry entry : flow)
+      {
+         entry.untrack();
+      }
+      for (WizardStepEntry entry : subflow)
+      {
+         entry.untrack();
+      }
       subflow.clear();
       flow.clear();
       usedSubflows.clear();
+      contextState = null;
    }
 
    @Override
@@ -311,18 +345,21 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
       refreshFlow();
       for (WizardStepEntry entry : flow)
       {
-         if (!entry.controller.canExecute())
+         if (!isValid(entry))
          {
             return false;
          }
       }
 
       // Checking if there is any next page left
-      CommandController lastController = flow.get(flow.size() - 1).controller;
-      if (lastController.isInitialized())
+      WizardStepEntry lastEntry = flow.get(flow.size() - 1);
+      if (lastEntry.controller.isInitialized())
       {
-         NavigationResultEntry[] next = getNextFrom(flow.get(flow.size() - 1).controller.getCommand());
-         if (next != null || !subflow.isEmpty())
+         if (lastEntry.last == null)
+         {
+            lastEntry.last = getNextFrom(lastEntry.controller.getCommand()) == null;
+         }
+         if (!lastEntry.last || !subflow.isEmpty())
          {
             return false;
          }
@@ -343,6 +380,12 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
 
       WizardStepEntry currentEntry = getCurrentEntry();
       WizardStepEntry nextEntry = getNextEntry();
+      if (nextEntry != null && !currentEntry.dirty)
+      {
+         // Nothing changed up to this step, so the next step is still the same
+         flowPointer++;
+         return this;
+      }
       NavigationResultEntry[] result = getNextFrom(currentEntry.controller.getCommand());
       if (nextEntry == null)
       {
@@ -393,6 +436,7 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
             }
          }
       }
+      currentEntry.dirty = false;
       flowPointer++;
       return this;
    }
@@ -521,6 +565,110 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
       return new WizardStepEntry(controller, subflowHead);
    }
 
+   /**
+    * Returns a hash of the {@link UIContext} attributes and the current selection, as
+    * {@link UIWizard#next(org.jboss.forge.addon.ui.context.UINavigationContext)} and the validation of the steps may
+    * depend on any of them. Attribute values changed in place are noticed as long as their hash code follows their
+    * contents
+    */
+   private int getContextState()
+   {
+      int state = context.getAttributeMap().hashCode();
+      UISelection<Object> selection = context.getSelection();
+      if (selection != null)
+      {
+         for (Object item : selection)
+         {
+            state = 31 * state + (item == null ? 0 : item.hashCode());
+         }
+      }
+      return state;
+   }
+
+   /**
+    * Listens for changes in the inputs of the given step once it is initialized
+    */
+   private void track(final WizardStepEntry entry)
+   {
+      if (entry.registrations == null && entry.controller.isInitialized())
+      {
+         entry.registrations = new ArrayList<>();
+         for (InputComponent<?, ?> input : entry.controller.getInputs().values())
+         {
+            entry.registrations.add(input.addValueChangeListener(new ValueChangeListener()
+            {
+               @Override
+               public void valueChanged(ValueChangeEvent event)
+               {
+                  markDirty(entry);
+               }
+            }));
+         }
+         entry.dirty = true;
+         entry.valid = null;
+         entry.last = null;
+      }
+   }
+
+   /**
+    * Marks the given step and the steps after it as dirty
+    */
+   private void markDirty(WizardStepEntry entry)
+   {
+      for (int i = 0; i < flow.size(); i++)
+      {
+         if (flow.get(i) == entry)
+         {
+            markDirty(i);
+            return;
+         }
+      }
+      // Not part of the flow anymore, it is checked again if it comes back
+      entry.dirty = true;
+      entry.valid = null;
+      entry.last = null;
+   }
+
+   private void markDirty(int fromIndex)
+   {
+      for (int i = fromIndex; i < flow.size(); i++)
+      {
+         WizardStepEntry entry = flow.get(i);
+         entry.dirty = true;
+         entry.valid = null;
+         entry.last = null;
+      }
+   }
+
+   private boolean isFlowDirty()
+   {
+      for (WizardStepEntry entry : flow)
+      {
+         if (entry.dirty || entry.registrations == null)
+         {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   /**
+    * Returns the validity of the given step, cached while the step and the ones before it are unchanged
+    */
+   private boolean isValid(WizardStepEntry entry)
+   {
+      if (entry.valid != null)
+      {
+         return entry.valid;
+      }
+      boolean valid = entry.controller.canExecute();
+      if (entry.registrations != null)
+      {
+         entry.valid = valid;
+      }
+      return valid;
+   }
+
    private NavigationResultEntry[] getNextFrom(UICommand command)
    {
       NavigationResultEntry[] result = null;
@@ -550,6 +698,13 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
       NavigationResultEntry[] next;
       // If this entry starts a subflow
       final boolean subflowHead;
+      // If an input of this step or of a step before it changed since its next step was computed
+      boolean dirty = true;
+      // The cached validity of this step and whether it has no next step, null when unknown
+      Boolean valid;
+      Boolean last;
+      // The listeners on the inputs of this step, null until the step is initialized
+      List<ListenerRegistration<ValueChangeListener>> registrations;
 
       public WizardStepEntry(CommandController controller, boolean subflowHead)
       {
@@ -557,6 +712,18 @@ class WizardCommandControllerImpl extends AbstractCommandController implements W
          this.subflowHead = subflowHead;
       }
 
+      void untrack()
+      {
+         if (registrations != null)
+         {
+            for (ListenerRegistration<ValueChangeListener> registration : registrations)
+            {
+               registration.removeListener();
+            }
+            registrations = null;
+         }
+      }
+
       @Override
       public int hashCode()
       {
@@ -0,0 +1,113 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.ui.impl.annotation;
+
+import java.lang.reflect.Method;
+
+import org.jboss.forge.addon.ui.annotation.Command;
+import org.jboss.forge.addon.ui.annotation.Option;
+import org.jboss.forge.addon.ui.context.UIExecutionContext;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test class for {@link AnnotatedCommandMethod}
+ */
+public class AnnotatedCommandMethodTest
+{
+   @Test
+   public void testParameterMapping() throws Exception
+   {
+      AnnotatedCommandMethod commandMethod = create("greet");
+      Assert.assertEquals(4, commandMethod.getParameterCount());
+      Assert.assertEquals(2, commandMethod.getInputCount());
+
+      Assert.assertTrue(commandMethod.isReservedParameter(0));
+      Assert.assertEquals(-1, commandMethod.getInputIndex(0));
+      Assert.assertEquals(0, commandMethod.getInputIndex(1));
+      Assert.assertEquals(-1, commandMethod.getInputIndex(2));
+      Assert.assertEquals(1, commandMethod.getInputIndex(3));
+
+      Assert.assertEquals("name", commandMethod.getOption(0).value());
+      Assert.assertEquals(1, commandMethod.getParameterPosition(0));
+      Assert.assertEquals(3, commandMethod.getParameterPosition(1));
+   }
+
+   @Test
+   public void testInvoke() throws Exception
+   {
+      AnnotatedCommandMethod commandMethod = create("greet");
+      Assert.assertEquals("Hello, George!",
+               commandMethod.invoke(new MockCommands(), new Object[] { null, "George", null, "!" }));
+      Assert.assertNull(create("nothing").invoke(new MockCommands(), new Object[0]));
+   }
+
+   @Test
+   public void testInvokeOnDifferentInstances() throws Exception
+   {
+      AnnotatedCommandMethod commandMethod = create("greet");
+      MockCommands first = new MockCommands();
+      MockCommands second = new MockCommands();
+      second.greeting = "Bye";
+      Assert.assertEquals("Hello, George!", commandMethod.invoke(first, new Object[] { null, "George", null, "!" }));
+      Assert.assertEquals("Bye, George!", commandMethod.invoke(second, new Object[] { null, "George", null, "!" }));
+   }
+
+   @Test
+   public void testInvokeStatic() throws Exception
+   {
+      Assert.assertEquals("static", create("staticCommand").invoke(null, new Object[0]));
+   }
+
+   @Test(expected = IllegalStateException.class)
+   public void testInvokePropagatesExceptions() throws Exception
+   {
+      create("fail").invoke(new MockCommands(), new Object[0]);
+   }
+
+   private AnnotatedCommandMethod create(String name) throws Exception
+   {
+      for (Method method : MockCommands.class.getMethods())
+      {
+         if (method.getName().equals(name))
+         {
+            return new AnnotatedCommandMethod(method);
+         }
+      }
+      throw new IllegalArgumentException(name);
+   }
+
+   public static class MockCommands
+   {
+      private String greeting = "Hello";
+
+      @Command("greet")
+      public String greet(UIExecutionContext context, @Option("name") String name, String ignored,
+               @Option("suffix") String suffix)
+      {
+         return greeting + ", " + name + suffix;
+      }
+
+      @Command("staticCommand")
+      public static String staticCommand()
+      {
+         return "static";
+      }
+
+      @Command("nothing")
+      public void nothing()
+      {
+      }
+
+      @Command("fail")
+      public void fail()
+      {
+         throw new IllegalStateException("Expected");
+      }
+   }
+}
@@ -9,12 +9,16 @@ package org.jboss.forge.addon.ui.controller;
 
 import static org.hamcrest.CoreMatchers.*;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.inject.Inject;
 
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.forge.addon.ui.controller.mock.ContextAttributeWizard;
+import org.jboss.forge.addon.ui.controller.mock.FlowExampleStep;
+import org.jboss.forge.addon.ui.controller.mock.FlowExampleWizard;
 import org.jboss.forge.addon.ui.example.wizards.ChangesInputOneWizard;
 import org.jboss.forge.addon.ui.example.wizards.ExampleStepOne;
 import org.jboss.forge.addon.ui.example.wizards.ExampleStepTwo;
@@ -55,6 +59,7 @@ public class WizardCommandControllerTest
       AddonArchive archive = ShrinkWrap
                .create(AddonArchive.class)
                .addBeansXML()
+               .addClasses(ContextAttributeWizard.class, FlowExampleWizard.class, FlowExampleStep.class)
                .addAsAddonDependencies(
                         AddonDependencyEntry.create("org.jboss.forge.addon:ui-test-harness"),
                         AddonDependencyEntry.create("org.jboss.forge.addon:ui-example"),
@@ -259,4 +264,64 @@ public class WizardCommandControllerTest
          Assert.assertEquals("Goodbye, Gastaldi", nestedResult.getResults().get(1).getMessage());
       }
    }
+
+   @Test
+   public void testValidityFollowsContextChanges() throws Exception
+   {
+      try (WizardCommandController controller = testHarness.createWizardController(ContextAttributeWizard.class))
+      {
+         controller.initialize();
+         controller.setValueFor("name", "Forge");
+         Assert.assertTrue(controller.canExecute());
+         controller.getContext().getAttributeMap().put(ContextAttributeWizard.INVALID, Boolean.TRUE);
+         Assert.assertFalse("Validity must not be cached while inputs are unchanged", controller.canExecute());
+         controller.getContext().getAttributeMap().remove(ContextAttributeWizard.INVALID);
+         Assert.assertTrue(controller.canExecute());
+      }
+   }
+
+   @Test
+   public void testValidityFollowsContextValuesChangedInPlace() throws Exception
+   {
+      try (WizardCommandController controller = testHarness.createWizardController(ContextAttributeWizard.class))
+      {
+         controller.initialize();
+         controller.setValueFor("name", "Forge");
+         List<String> errors = new ArrayList<>();
+         controller.getContext().getAttributeMap().put(ContextAttributeWizard.INVALID, errors);
+         Assert.assertTrue(controller.canExecute());
+         errors.add("error");
+         Assert.assertFalse("Attribute values changed in place must be noticed", controller.canExecute());
+      }
+   }
+
+   @Test
+   public void testFlowFollowsContextChanges() throws Exception
+   {
+      try (WizardCommandController controller = testHarness.createWizardController(ContextAttributeWizard.class))
+      {
+         controller.initialize();
+         controller.setValueFor("name", "Forge");
+         Assert.assertTrue(controller.canExecute());
+         controller.getContext().getAttributeMap().put(ContextAttributeWizard.HAS_NEXT, Boolean.TRUE);
+         Assert.assertFalse("The flow must be refreshed when the context changes", controller.canExecute());
+         Assert.assertTrue(controller.canMoveToNextStep());
+         controller.next().initialize();
+         Assert.assertThat(controller.getCommand(), is(instanceOf(FlowExampleStep.class)));
+      }
+   }
+
+   @Test
+   public void testFlowFollowsInputChanges() throws Exception
+   {
+      try (WizardCommandController controller = testHarness.createWizardController(FlowExampleWizard.class))
+      {
+         controller.initialize();
+         controller.setValueFor("hasNext", Boolean.TRUE);
+         Assert.assertFalse(controller.canExecute());
+         Assert.assertFalse("Unchanged inputs must give the same answer", controller.canExecute());
+         controller.setValueFor("hasNext", Boolean.FALSE);
+         Assert.assertTrue(controller.canExecute());
+      }
+   }
 }
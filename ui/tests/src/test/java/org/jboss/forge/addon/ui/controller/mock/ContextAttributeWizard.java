@@ -0,0 +1,68 @@
+/**
+ * Copyright 2015 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Eclipse Public License version 1.0, available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.jboss.forge.addon.ui.controller.mock;
+
+import java.util.Collection;
+
+import javax.inject.Inject;
+
+import org.jboss.forge.addon.ui.command.AbstractUICommand;
+import org.jboss.forge.addon.ui.context.UIBuilder;
+import org.jboss.forge.addon.ui.context.UIExecutionContext;
+import org.jboss.forge.addon.ui.context.UINavigationContext;
+import org.jboss.forge.addon.ui.context.UIValidationContext;
+import org.jboss.forge.addon.ui.input.UIInput;
+import org.jboss.forge.addon.ui.result.NavigationResult;
+import org.jboss.forge.addon.ui.result.Result;
+import org.jboss.forge.addon.ui.result.Results;
+import org.jboss.forge.addon.ui.wizard.UIWizard;
+
+/**
+ * A wizard whose validation and next step depend on {@link org.jboss.forge.addon.ui.context.UIContext} attributes
+ * instead of its inputs
+ */
+public class ContextAttributeWizard extends AbstractUICommand implements UIWizard
+{
+   public static final String INVALID = "invalid";
+   public static final String HAS_NEXT = "hasNext";
+
+   @Inject
+   private UIInput<String> name;
+
+   @Override
+   public void initializeUI(UIBuilder builder) throws Exception
+   {
+      builder.add(name);
+   }
+
+   @Override
+   public void validate(UIValidationContext validator)
+   {
+      Object invalid = validator.getUIContext().getAttributeMap().get(INVALID);
+      if (invalid instanceof Collection ? !((Collection<?>) invalid).isEmpty() : invalid != null)
+      {
+         validator.addValidationError(name, "Invalid context");
+      }
+   }
+
+   @Override
+   public Result execute(UIExecutionContext context) throws Exception
+   {
+      return Results.success();
+   }
+
+   @Override
+   public NavigationResult next(UINavigationContext context) throws Exception
+   {
+      if (context.getUIContext().getAttributeMap().containsKey(HAS_NEXT))
+      {
+         return Results.navigateTo(FlowExampleStep.class);
+      }
+      return null;
+   }
+}